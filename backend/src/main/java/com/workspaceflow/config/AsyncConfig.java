@@ -0,0 +1,13 @@
+package com.workspaceflow.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables asynchronous startup work such as index creation, so the application
+ * starts even while the database is unreachable
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
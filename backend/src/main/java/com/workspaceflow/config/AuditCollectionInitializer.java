@@ -0,0 +1,114 @@
+package com.workspaceflow.config;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.TimeSeriesGranularity;
+import com.mongodb.client.model.TimeSeriesOptions;
+import com.workspaceflow.model.entity.AuditEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prepares the audit_events collection.
+ *
+ * When {@code workspaceflow.audit.time-series.enabled} is set, the collection is
+ * created as a time-series collection (timeField {@code timestamp}, metaField
+ * {@code meta}) with automatic expiry. An existing regular collection is left
+ * untouched since MongoDB cannot convert it in place.
+ *
+ * Once the application is ready, audit events stored before the entity moved
+ * under {@code meta} are migrated and the lookup index is created.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditCollectionInitializer {
+
+    private static final String COLLECTION = "audit_events";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${workspaceflow.audit.time-series.enabled:false}")
+    private boolean timeSeriesEnabled;
+
+    @Value("${workspaceflow.audit.time-series.expire-after:365d}")
+    private Duration expireAfter;
+
+    /**
+     * Only touches the database when time-series storage is enabled: the collection has to
+     * exist before the first audit event creates a regular one
+     */
+    @PostConstruct
+    public void initialize() {
+        if (timeSeriesEnabled) {
+            createTimeSeriesCollection();
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        try {
+            migrateFlatEntityFields();
+
+            // Entity + time-window lookups for the audit UI
+            mongoTemplate.indexOps(AuditEvent.class).ensureIndex(new Index()
+                    .on("meta.entityType", Sort.Direction.ASC)
+                    .on("meta.entityId", Sort.Direction.ASC)
+                    .on("timestamp", Sort.Direction.ASC)
+                    .named("meta_entity_timestamp"));
+        } catch (RuntimeException e) {
+            log.warn("Could not prepare {}, retrying on the next start: {}", COLLECTION, e.getMessage());
+        }
+    }
+
+    /**
+     * Events written before the entity moved under {@code meta} keep entityType/entityId at the
+     * top level, where the audit queries no longer look; move them under {@code meta}
+     */
+    void migrateFlatEntityFields() {
+        Document flat = new Document("meta", new Document("$exists", false))
+                .append("entityId", new Document("$exists", true));
+        MongoCollection<Document> collection = mongoTemplate.getCollection(COLLECTION);
+        if (collection.find(flat).limit(1).first() == null) {
+            return;
+        }
+
+        long migrated = collection.updateMany(flat, List.of(
+                new Document("$set", new Document("meta", new Document("entityType", "$entityType")
+                        .append("entityId", "$entityId"))),
+                new Document("$unset", List.of("entityType", "entityId")))).getModifiedCount();
+        log.info("Moved the entity of {} {} documents under meta", migrated, COLLECTION);
+    }
+
+    private void createTimeSeriesCollection() {
+        if (mongoTemplate.collectionExists(COLLECTION)) {
+            log.warn("Collection {} already exists; time-series storage only applies to a new collection", COLLECTION);
+            return;
+        }
+
+        TimeSeriesOptions timeSeriesOptions = new TimeSeriesOptions("timestamp")
+                .metaField("meta")
+                .granularity(TimeSeriesGranularity.SECONDS);
+
+        mongoTemplate.getDb().createCollection(COLLECTION, new CreateCollectionOptions()
+                .timeSeriesOptions(timeSeriesOptions)
+                .expireAfter(expireAfter.toSeconds(), TimeUnit.SECONDS));
+
+        log.info("Created time-series collection {} with expiry of {}", COLLECTION, expireAfter);
+    }
+}
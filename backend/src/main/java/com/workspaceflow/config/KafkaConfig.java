@@ -1,8 +1,19 @@
 package com.workspaceflow.config;
 
+import com.workspaceflow.event.EventEnvelope;
+import com.workspaceflow.event.EventHeaders;
+import com.workspaceflow.event.EventHeadersInterceptor;
+import com.workspaceflow.event.serialization.BinaryEventCodec;
+import com.workspaceflow.event.serialization.EventSerializer;
+import com.workspaceflow.event.serialization.HeaderFilter;
+import com.workspaceflow.event.serialization.HeaderFilteringConsumerFactory;
+import com.workspaceflow.event.serialization.LocalSchemaRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,15 +22,16 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.DefaultErrorHandler;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * Kafka configuration with retry and DLT support
+ * Kafka producer, consumer and listener container configuration
  */
 @Slf4j
 @Configuration
@@ -31,11 +43,99 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${workspaceflow.kafka.producer.profile:default}")
+    private String producerProfile;
+
+    @Value("${workspaceflow.kafka.serialization:json}")
+    private String serialization;
+
+    @Value("${workspaceflow.tenant:default}")
+    private String tenant;
+
+    @Value("${workspaceflow.kafka.exactly-once:false}")
+    private boolean exactlyOnce;
+
+    @Value("${workspaceflow.kafka.transaction-id-prefix:workspaceflow-tx-}")
+    private String transactionIdPrefix;
+
     /**
-     * Producer configuration
+     * In in-process mode events never reach Kafka, so no broker is contacted at startup
+     */
+    @Value("${workspaceflow.events.mode:direct}")
+    private String eventsMode;
+
+    @Value("${workspaceflow.kafka.producer.linger-ms:#{null}}")
+    private Integer lingerMs;
+
+    @Value("${workspaceflow.kafka.producer.batch-size:#{null}}")
+    private Integer batchSize;
+
+    @Value("${workspaceflow.kafka.producer.compression-type:#{null}}")
+    private String compressionType;
+
+    @Value("${workspaceflow.kafka.producer.buffer-memory:#{null}}")
+    private Long bufferMemory;
+
+    @Value("${workspaceflow.kafka.producer.max-in-flight:#{null}}")
+    private Integer maxInFlight;
+
+    @Value("${workspaceflow.kafka.producer.max-block-ms:#{null}}")
+    private Long maxBlockMs;
+
+    /**
+     * Producer configuration: the selected batching profile plus individual overrides
      */
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
+        Map<String, Object> config = producerProperties(bootstrapServers, KafkaProducerProfile.of(producerProfile));
+        putIfSet(config, ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        putIfSet(config, ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        putIfSet(config, ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        putIfSet(config, ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+        putIfSet(config, ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlight);
+        putIfSet(config, ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
+        config.put(EventHeaders.TENANT_CONFIG, tenant);
+        log.info("Kafka producer profile {}: linger.ms={}, batch.size={}, compression.type={}",
+                producerProfile, config.get(ProducerConfig.LINGER_MS_CONFIG),
+                config.get(ProducerConfig.BATCH_SIZE_CONFIG), config.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+        // Raw bytes (records republished to the retry and dead letter topics) are sent unchanged
+        Map<Class<?>, Serializer<?>> valueSerializers = new LinkedHashMap<>();
+        valueSerializers.put(byte[].class, new ByteArraySerializer());
+        valueSerializers.put(Object.class, "binary".equals(serialization)
+                ? new EventSerializer(binaryEventCodec())
+                : new JsonSerializer<>());
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(config,
+                new StringSerializer(), new DelegatingByTypeSerializer(valueSerializers, true));
+        if (exactlyOnce) {
+            // Must be unique per running instance for producer fencing
+            factory.setTransactionIdPrefix(transactionIdPrefix);
+            log.info("Kafka exactly-once mode: transactional producer, read_committed consumers");
+        }
+        return factory;
+    }
+
+    /**
+     * Creates the topics at startup, except in in-process mode
+     */
+    @Bean
+    public KafkaAdmin kafkaAdmin() {
+        KafkaAdmin admin = new KafkaAdmin(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers));
+        admin.setAutoCreate(!isInProcessMode());
+        return admin;
+    }
+
+    /**
+     * Binary event format; consumers always read it so producers can be switched one node at a time
+     */
+    @Bean
+    public BinaryEventCodec binaryEventCodec() {
+        return new BinaryEventCodec(new LocalSchemaRegistry());
+    }
+
+    /**
+     * Base producer properties for a profile, shared with the producer benchmark
+     */
+    public static Map<String, Object> producerProperties(String bootstrapServers, KafkaProducerProfile profile) {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
@@ -43,16 +143,35 @@ public class KafkaConfig {
         config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         config.put(ProducerConfig.ACKS_CONFIG, "all");
         config.put(ProducerConfig.RETRIES_CONFIG, 3);
-        return new DefaultKafkaProducerFactory<>(config);
+        config.put(ProducerConfig.INTERCEPTOR_CLASSES_CONFIG, EventHeadersInterceptor.class.getName());
+        profile.applyTo(config);
+        return config;
     }
 
+    private boolean isInProcessMode() {
+        return "in-process".equals(eventsMode);
+    }
+
+    private static void putIfSet(Map<String, Object> config, String key, Object value) {
+        if (value != null) {
+            config.put(key, value);
+        }
+    }
+
+    /**
+     * In exactly-once mode the template is transactional: EventTransactionScope, EventProducer and
+     * OutboxRelay open transactions, while retry and dead letter publishing stay non-transactional
+     */
     @Bean
     public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        KafkaTemplate<String, Object> template = new KafkaTemplate<>(producerFactory());
+        template.setAllowNonTransactional(exactlyOnce);
+        return template;
     }
 
     /**
-     * Consumer configuration
+     * Consumer configuration: values may be binary or JSON records; records of other tenants
+     * and of types a listener filters out are not deserialized
      */
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
@@ -60,36 +179,32 @@ public class KafkaConfig {
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        config.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, "java.util.Map");
-        return new DefaultKafkaConsumerFactory<>(config);
+        if (exactlyOnce) {
+            // Skip records of aborted transactions
+            config.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        }
+        config.put(HeaderFilter.TENANT_CONFIG, tenant);
+        return new HeaderFilteringConsumerFactory(config, binaryEventCodec());
     }
 
     /**
-     * Kafka listener container factory with error handling and retry
+     * Kafka listener container factory. Retries for the event topics run on retry topics
+     * (see KafkaRetryConfig); failures in any other listener go straight to the dead letter topic.
+     * Records dropped by the header filter never reach a listener; their offsets are committed.
      */
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.setConcurrency(3);
-
-        // Configure error handler with retry and DLT
-        DefaultErrorHandler errorHandler = new DefaultErrorHandler(
-                (record, exception) -> {
-                    // Send to dead letter topic
-                    log.error("Message processing failed after retries. Sending to DLT. Record: {}", record, exception);
-                    kafkaTemplate().send(KafkaTopicConfig.DEADLETTER_EVENTS,
-                            (String) record.key(), record.value());
-                },
-                new FixedBackOff(1000L, 3L) // 3 retries with 1 second interval
-        );
-
-        factory.setCommonErrorHandler(errorHandler);
-
+        // The in-process bus delivers to the listener beans directly; their containers stay stopped
+        factory.setAutoStartup(!isInProcessMode());
+        factory.setRecordFilterStrategy(record -> record.value() instanceof EventEnvelope envelope && envelope.dropped());
+        factory.setAckDiscarded(true);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                new RawEventDeadLetterPublishingRecoverer(kafkaTemplate(), (record, exception) -> KafkaRetryConfig.deadLetter()),
+                new FixedBackOff(0L, 0L)));
         return factory;
     }
 }
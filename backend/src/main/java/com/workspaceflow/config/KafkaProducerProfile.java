@@ -0,0 +1,60 @@
+package com.workspaceflow.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Producer batching presets, selected with {@code workspaceflow.kafka.producer.profile}.
+ * Each setting can still be overridden individually (see {@link KafkaConfig}).
+ * Compare them with {@code KafkaProducerProfileBenchmark} before changing the default.
+ */
+public enum KafkaProducerProfile {
+
+    /**
+     * Kafka client defaults: every send goes out immediately, uncompressed.
+     * The default profile; the others are opt-in
+     */
+    DEFAULT(0, 16_384, "none", 32L * 1024 * 1024, 5),
+
+    /**
+     * Short linger and zstd: small latency cost, far fewer and smaller requests
+     */
+    BALANCED(5, 64 * 1024, "zstd", 32L * 1024 * 1024, 5),
+
+    /**
+     * Large batches for bulk traffic (outbox relay, replays)
+     */
+    THROUGHPUT(20, 256 * 1024, "zstd", 64L * 1024 * 1024, 5);
+
+    private final int lingerMs;
+    private final int batchSize;
+    private final String compressionType;
+    private final long bufferMemory;
+    private final int maxInFlight;
+
+    KafkaProducerProfile(int lingerMs, int batchSize, String compressionType, long bufferMemory, int maxInFlight) {
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+        this.compressionType = compressionType;
+        this.bufferMemory = bufferMemory;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Parse a profile name such as {@code balanced}
+     */
+    public static KafkaProducerProfile of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    public void applyTo(Map<String, Object> config) {
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        config.put(ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+        // At most 5 keeps ordering per partition with idempotence enabled
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlight);
+    }
+}
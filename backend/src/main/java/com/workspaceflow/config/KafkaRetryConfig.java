@@ -0,0 +1,86 @@
+package com.workspaceflow.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.DeadLetterPublishingRecovererFactory;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationSupport;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking retries: a failed record is republished at once to a delayed retry topic
+ * (workflow.events-retry-1000, -retry-10000, -retry-60000 with the defaults) so the main
+ * partition keeps flowing. Records that exhaust their attempts, or fail with a non-retryable
+ * exception, go to deadletter.events with the kafka_dlt-* failure headers.
+ */
+@Slf4j
+@Configuration
+public class KafkaRetryConfig extends RetryTopicConfigurationSupport {
+
+    /**
+     * Topics whose listeners get retries; failures elsewhere are dead-lettered at once
+     */
+    public static final List<String> RETRIED_TOPICS = List.of(KafkaTopicConfig.WORKFLOW_EVENTS,
+            KafkaTopicConfig.TASK_EVENTS, KafkaTopicConfig.AUDIT_EVENTS);
+
+    @Value("${workspaceflow.kafka.retry.attempts:4}")
+    private int attempts;
+
+    @Value("${workspaceflow.kafka.retry.initial-interval:PT1S}")
+    private Duration initialInterval;
+
+    @Value("${workspaceflow.kafka.retry.multiplier:10}")
+    private double multiplier;
+
+    @Value("${workspaceflow.kafka.retry.max-interval:PT1M}")
+    private Duration maxInterval;
+
+    @Bean
+    public RetryTopicConfiguration eventRetryTopics(KafkaTemplate<String, Object> kafkaTemplate) {
+        log.info("Kafka retry topics: {} attempts, {} x{} up to {}", attempts, initialInterval, multiplier, maxInterval);
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopics(RETRIED_TOPICS)
+                .maxAttempts(attempts)
+                .exponentialBackoff(initialInterval.toMillis(), multiplier, maxInterval.toMillis())
+                .setTopicSuffixingStrategy(TopicSuffixingStrategy.SUFFIX_WITH_DELAY_VALUE)
+                .autoCreateTopics(true, 3, (short) 1)
+                .listenerFactory("kafkaListenerContainerFactory")
+                // Exhausted records go to the shared dead letter topic instead of a <topic>-dlt per topic
+                .doNotConfigureDlt()
+                .create(kafkaTemplate);
+    }
+
+    /**
+     * Without a per-topic DLT the resolver returns no destination once attempts are exhausted;
+     * publish those records to deadletter.events
+     */
+    @Override
+    protected Consumer<DeadLetterPublishingRecovererFactory> configureDeadLetterPublishingContainerFactory() {
+        return factory -> factory.setDeadLetterPublisherCreator((templateResolver, destinationResolver) ->
+                new RawEventDeadLetterPublishingRecoverer(templateResolver, (record, exception) -> {
+                    TopicPartition destination = destinationResolver.apply(record, exception);
+                    if (destination != null) {
+                        return destination;
+                    }
+                    log.error("Event from {} failed after retries, sending to {}", record.topic(),
+                            KafkaTopicConfig.DEADLETTER_EVENTS, exception);
+                    return deadLetter();
+                }));
+    }
+
+    /**
+     * Any partition of the dead letter topic; the producer picks it from the record key
+     */
+    static TopicPartition deadLetter() {
+        return new TopicPartition(KafkaTopicConfig.DEADLETTER_EVENTS, -1);
+    }
+}
@@ -0,0 +1,35 @@
+package com.workspaceflow.config;
+
+import com.workspaceflow.monitoring.MongoCommandMetricsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+
+/**
+ * Registers the Mongo command metrics listener with the driver. It replaces
+ * Spring Boot's default command metrics (disabled in application.yml), adding the
+ * repository method tag and the slow-command log.
+ */
+@Configuration
+public class MongoMetricsConfig {
+
+    @Bean
+    public MongoCommandMetricsListener mongoCommandMetricsListener(
+            MeterRegistry meterRegistry,
+            ObjectProvider<MongoTemplate> mongoTemplate,
+            @Value("${workspaceflow.mongo.slow-command-threshold:PT0.1S}") Duration slowThreshold,
+            @Value("${workspaceflow.mongo.explain-interval:PT5M}") Duration explainInterval) {
+        return new MongoCommandMetricsListener(meterRegistry, mongoTemplate, slowThreshold, explainInterval);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandMetricsCustomizer(MongoCommandMetricsListener listener) {
+        return builder -> builder.addCommandListener(listener);
+    }
+}
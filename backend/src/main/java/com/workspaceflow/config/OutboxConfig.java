@@ -0,0 +1,23 @@
+package com.workspaceflow.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+/**
+ * Transactional outbox mode: entity changes and their events are committed in
+ * one Mongo transaction (requires a replica set). Registering the transaction
+ * manager is what activates the {@code @Transactional} service methods; in the
+ * default direct mode there is no transaction manager and they run as before.
+ */
+@Configuration
+@ConditionalOnProperty(name = "workspaceflow.events.mode", havingValue = "outbox")
+public class OutboxConfig {
+
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+}
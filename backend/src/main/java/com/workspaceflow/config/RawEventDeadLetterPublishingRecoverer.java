@@ -0,0 +1,39 @@
+package com.workspaceflow.config;
+
+import com.workspaceflow.event.EventEnvelope;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Publishes failed records to the retry and dead letter topics with their original bytes.
+ * A routed record's value is only its {@link EventEnvelope}; republishing that would replace
+ * the event with the envelope's JSON, so the envelope's raw data is sent instead.
+ */
+public class RawEventDeadLetterPublishingRecoverer extends DeadLetterPublishingRecoverer {
+
+    public RawEventDeadLetterPublishingRecoverer(KafkaOperations<?, ?> template,
+            BiFunction<ConsumerRecord<?, ?>, Exception, TopicPartition> destinationResolver) {
+        super(template, destinationResolver);
+    }
+
+    public RawEventDeadLetterPublishingRecoverer(Function<ProducerRecord<?, ?>, KafkaOperations<?, ?>> templateResolver,
+            BiFunction<ConsumerRecord<?, ?>, Exception, TopicPartition> destinationResolver) {
+        super(templateResolver, destinationResolver);
+    }
+
+    @Override
+    protected ProducerRecord<Object, Object> createProducerRecord(ConsumerRecord<?, ?> record,
+            TopicPartition topicPartition, Headers headers, byte[] key, byte[] value) {
+        if (value == null && record.value() instanceof EventEnvelope envelope) {
+            value = envelope.data();
+        }
+        return super.createProducerRecord(record, topicPartition, headers, key, value);
+    }
+}
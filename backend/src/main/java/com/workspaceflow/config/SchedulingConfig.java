@@ -0,0 +1,12 @@
+package com.workspaceflow.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs (counter reconciliation, etc.)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,68 @@
+package com.workspaceflow.config;
+
+import com.mongodb.MongoCommandException;
+import com.workspaceflow.model.entity.AuditEvent;
+import com.workspaceflow.model.entity.InstanceEvent;
+import com.workspaceflow.model.entity.Task;
+import com.workspaceflow.model.entity.WorkflowInstance;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Shards the high-volume collections on the keys declared with {@code @Sharded}
+ * on their entities, when running against a mongos router:
+ * <ul>
+ *   <li>tasks: hashed workflowInstanceId</li>
+ *   <li>workflow_instances: hashed _id</li>
+ *   <li>audit_events: hashed meta.entityId</li>
+ *   <li>instance_events: hashed instanceId</li>
+ * </ul>
+ * workflow_definitions and the small bookkeeping collections stay unsharded on
+ * the primary shard. Runs after {@link AuditCollectionInitializer} so a
+ * time-series audit collection exists before it is sharded.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("auditCollectionInitializer")
+@ConditionalOnProperty(name = "workspaceflow.sharding.enabled", havingValue = "true")
+public class ShardingInitializer {
+
+    static final List<Class<?>> SHARDED_ENTITIES = List.of(Task.class, WorkflowInstance.class, AuditEvent.class,
+            InstanceEvent.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void shardCollections() {
+        String database = mongoTemplate.getDb().getName();
+        runAdminCommand(new Document("enableSharding", database));
+
+        for (Class<?> type : SHARDED_ENTITIES) {
+            MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+                    .getRequiredPersistentEntity(type);
+            Document key = entity.getShardKey().getDocument();
+            // Idempotent when the collection is already sharded on the same key
+            runAdminCommand(new Document("shardCollection", database + "." + entity.getCollection())
+                    .append("key", key));
+            log.info("Collection {} sharded on {}", entity.getCollection(), key.toJson());
+        }
+    }
+
+    private void runAdminCommand(Document command) {
+        try {
+            mongoTemplate.getMongoDatabaseFactory().getMongoDatabase("admin").runCommand(command);
+        } catch (MongoCommandException e) {
+            throw new IllegalStateException("Sharding command failed: " + command.toJson(), e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.workspaceflow.config;
+
+import com.workspaceflow.model.entity.Task;
+import com.workspaceflow.model.entity.WorkflowDefinition;
+import com.workspaceflow.model.entity.WorkflowInstance;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Initializes the optimistic locking version of documents written before the
+ * entities had a {@code @Version} field. Spring Data treats an entity with a
+ * null version as new and would insert it again instead of updating it.
+ * <p>
+ * Runs in an early lifecycle phase, before the web server and the Kafka
+ * listeners start. When the database cannot be reached the application still
+ * starts, and the backfill is retried every retry-interval until it succeeds.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VersionFieldInitializer implements SmartLifecycle {
+
+    private static final List<Class<?>> VERSIONED_ENTITIES =
+            List.of(Task.class, WorkflowInstance.class, WorkflowDefinition.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${workspaceflow.optimistic-lock.backfill-retry-interval:PT5S}")
+    private Duration retryInterval = Duration.ofSeconds(5);
+
+    private ScheduledExecutorService retries;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+        if (initialize()) {
+            return;
+        }
+        retries = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "version-backfill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        retries.scheduleWithFixedDelay(() -> {
+            if (initialize()) {
+                retries.shutdown();
+            }
+        }, retryInterval.toMillis(), retryInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Set version 0 where it is missing; false if a collection could not be updated
+     */
+    boolean initialize() {
+        for (Class<?> type : VERSIONED_ENTITIES) {
+            try {
+                long updated = mongoTemplate.updateMulti(
+                        Query.query(Criteria.where("version").exists(false)),
+                        new Update().set("version", 0L),
+                        type).getModifiedCount();
+                if (updated > 0) {
+                    log.info("Initialized version of {} {} documents", updated, mongoTemplate.getCollectionName(type));
+                }
+            } catch (RuntimeException e) {
+                log.error("Could not initialize the version of {} documents, retrying in {}: {}",
+                        mongoTemplate.getCollectionName(type), retryInterval, e.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (retries != null) {
+            retries.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Before the web server (DEFAULT_PHASE - 2048) and the listener containers (DEFAULT_PHASE - 100)
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+}
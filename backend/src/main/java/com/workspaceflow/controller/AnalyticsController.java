@@ -0,0 +1,49 @@
+package com.workspaceflow.controller;
+
+import com.workspaceflow.model.dto.InstanceEtaResponse;
+import com.workspaceflow.model.dto.StepDurationStatsResponse;
+import com.workspaceflow.service.StepAnalyticsService;
+import com.workspaceflow.service.StepSketchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * REST Controller for process analytics
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "Process analytics endpoints")
+public class AnalyticsController {
+
+    private final StepAnalyticsService stepAnalyticsService;
+    private final StepSketchService stepSketchService;
+
+    @GetMapping("/steps")
+    @Operation(summary = "Get p50/p90/p99 wait and work time per workflow step for tasks completed in a date range")
+    public ResponseEntity<StepDurationStatsResponse> getStepDurations(
+            @RequestParam(required = false) String workflowId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(stepAnalyticsService.getStepDurations(workflowId, from, to));
+    }
+
+    @GetMapping("/steps/live")
+    @Operation(summary = "Get live p50/p90/p99 wait and work time per workflow step from the streaming sketches")
+    public ResponseEntity<StepDurationStatsResponse> getLiveStepDurations(
+            @RequestParam(required = false) String workflowId) {
+        return ResponseEntity.ok(stepSketchService.getLiveStats(workflowId));
+    }
+
+    @GetMapping("/instances/{instanceId}/eta")
+    @Operation(summary = "Estimate the completion time of a running workflow instance")
+    public ResponseEntity<InstanceEtaResponse> getInstanceEta(@PathVariable String instanceId) {
+        return ResponseEntity.ok(stepSketchService.estimateCompletion(instanceId));
+    }
+}
@@ -0,0 +1,35 @@
+package com.workspaceflow.controller;
+
+import com.workspaceflow.model.dto.AuditEventResponse;
+import com.workspaceflow.service.AuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REST Controller for the audit trail
+ */
+@RestController
+@RequestMapping("/api/audit")
+@RequiredArgsConstructor
+@Tag(name = "Audit", description = "Audit trail endpoints")
+public class AuditController {
+
+    private final AuditService auditService;
+
+    @GetMapping("/{entityType}/{entityId}")
+    @Operation(summary = "Get audit events of an entity within a time window")
+    public ResponseEntity<List<AuditEventResponse>> getEntityHistory(
+            @PathVariable String entityType,
+            @PathVariable String entityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(auditService.getEntityHistory(entityType, entityId, from, to));
+    }
+}
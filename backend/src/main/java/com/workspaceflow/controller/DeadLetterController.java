@@ -0,0 +1,67 @@
+package com.workspaceflow.controller;
+
+import com.workspaceflow.model.dto.DeadLetterRecordResponse;
+import com.workspaceflow.model.dto.DeadLetterReplayRequest;
+import com.workspaceflow.model.dto.DeadLetterReplayResponse;
+import com.workspaceflow.service.DeadLetterFilter;
+import com.workspaceflow.service.DeadLetterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REST Controller for browsing and replaying dead-lettered events
+ */
+@RestController
+@RequestMapping("/api/deadletters")
+@RequiredArgsConstructor
+@Tag(name = "Dead Letters", description = "Dead letter browsing and replay endpoints")
+public class DeadLetterController {
+
+    private final DeadLetterService deadLetterService;
+
+    @GetMapping
+    @Operation(summary = "Browse dead-lettered records by original topic, key, time window and exception class")
+    public ResponseEntity<List<DeadLetterRecordResponse>> browse(
+            @RequestParam(required = false) String topic,
+            @RequestParam(required = false) String key,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String errorClass,
+            @RequestParam(required = false) Integer limit) {
+        DeadLetterFilter filter = new DeadLetterFilter(topic, key, from, to, errorClass);
+        return ResponseEntity.ok(deadLetterService.browse(filter, limit));
+    }
+
+    @PostMapping("/replays")
+    @Operation(summary = "Replay matching dead-lettered records to their original topics at a limited rate")
+    public ResponseEntity<DeadLetterReplayResponse> startReplay(@Valid @RequestBody DeadLetterReplayRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(deadLetterService.startReplay(request));
+    }
+
+    @GetMapping("/replays")
+    @Operation(summary = "Get all dead letter replays, newest first")
+    public ResponseEntity<List<DeadLetterReplayResponse>> getReplays() {
+        return ResponseEntity.ok(deadLetterService.getReplays());
+    }
+
+    @GetMapping("/replays/{id}")
+    @Operation(summary = "Get the progress of a dead letter replay")
+    public ResponseEntity<DeadLetterReplayResponse> getReplay(@PathVariable String id) {
+        return ResponseEntity.ok(deadLetterService.getReplay(id));
+    }
+
+    @PostMapping("/replays/{id}/cancel")
+    @Operation(summary = "Cancel a running dead letter replay")
+    public ResponseEntity<DeadLetterReplayResponse> cancelReplay(@PathVariable String id) {
+        return ResponseEntity.ok(deadLetterService.cancelReplay(id));
+    }
+}
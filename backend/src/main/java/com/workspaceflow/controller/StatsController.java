@@ -0,0 +1,28 @@
+package com.workspaceflow.controller;
+
+import com.workspaceflow.model.dto.StatsResponse;
+import com.workspaceflow.service.StatusCounterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for dashboard statistics
+ */
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+@Tag(name = "Stats", description = "Dashboard statistics endpoints")
+public class StatsController {
+
+    private final StatusCounterService counterService;
+
+    @GetMapping
+    @Operation(summary = "Get instance and task counts per status")
+    public ResponseEntity<StatsResponse> getStats(
+            @RequestParam(required = false) String workflowId) {
+        return ResponseEntity.ok(counterService.getStats(workflowId));
+    }
+}
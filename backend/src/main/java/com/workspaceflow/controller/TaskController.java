@@ -29,10 +29,19 @@ public class TaskController {
         return ResponseEntity.ok(taskService.getAllTasks());
     }
 
+    @GetMapping("/pending")
+    @Operation(summary = "Get the most recent open tasks")
+    public ResponseEntity<List<TaskResponse>> getPendingTasks(
+            @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(taskService.getPendingTasks(limit));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get task by ID")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable String id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    public ResponseEntity<TaskResponse> getTaskById(
+            @PathVariable String id,
+            @RequestParam(required = false) String instanceId) {
+        return ResponseEntity.ok(taskService.getTaskById(id, instanceId));
     }
 
     @GetMapping("/assignee/{assignee}")
@@ -45,15 +54,17 @@ public class TaskController {
     @Operation(summary = "Assign task to user")
     public ResponseEntity<TaskResponse> assignTask(
             @PathVariable String id,
-            @RequestParam String assignee) {
-        return ResponseEntity.ok(taskService.assignTask(id, assignee));
+            @RequestParam String assignee,
+            @RequestParam(required = false) String instanceId) {
+        return ResponseEntity.ok(taskService.assignTask(id, instanceId, assignee));
     }
 
     @PutMapping("/{id}/complete")
     @Operation(summary = "Complete a task")
     public ResponseEntity<TaskResponse> completeTask(
             @PathVariable String id,
+            @RequestParam(required = false) String instanceId,
             @Valid @RequestBody CompleteTaskRequest request) {
-        return ResponseEntity.ok(taskService.completeTask(id, request));
+        return ResponseEntity.ok(taskService.completeTask(id, instanceId, request));
     }
 }
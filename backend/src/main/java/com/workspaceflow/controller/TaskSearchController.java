@@ -0,0 +1,36 @@
+package com.workspaceflow.controller;
+
+import com.workspaceflow.model.dto.TaskSearchResponse;
+import com.workspaceflow.model.entity.Task;
+import com.workspaceflow.service.TaskSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for task search
+ */
+@RestController
+@RequestMapping("/api/tasks/search")
+@RequiredArgsConstructor
+@Tag(name = "Tasks", description = "Task management endpoints")
+public class TaskSearchController {
+
+    private final TaskSearchService taskSearchService;
+
+    @GetMapping
+    @Operation(summary = "Full-text search over task name, description and indexed data keys")
+    public ResponseEntity<TaskSearchResponse> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) List<Task.TaskStatus> status,
+            @RequestParam(required = false) String assignee,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(taskSearchService.search(q, status, assignee, role, cursor, limit));
+    }
+}
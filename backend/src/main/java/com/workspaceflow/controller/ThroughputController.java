@@ -0,0 +1,30 @@
+package com.workspaceflow.controller;
+
+import com.workspaceflow.event.ThroughputAggregator;
+import com.workspaceflow.model.dto.ThroughputResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for live throughput, served from the streaming aggregation
+ */
+@RestController
+@RequestMapping("/api/throughput")
+@RequiredArgsConstructor
+@Tag(name = "Throughput", description = "Live event rates and task backlog")
+public class ThroughputController {
+
+    private final ThroughputAggregator throughputAggregator;
+
+    @GetMapping
+    @Operation(summary = "Get per-minute task and instance counts per workflow and role, and the open task backlog")
+    public ResponseEntity<ThroughputResponse> getThroughput(
+            @RequestParam(defaultValue = "15") int minutes,
+            @RequestParam(required = false) String workflowId,
+            @RequestParam(required = false) String role) {
+        return ResponseEntity.ok(throughputAggregator.query(minutes, workflowId, role));
+    }
+}
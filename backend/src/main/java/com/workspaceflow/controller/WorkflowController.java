@@ -1,6 +1,8 @@
 package com.workspaceflow.controller;
 
 import com.workspaceflow.model.dto.CreateWorkflowRequest;
+import com.workspaceflow.model.dto.InstanceEventResponse;
+import com.workspaceflow.model.dto.ProjectionRebuildResponse;
 import com.workspaceflow.model.dto.StartWorkflowRequest;
 import com.workspaceflow.model.dto.WorkflowInstanceResponse;
 import com.workspaceflow.model.dto.WorkflowResponse;
@@ -9,10 +11,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -61,9 +65,36 @@ public class WorkflowController {
         return ResponseEntity.ok(workflowService.getAllInstances());
     }
 
+    @GetMapping("/instances/recent")
+    @Operation(summary = "Get the most recently started workflow instances")
+    public ResponseEntity<List<WorkflowInstanceResponse>> getRecentInstances(
+            @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(workflowService.getRecentInstances(limit));
+    }
+
     @GetMapping("/instances/{id}")
     @Operation(summary = "Get workflow instance by ID")
     public ResponseEntity<WorkflowInstanceResponse> getInstanceById(@PathVariable String id) {
         return ResponseEntity.ok(workflowService.getInstanceById(id));
     }
+
+    @GetMapping("/instances/{id}/events")
+    @Operation(summary = "Get the event history of a workflow instance (event-sourcing mode)")
+    public ResponseEntity<List<InstanceEventResponse>> getInstanceEvents(@PathVariable String id) {
+        return ResponseEntity.ok(workflowService.getInstanceEvents(id));
+    }
+
+    @GetMapping("/instances/{id}/state")
+    @Operation(summary = "Get the state of a workflow instance as of a point in time, replayed from its events")
+    public ResponseEntity<WorkflowInstanceResponse> getInstanceStateAt(
+            @PathVariable String id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity.ok(workflowService.getInstanceStateAt(id, at));
+    }
+
+    @PostMapping("/instances/projections/rebuild")
+    @Operation(summary = "Rebuild workflow instance projections and snapshots from the event store")
+    public ResponseEntity<ProjectionRebuildResponse> rebuildInstanceProjections() {
+        return ResponseEntity.ok(workflowService.rebuildInstanceProjections());
+    }
 }
@@ -11,10 +11,11 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * Kafka consumer for audit events
+ * Kafka consumer for audit events. The Mongo write runs on the keyed executor, in order per
+ * entity; the offset is committed once the returned future completes.
  */
 @Slf4j
 @Component
@@ -22,28 +23,41 @@ import java.util.Map;
 public class AuditEventConsumer {
 
     private final AuditEventRepository auditEventRepository;
+    private final KeyedOrderedExecutor keyedOrderedExecutor;
 
-    @KafkaListener(topics = "audit.events", groupId = "audit-consumer-group", containerFactory = "kafkaListenerContainerFactory")
-    public void consumeAuditEvent(
-            @Payload Map<String, Object> event,
+    @KafkaListener(id = "audit-consumer", topics = "audit.events", groupId = "audit-consumer-group", containerFactory = "kafkaListenerContainerFactory")
+    public CompletableFuture<Void> consumeAuditEvent(
+            @Payload AuditRecord event,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
 
+        String entityId = event.getEntityId() != null ? event.getEntityId() : key;
+        return keyedOrderedExecutor.submit(entityId, () -> process(event, topic));
+    }
+
+    private void process(AuditRecord event, String topic) {
         try {
             log.info("Received audit event from topic {}: {}", topic, event);
 
-            // Save audit event to database
+            // Deterministic id: a redelivered or retried record is written once
+            String eventId = event.getEventId() != null ? event.getEventId() : AuditRecord.eventIdOf(event);
             AuditEvent auditEvent = AuditEvent.builder()
-                    .eventType((String) event.get("eventType"))
-                    .entityType((String) event.get("entityType"))
-                    .entityId((String) event.get("entityId"))
-                    .userId((String) event.get("userId"))
-                    .payload((Map<String, Object>) event.get("payload"))
-                    .timestamp(LocalDateTime.now())
+                    .id(eventId)
+                    .eventType(event.getEventType())
+                    .meta(AuditEvent.Meta.builder()
+                            .entityType(event.getEntityType())
+                            .entityId(event.getEntityId())
+                            .build())
+                    .userId(event.getUserId())
+                    .payload(event.getPayload())
+                    .timestamp(event.getTimestamp() != null ? event.getTimestamp() : LocalDateTime.now())
                     .build();
 
-            auditEventRepository.save(auditEvent);
-            log.info("Audit event saved successfully");
+            if (auditEventRepository.insertIfAbsent(auditEvent)) {
+                log.info("Audit event saved successfully");
+            } else {
+                log.info("Audit event {} already recorded, skipping duplicate", eventId);
+            }
 
         } catch (Exception e) {
             log.error("Error processing audit event", e);
@@ -0,0 +1,41 @@
+package com.workspaceflow.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Audit event model for Kafka events
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditRecord {
+
+    /**
+     * Deterministic id, used as the audit_events _id so redelivered records are written once
+     */
+    private String eventId;
+    private String eventType;
+    private String entityType;
+    private String entityId;
+    private String userId;
+    private LocalDateTime timestamp;
+    private Map<String, Object> payload;
+
+    /**
+     * Name-based UUID of the event content; the same event always gets the same id
+     */
+    public static String eventIdOf(AuditRecord event) {
+        String content = String.join("|", event.getEventType(), event.getEntityType(), event.getEntityId(),
+                event.getUserId(), String.valueOf(event.getTimestamp()), String.valueOf(event.getPayload()));
+        return UUID.nameUUIDFromBytes(content.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -0,0 +1,329 @@
+package com.workspaceflow.event;
+
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.OperationType;
+import com.workspaceflow.config.KafkaTopicConfig;
+import com.workspaceflow.model.entity.Task;
+import com.workspaceflow.model.entity.WorkflowInstance;
+import com.workspaceflow.service.LeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Change-stream event mode: derives workflow.events and task.events from the
+ * change streams of workflow_instances and tasks instead of explicit
+ * {@link EventProducer} calls.
+ *
+ * One node per collection publishes, coordinated through a {@link LeaseService}
+ * lease. Resume tokens are checkpointed to change_stream_checkpoints after the
+ * Kafka acks, so publication resumes where it stopped after a restart or a
+ * lease hand-over (at-least-once). Status transitions are detected by comparing
+ * pre- and post-images, which are enabled on both collections at startup
+ * (MongoDB 6.0+ replica set).
+ * <p>
+ * The derived events only replace publication: read models such as the status
+ * counters are still maintained on the write path, not projected from them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "workspaceflow.events.mode", havingValue = "change-stream")
+public class ChangeStreamPublisher implements SmartLifecycle {
+
+    static final String TASKS = "tasks";
+    static final String INSTANCES = "workflow_instances";
+    private static final String CHECKPOINTS = "change_stream_checkpoints";
+
+    private final MongoTemplate mongoTemplate;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final LeaseService leaseService;
+
+    @Value("${workspaceflow.change-stream.lease-ttl:PT30S}")
+    private Duration leaseTtl;
+
+    @Value("${workspaceflow.change-stream.checkpoint-every:100}")
+    private int checkpointEvery;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+        for (String collection : List.of(INSTANCES, TASKS)) {
+            enablePreAndPostImages(collection);
+            workers.add(Thread.ofVirtual()
+                    .name("change-stream-" + collection)
+                    .start(() -> runWorker(collection)));
+        }
+        log.info("Change-stream event publication started on node {}", leaseService.getNodeId());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(Duration.ofSeconds(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runWorker(String collection) {
+        String lease = "change-stream:" + collection;
+        while (running) {
+            try {
+                long requestedAt = System.currentTimeMillis();
+                if (leaseService.tryAcquire(lease, leaseTtl)) {
+                    log.info("Acquired lease {}, publishing changes of {}", lease, collection);
+                    stream(collection, lease, requestedAt + leaseTtl.toMillis());
+                } else {
+                    TimeUnit.MILLISECONDS.sleep(leaseTtl.toMillis() / 3);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Change stream on {} failed; restarting from last checkpoint", collection, e);
+                sleepQuietly(1000);
+            }
+        }
+        leaseService.release(lease);
+    }
+
+    private void stream(String collection, String lease, long leaseExpiresAt)
+            throws InterruptedException, TimeoutException {
+        var watch = mongoTemplate.getCollection(collection)
+                .watch(List.of(Aggregates.match(Filters.in("operationType", "insert", "update", "replace"))))
+                // The post-image is the document as of this change; UPDATE_LOOKUP would read its
+                // current state, so a status change followed by another update could be missed
+                .fullDocument(FullDocument.WHEN_AVAILABLE)
+                .fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE)
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+
+        BsonDocument resumeToken = loadCheckpoint(collection);
+        if (resumeToken != null) {
+            watch = watch.resumeAfter(resumeToken);
+        }
+
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        BsonDocument lastToken = null;
+        long renewAt = System.currentTimeMillis() + leaseTtl.toMillis() / 3;
+
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = watch.cursor()) {
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change != null) {
+                    CompletableFuture<?> sent = publish(collection, change);
+                    if (sent != null) {
+                        pending.add(sent);
+                    }
+                    lastToken = change.getResumeToken();
+                }
+
+                if (lastToken != null && (change == null || pending.size() >= checkpointEvery)) {
+                    awaitAcks(pending, leaseExpiresAt);
+                    saveCheckpoint(collection, lastToken);
+                    pending.clear();
+                    lastToken = null;
+                }
+
+                if (System.currentTimeMillis() >= renewAt) {
+                    long requestedAt = System.currentTimeMillis();
+                    if (!leaseService.tryAcquire(lease, leaseTtl)) {
+                        log.warn("Lost lease {}; stopping publication of {}", lease, collection);
+                        return;
+                    }
+                    leaseExpiresAt = requestedAt + leaseTtl.toMillis();
+                    renewAt = System.currentTimeMillis() + leaseTtl.toMillis() / 3;
+                }
+            }
+
+            if (lastToken != null) {
+                awaitAcks(pending, leaseExpiresAt);
+                saveCheckpoint(collection, lastToken);
+            }
+        }
+    }
+
+    /**
+     * Wait for the pending sends, at most until the lease expires: a checkpoint
+     * saved after that could overwrite the one of the node that took over
+     */
+    private static void awaitAcks(List<CompletableFuture<?>> pending, long leaseExpiresAt)
+            throws InterruptedException, TimeoutException {
+        try {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                    .get(Math.max(0, leaseExpiresAt - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to publish change events", e.getCause());
+        }
+    }
+
+    private CompletableFuture<?> publish(String collection, ChangeStreamDocument<Document> change) {
+        Document after = change.getFullDocument();
+        if (after == null) {
+            // Post-image unavailable, like the pre-image below
+            log.debug("No post-image for change on {}, skipping", collection);
+            return null;
+        }
+        Document before = change.getFullDocumentBeforeChange();
+        boolean inserted = change.getOperationType() == OperationType.INSERT;
+        if (!inserted && before == null) {
+            // Pre-image unavailable (e.g. written before pre-images were enabled)
+            log.debug("No pre-image for change on {} {}, skipping", collection, after.get("_id"));
+            return null;
+        }
+        String previousStatus = before != null ? before.getString("status") : null;
+        String status = after.getString("status");
+
+        if (TASKS.equals(collection)) {
+            String type = deriveTaskEventType(inserted, previousStatus, status);
+            return type != null ? kafkaTemplate.send(KafkaTopicConfig.TASK_EVENTS,
+                    EventProducer.lifecycleKey(after.getString("workflowInstanceId"), String.valueOf(after.get("_id"))),
+                    toTaskEvent(type, after)) : null;
+        }
+        String type = deriveWorkflowEventType(inserted, previousStatus, status);
+        return type != null ? kafkaTemplate.send(KafkaTopicConfig.WORKFLOW_EVENTS,
+                String.valueOf(after.get("_id")), toWorkflowEvent(type, after)) : null;
+    }
+
+    static String deriveTaskEventType(boolean inserted, String previousStatus, String status) {
+        if (inserted) {
+            return TaskEvent.TASK_CREATED;
+        }
+        if (Objects.equals(previousStatus, status) || status == null) {
+            return null;
+        }
+        return switch (Task.TaskStatus.valueOf(status)) {
+            case ASSIGNED -> TaskEvent.TASK_ASSIGNED;
+            case COMPLETED -> TaskEvent.TASK_COMPLETED;
+            case REJECTED -> TaskEvent.TASK_REJECTED;
+            default -> null;
+        };
+    }
+
+    static String deriveWorkflowEventType(boolean inserted, String previousStatus, String status) {
+        if (inserted) {
+            return WorkflowEvent.INSTANCE_STARTED;
+        }
+        if (Objects.equals(previousStatus, status) || status == null) {
+            return null;
+        }
+        return switch (WorkflowInstance.WorkflowStatus.valueOf(status)) {
+            case COMPLETED -> WorkflowEvent.INSTANCE_COMPLETED;
+            case FAILED -> WorkflowEvent.INSTANCE_FAILED;
+            default -> null;
+        };
+    }
+
+    private TaskEvent toTaskEvent(String type, Document task) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("taskName", task.getString("name"));
+        TaskEvent.putWorkflow(payload, task.getString("workflowId"), task.getString("assigneeRole"));
+        if (task.getString("completedBy") != null) {
+            payload.put("completedBy", task.getString("completedBy"));
+        }
+        if (TaskEvent.TASK_COMPLETED.equals(type)) {
+            TaskEvent.putDurations(payload, task.getString("workflowId"), task.getString("stepId"),
+                    toLocalDateTime(task.getDate("createdAt")), toLocalDateTime(task.getDate("assignedAt")),
+                    toLocalDateTime(task.getDate("completedAt")));
+        }
+        return TaskEvent.builder()
+                .type(type)
+                .taskId(String.valueOf(task.get("_id")))
+                .assignee(task.getString("assignee"))
+                .instanceId(task.getString("workflowInstanceId"))
+                .timestamp(LocalDateTime.now())
+                .payload(payload)
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return date == null ? null : LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+
+    private WorkflowEvent toWorkflowEvent(String type, Document instance) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("workflowName", instance.getString("workflowName"));
+        payload.put("startedBy", instance.getString("startedBy"));
+        return WorkflowEvent.builder()
+                .type(type)
+                .workflowId(instance.getString("workflowId"))
+                .instanceId(String.valueOf(instance.get("_id")))
+                .timestamp(LocalDateTime.now())
+                .payload(payload)
+                .build();
+    }
+
+    private void enablePreAndPostImages(String collection) {
+        if (!mongoTemplate.collectionExists(collection)) {
+            mongoTemplate.createCollection(collection);
+        }
+        mongoTemplate.getDb().runCommand(new Document("collMod", collection)
+                .append("changeStreamPreAndPostImages", new Document("enabled", true)));
+    }
+
+    private BsonDocument loadCheckpoint(String collection) {
+        BsonDocument checkpoint = checkpoints().find(Filters.eq("_id", collection)).first();
+        return checkpoint != null ? checkpoint.getDocument("resumeToken") : null;
+    }
+
+    private void saveCheckpoint(String collection, BsonDocument resumeToken) {
+        mongoTemplate.getCollection(CHECKPOINTS).replaceOne(
+                Filters.eq("_id", collection),
+                new Document("_id", collection)
+                        .append("resumeToken", resumeToken)
+                        .append("updatedAt", new Date()),
+                new ReplaceOptions().upsert(true));
+    }
+
+    private MongoCollection<BsonDocument> checkpoints() {
+        return mongoTemplate.getCollection(CHECKPOINTS).withDocumentClass(BsonDocument.class);
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.workspaceflow.event;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.clients.admin.NewPartitions;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Reads consumer group lag and grows topic partitions through the Kafka admin client
+ */
+@Component
+@RequiredArgsConstructor
+public class ConsumerLagReader {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final KafkaAdmin kafkaAdmin;
+
+    private AdminClient adminClient;
+
+    /**
+     * Lag of a consumer group on its topics. Partitions without a committed offset count
+     * from their beginning offset, as the group starts from the earliest retained record.
+     */
+    public GroupLag read(String groupId, Collection<String> topics) {
+        AdminClient admin = admin();
+        Map<String, TopicDescription> descriptions = await(admin.describeTopics(topics).allTopicNames());
+        Map<TopicPartition, OffsetSpec> latest = new HashMap<>();
+        descriptions.values().forEach(description -> description.partitions().forEach(partition ->
+                latest.put(new TopicPartition(description.name(), partition.partition()), OffsetSpec.latest())));
+
+        Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets = await(admin.listOffsets(latest).all());
+        Map<TopicPartition, OffsetAndMetadata> committed =
+                await(admin.listConsumerGroupOffsets(groupId).partitionsToOffsetAndMetadata());
+
+        Map<TopicPartition, OffsetSpec> earliest = new HashMap<>();
+        endOffsets.keySet().stream()
+                .filter(partition -> committed.get(partition) == null)
+                .forEach(partition -> earliest.put(partition, OffsetSpec.earliest()));
+        Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> beginningOffsets =
+                earliest.isEmpty() ? Map.of() : await(admin.listOffsets(earliest).all());
+
+        long lag = 0;
+        long consumed = 0;
+        for (Map.Entry<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> entry : endOffsets.entrySet()) {
+            OffsetAndMetadata offset = committed.get(entry.getKey());
+            long position = offset != null ? offset.offset() : beginningOffsets.get(entry.getKey()).offset();
+            lag += Math.max(0, entry.getValue().offset() - position);
+            consumed += position;
+        }
+        Map<String, Integer> partitions = new HashMap<>();
+        descriptions.forEach((topic, description) -> partitions.put(topic, description.partitions().size()));
+        return new GroupLag(lag, consumed, partitions, nodes(admin, groupId));
+    }
+
+    /**
+     * Hosts with a member in the group, at least 1
+     */
+    private int nodes(AdminClient admin, String groupId) {
+        ConsumerGroupDescription group = await(admin.describeConsumerGroups(List.of(groupId)).all()).get(groupId);
+        if (group == null) {
+            return 1;
+        }
+        long hosts = group.members().stream().map(MemberDescription::host).distinct().count();
+        return (int) Math.max(1, hosts);
+    }
+
+    /**
+     * Raise the partition count of a topic. Keys hash to new partitions from then on,
+     * so per-key ordering only holds for records produced after the change.
+     */
+    public void growPartitions(String topic, int partitions) {
+        await(admin().createPartitions(Map.of(topic, NewPartitions.increaseTo(partitions))).all());
+    }
+
+    private synchronized AdminClient admin() {
+        if (adminClient == null) {
+            adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+        }
+        return adminClient;
+    }
+
+    private static <T> T await(KafkaFuture<T> future) {
+        try {
+            return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while waiting for the Kafka admin client", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaException("Kafka admin request failed", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (adminClient != null) {
+            adminClient.close();
+        }
+    }
+
+    /**
+     * Total lag, total committed offsets (for the processing rate), partitions per topic
+     * and the number of nodes consuming in the group
+     */
+    public record GroupLag(long lag, long consumed, Map<String, Integer> partitions, int nodes) {
+
+        public int totalPartitions() {
+            return partitions.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.workspaceflow.event;
+
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * Record value standing in for an event that was not deserialized: the listener receives its
+ * header envelope when the record was routed, and dropped records are filtered out before
+ * reaching the listener. {@code data} holds the record's original bytes, which are what a
+ * failed record is republished with to the retry and dead letter topics.
+ */
+public record EventEnvelope(String type, String schemaVersion, String instanceId, String tenant, byte[] data,
+                            boolean dropped) {
+
+    public static EventEnvelope of(Headers headers, byte[] data, boolean dropped) {
+        return new EventEnvelope(
+                EventHeaders.read(headers, EventHeaders.TYPE),
+                EventHeaders.read(headers, EventHeaders.SCHEMA_VERSION),
+                EventHeaders.read(headers, EventHeaders.INSTANCE_ID),
+                EventHeaders.read(headers, EventHeaders.TENANT),
+                data,
+                dropped);
+    }
+}
@@ -0,0 +1,89 @@
+package com.workspaceflow.event;
+
+import com.workspaceflow.event.serialization.BinaryEventCodec;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Envelope of every event record: type, schema version, instanceId and tenant travel as Kafka
+ * headers, so consumers can filter records without deserializing the payload (see
+ * {@link com.workspaceflow.event.serialization.HeaderFilter}). Set by {@link EventHeadersInterceptor}.
+ */
+public final class EventHeaders {
+
+    public static final String TYPE = "workspaceflow-event-type";
+    public static final String SCHEMA_VERSION = "workspaceflow-schema-version";
+    public static final String INSTANCE_ID = "workspaceflow-instance-id";
+    public static final String TENANT = "workspaceflow-tenant";
+
+    /**
+     * Producer property naming the tenant written to every record
+     */
+    public static final String TENANT_CONFIG = "workspaceflow.tenant";
+
+    private static final Map<Class<?>, Integer> SCHEMA_VERSIONS = BinaryEventCodec.releases().stream()
+            .collect(Collectors.toMap(release -> release.schema().type(), BinaryEventCodec.Release::version, Math::max));
+
+    private EventHeaders() {
+    }
+
+    /**
+     * Add the envelope headers of an event; headers already present (republished retries and
+     * dead letters) are kept
+     */
+    public static void write(Headers headers, Object event, String tenant) {
+        addIfAbsent(headers, TYPE, typeOf(event));
+        if (typeOf(event) != null) {
+            addIfAbsent(headers, SCHEMA_VERSION, String.valueOf(SCHEMA_VERSIONS.getOrDefault(event.getClass(), 1)));
+        }
+        addIfAbsent(headers, INSTANCE_ID, instanceIdOf(event));
+        addIfAbsent(headers, TENANT, tenant);
+    }
+
+    /**
+     * Last value of a header, or null
+     */
+    public static String read(Headers headers, String key) {
+        Header header = headers != null ? headers.lastHeader(key) : null;
+        return header != null && header.value() != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    static String typeOf(Object event) {
+        if (event instanceof WorkflowEvent workflowEvent) {
+            return workflowEvent.getType();
+        }
+        if (event instanceof TaskEvent taskEvent) {
+            return taskEvent.getType();
+        }
+        if (event instanceof AuditRecord auditRecord) {
+            return auditRecord.getEventType();
+        }
+        if (event instanceof NotificationEvent notificationEvent) {
+            return notificationEvent.getType();
+        }
+        return null;
+    }
+
+    static String instanceIdOf(Object event) {
+        if (event instanceof WorkflowEvent workflowEvent) {
+            return workflowEvent.getInstanceId();
+        }
+        if (event instanceof TaskEvent taskEvent) {
+            return taskEvent.getInstanceId();
+        }
+        if (event instanceof NotificationEvent notificationEvent) {
+            return notificationEvent.getInstanceId();
+        }
+        return null;
+    }
+
+    private static void addIfAbsent(Headers headers, String key, String value) {
+        if (value != null && headers.lastHeader(key) == null) {
+            headers.add(key, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.workspaceflow.event;
+
+import org.apache.kafka.clients.producer.ProducerInterceptor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+import java.util.Map;
+
+/**
+ * Producer interceptor adding the {@link EventHeaders} envelope to every record before it is
+ * serialized, whichever path sent it (EventProducer, outbox relay, change streams, retries)
+ */
+public class EventHeadersInterceptor implements ProducerInterceptor<String, Object> {
+
+    private String tenant;
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        Object configured = configs.get(EventHeaders.TENANT_CONFIG);
+        tenant = configured != null ? configured.toString() : null;
+    }
+
+    @Override
+    public ProducerRecord<String, Object> onSend(ProducerRecord<String, Object> record) {
+        EventHeaders.write(record.headers(), record.value(), tenant);
+        return record;
+    }
+
+    @Override
+    public void onAcknowledgement(RecordMetadata metadata, Exception exception) {
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -3,6 +3,8 @@ package com.workspaceflow.event;
 import com.workspaceflow.config.KafkaTopicConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
@@ -20,11 +22,49 @@ import java.util.concurrent.CompletableFuture;
 public class EventProducer {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final PublishBackpressure publishBackpressure;
+
+    /**
+     * Present only in outbox mode; events then go to the outbox instead of Kafka
+     */
+    @Autowired(required = false)
+    private OutboxService outboxService;
+
+    /**
+     * Present only in in-process mode; events then go to the consumers in this JVM instead of Kafka
+     */
+    @Autowired(required = false)
+    private InProcessEventBus inProcessEventBus;
+
+    /**
+     * In change-stream mode workflow and task events are derived by ChangeStreamPublisher
+     */
+    @Value("${workspaceflow.events.mode:direct}")
+    private String eventsMode;
+
+    /**
+     * Throw PublishCapacityExceededException (503) when events could not be published right now.
+     * Called before a change is written, as events of a stored change are never rejected.
+     */
+    public void ensurePublishCapacity() {
+        if (outboxService != null) {
+            return;
+        }
+        if (inProcessEventBus != null) {
+            inProcessEventBus.ensureCapacity();
+            return;
+        }
+        publishBackpressure.ensureCapacity();
+    }
 
     /**
      * Publish workflow event
      */
     public void publishWorkflowEvent(String type, String workflowId, String instanceId, Map<String, Object> payload) {
+        if (isChangeStreamMode()) {
+            return;
+        }
+
         WorkflowEvent event = WorkflowEvent.builder()
                 .type(type)
                 .workflowId(workflowId)
@@ -41,6 +81,10 @@ public class EventProducer {
      */
     public void publishTaskEvent(String type, String taskId, String assignee, String instanceId,
             Map<String, Object> payload) {
+        if (isChangeStreamMode()) {
+            return;
+        }
+
         TaskEvent event = TaskEvent.builder()
                 .type(type)
                 .taskId(taskId)
@@ -50,7 +94,7 @@ public class EventProducer {
                 .payload(payload)
                 .build();
 
-        sendEvent(KafkaTopicConfig.TASK_EVENTS, taskId, event);
+        sendEvent(KafkaTopicConfig.TASK_EVENTS, lifecycleKey(instanceId, taskId), event);
     }
 
     /**
@@ -58,29 +102,83 @@ public class EventProducer {
      */
     public void publishAuditEvent(String eventType, String entityType, String entityId, String userId,
             Map<String, Object> payload) {
-        Map<String, Object> auditPayload = Map.of(
-                "eventType", eventType,
-                "entityType", entityType,
-                "entityId", entityId,
-                "userId", userId != null ? userId : "system",
-                "timestamp", LocalDateTime.now(),
-                "payload", payload != null ? payload : Map.of());
-
-        sendEvent(KafkaTopicConfig.AUDIT_EVENTS, entityId, auditPayload);
+        AuditRecord event = AuditRecord.builder()
+                .eventType(eventType)
+                .entityType(entityType)
+                .entityId(entityId)
+                .userId(userId != null ? userId : "system")
+                .timestamp(LocalDateTime.now())
+                .payload(payload != null ? payload : Map.of())
+                .build();
+        event.setEventId(AuditRecord.eventIdOf(event));
+
+        sendEvent(KafkaTopicConfig.AUDIT_EVENTS, entityId, event);
     }
 
     /**
-     * Send event to Kafka topic
+     * Publish notification event; notifications without a recipient are dropped
+     */
+    public void publishNotification(String type, String recipient, String taskId, String instanceId,
+            String workflowId, String subject) {
+        if (recipient == null) {
+            return;
+        }
+
+        NotificationEvent event = NotificationEvent.builder()
+                .type(type)
+                .recipient(recipient)
+                .taskId(taskId)
+                .instanceId(instanceId)
+                .workflowId(workflowId)
+                .subject(subject)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        sendEvent(KafkaTopicConfig.NOTIFICATION_EVENTS, recipient, event);
+    }
+
+    /**
+     * Workflow and task events are keyed by instance, so each topic keeps one instance's events on
+     * one partition, in order; tasks without an instance keep their id
+     */
+    public static String lifecycleKey(String instanceId, String fallback) {
+        return instanceId != null ? instanceId : fallback;
+    }
+
+    private boolean isChangeStreamMode() {
+        return "change-stream".equals(eventsMode);
+    }
+
+    /**
+     * Send event to Kafka topic under the publishing mode, append it to the outbox in outbox mode,
+     * or hand it to the in-process bus in in-process mode
      */
     private void sendEvent(String topic, String key, Object event) {
-        CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(topic, key, event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("Event sent successfully to topic: {} with key: {}", topic, key);
-            } else {
-                log.error("Failed to send event to topic: {} with key: {}", topic, key, ex);
-            }
-        });
+        if (outboxService != null) {
+            outboxService.append(topic, key, event);
+            return;
+        }
+        if (inProcessEventBus != null) {
+            inProcessEventBus.publish(topic, key, event);
+            return;
+        }
+
+        publishBackpressure.publish(topic, key, () -> send(topic, key, event));
+    }
+
+    /**
+     * In exactly-once mode (transactional template) events join the transaction of the service
+     * operation (see {@link EventTransactionScope}); events published outside one, such as due
+     * reminders, are each their own transaction
+     */
+    private CompletableFuture<SendResult<String, Object>> send(String topic, String key, Object event) {
+        if (!kafkaTemplate.isTransactional() || kafkaTemplate.inTransaction()) {
+            return kafkaTemplate.send(topic, key, event);
+        }
+        try {
+            return kafkaTemplate.executeInTransaction(operations -> operations.send(topic, key, event));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
     }
 }
@@ -0,0 +1,157 @@
+package com.workspaceflow.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * Preallocated multi-producer ring of one topic of {@link InProcessEventBus}. A producer claims
+ * the next sequence with a CAS, fills the slot and publishes it by writing the sequence into the
+ * slot's flag. Every reader follows the ring with its own cursor, in sequence order. A sequence
+ * is only claimed while it is less than a full ring ahead of the slowest reader, so no slot is
+ * overwritten before every reader has passed it.
+ */
+public class EventRingBuffer {
+
+    private static final long FULL_WAIT_NANOS = 10_000;
+
+    /**
+     * Cursor of one reader; next is the first sequence it has not read
+     */
+    public static final class Reader {
+        private final String name;
+        private volatile long next;
+        private volatile Thread parked;
+
+        private Reader(String name, long next) {
+            this.name = name;
+            this.next = next;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final String[] keys;
+    private final Object[] events;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final List<Reader> readers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Ring of at least the given size, rounded up to a power of two
+     */
+    public EventRingBuffer(int size) {
+        this.capacity = size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        this.mask = capacity - 1;
+        this.keys = new String[capacity];
+        this.events = new Object[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Add a reader that sees the events published from now on
+     */
+    public Reader addReader(String name) {
+        Reader reader = new Reader(name, claimed.get());
+        readers.add(reader);
+        return reader;
+    }
+
+    /**
+     * Publish an event, waiting up to the timeout while the ring is full; false if it stayed full
+     */
+    public boolean tryPublish(String key, Object event, long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        long sequence;
+        while (true) {
+            sequence = claimed.get();
+            if (sequence - slowestReader(sequence) < capacity) {
+                if (claimed.compareAndSet(sequence, sequence + 1)) {
+                    break;
+                }
+            } else if (System.nanoTime() - deadline >= 0) {
+                return false;
+            } else {
+                LockSupport.parkNanos(FULL_WAIT_NANOS);
+            }
+        }
+
+        int index = (int) (sequence & mask);
+        keys[index] = key;
+        events[index] = event;
+        published.set(index, sequence);
+        for (Reader reader : readers) {
+            Thread waiting = reader.parked;
+            if (waiting != null) {
+                LockSupport.unpark(waiting);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hand up to max published events to the sink in sequence order and move the reader past
+     * them; returns the number read. The sink must not throw.
+     */
+    public int poll(Reader reader, int max, BiConsumer<String, Object> sink) {
+        long from = reader.next;
+        long sequence = from;
+        while (sequence - from < max) {
+            int index = (int) (sequence & mask);
+            if (published.get(index) != sequence) {
+                break;
+            }
+            sink.accept(keys[index], events[index]);
+            sequence++;
+        }
+        reader.next = sequence;
+        return (int) (sequence - from);
+    }
+
+    /**
+     * Park the calling reader until an event is published for it, at most maxParkNanos
+     */
+    public void await(Reader reader, long maxParkNanos) {
+        reader.parked = Thread.currentThread();
+        try {
+            // Checked after announcing the park, so a publish in between unparks us
+            if (!hasPublished(reader)) {
+                LockSupport.parkNanos(this, maxParkNanos);
+            }
+        } finally {
+            reader.parked = null;
+        }
+    }
+
+    public boolean hasPublished(Reader reader) {
+        long next = reader.next;
+        return published.get((int) (next & mask)) == next;
+    }
+
+    public int remainingCapacity() {
+        long next = claimed.get();
+        return (int) (capacity - (next - slowestReader(next)));
+    }
+
+    private long slowestReader(long claimedNext) {
+        long slowest = claimedNext;
+        for (Reader reader : readers) {
+            slowest = Math.min(slowest, reader.next);
+        }
+        return slowest;
+    }
+}
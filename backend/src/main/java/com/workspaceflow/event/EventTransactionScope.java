@@ -0,0 +1,69 @@
+package com.workspaceflow.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exactly-once mode: sends all events of a service operation in one Kafka
+ * transaction. The operations are the {@code @Transactional} service methods,
+ * which have no Mongo transaction outside outbox mode.
+ * <p>
+ * The transaction commits when the operation returns and aborts when it throws,
+ * so read_committed consumers see all of its events or none. A failed commit is
+ * logged rather than thrown: the change is already stored, and failing the
+ * request would only have the client retry it. Ordered inside
+ * {@link com.workspaceflow.service.ConflictRetry}, so every attempt has its own
+ * transaction and the events of a conflicting attempt are aborted.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnExpression("${workspaceflow.kafka.exactly-once:false} and '${workspaceflow.events.mode:direct}' != 'outbox' and '${workspaceflow.events.mode:direct}' != 'in-process'")
+public class EventTransactionScope {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Around("@annotation(org.springframework.transaction.annotation.Transactional)")
+    public Object publishInOneTransaction(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (kafkaTemplate.inTransaction()) {
+            return joinPoint.proceed();
+        }
+        Object[] result = new Object[1];
+        try {
+            kafkaTemplate.executeInTransaction(operations -> {
+                try {
+                    result[0] = joinPoint.proceed();
+                    return null;
+                } catch (Throwable t) {
+                    throw new OperationFailure(t);
+                }
+            });
+        } catch (OperationFailure e) {
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            log.error("Failed to commit the events of {}; the change is stored but its events were aborted",
+                    joinPoint.getSignature().toShortString(), e);
+        }
+        return result[0];
+    }
+
+    /**
+     * Carries the operation's own exception through the transaction callback
+     */
+    private static final class OperationFailure extends RuntimeException {
+
+        OperationFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.workspaceflow.event;
+
+import com.workspaceflow.config.KafkaRetryConfig;
+import com.workspaceflow.config.KafkaTopicConfig;
+import com.workspaceflow.exception.PublishCapacityExceededException;
+import com.workspaceflow.model.entity.DeadLetterEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process event bus for single-node deployments (workspaceflow.events.mode=in-process):
+ * EventProducer publishes into a preallocated {@link EventRingBuffer} per topic and every
+ * subscriber drains its topic on its own thread, in batches of up to batch-size events, into
+ * the same consumer beans the Kafka listeners call.
+ * <p>
+ * Failures follow the Kafka setup: on workflow, task and audit events a failed event is
+ * redelivered after the workspaceflow.kafka.retry backoff while the ring keeps flowing; other
+ * topics and non-retryable failures get no retries. Exhausted events are stored in
+ * dead_letter_events. Events live in memory only: published events not yet delivered are
+ * drained on shutdown, pending retries are lost.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "workspaceflow.events.mode", havingValue = "in-process")
+public class InProcessEventBus {
+
+    private static final int IDLE_SPINS = 100;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FULL_WAIT_NANOS = 10_000;
+
+    /**
+     * Consumer of one topic; the returned future completes once the event was handled
+     */
+    @FunctionalInterface
+    public interface EventHandler {
+        CompletableFuture<Void> handle(Object event, String key, String topic);
+    }
+
+    private record Subscription(String topic, String name, EventHandler handler, EventRingBuffer ring,
+            EventRingBuffer.Reader reader, int maxAttempts) {
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+    private final WorkflowEventConsumer workflowEventConsumer;
+    private final TaskEventConsumer taskEventConsumer;
+    private final AuditEventConsumer auditEventConsumer;
+    private final NotificationEventConsumer notificationEventConsumer;
+
+    @Value("${workspaceflow.events.in-process.buffer-size:8192}")
+    private int bufferSize = 8192;
+
+    @Value("${workspaceflow.events.in-process.batch-size:256}")
+    private int batchSize = 256;
+
+    @Value("${workspaceflow.events.in-process.shutdown-timeout:PT10S}")
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    @Value("${workspaceflow.events.publish.acquire-timeout:PT0.1S}")
+    private Duration publishTimeout = Duration.ofMillis(100);
+
+    @Value("${workspaceflow.kafka.retry.attempts:4}")
+    private int attempts = 4;
+
+    @Value("${workspaceflow.kafka.retry.initial-interval:PT1S}")
+    private Duration initialInterval = Duration.ofSeconds(1);
+
+    @Value("${workspaceflow.kafka.retry.multiplier:10}")
+    private double multiplier = 10;
+
+    @Value("${workspaceflow.kafka.retry.max-interval:PT1M}")
+    private Duration maxInterval = Duration.ofMinutes(1);
+
+    private final Map<String, EventRingBuffer> rings = new ConcurrentHashMap<>();
+    private final List<Thread> readers = new CopyOnWriteArrayList<>();
+
+    private ScheduledExecutorService retries;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        retries = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-bus-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        subscribe(KafkaTopicConfig.WORKFLOW_EVENTS, "workflow-consumer", workflowEventConsumer::consume);
+        subscribe(KafkaTopicConfig.TASK_EVENTS, "task-consumer", taskEventConsumer::consume);
+        subscribe(KafkaTopicConfig.AUDIT_EVENTS, "audit-consumer",
+                (event, key, topic) -> auditEventConsumer.consumeAuditEvent((AuditRecord) event, key, topic));
+        subscribe(KafkaTopicConfig.NOTIFICATION_EVENTS, "notification-consumer",
+                (event, key, topic) -> notificationEventConsumer.consumeNotificationEvent((NotificationEvent) event, key));
+        log.info("In-process event bus: {} slots per topic, batches of {}, {} attempts", bufferSize, batchSize, attempts);
+    }
+
+    /**
+     * Deliver the events published to the topic from now on to the handler, on its own thread
+     */
+    public void subscribe(String topic, String name, EventHandler handler) {
+        EventRingBuffer ring = rings.computeIfAbsent(topic, t -> {
+            EventRingBuffer created = new EventRingBuffer(bufferSize);
+            Gauge.builder("workspaceflow.events.bus.remaining-capacity", created, EventRingBuffer::remainingCapacity)
+                    .description("Free slots in the topic's ring buffer")
+                    .tag("topic", t)
+                    .register(meterRegistry);
+            return created;
+        });
+        int maxAttempts = KafkaRetryConfig.RETRIED_TOPICS.contains(topic) ? Math.max(1, attempts) : 1;
+        Subscription subscription = new Subscription(topic, name, handler, ring, ring.addReader(name), maxAttempts);
+
+        Thread thread = new Thread(() -> drain(subscription), "event-bus-" + name + "-" + topic);
+        thread.setDaemon(true);
+        readers.add(thread);
+        thread.start();
+    }
+
+    /**
+     * Throw PublishCapacityExceededException (503) when a ring stays full for the publish
+     * acquire-timeout; call before writing anything the events describe
+     */
+    public void ensureCapacity() {
+        long deadline = System.nanoTime() + publishTimeout.toNanos();
+        for (Map.Entry<String, EventRingBuffer> ring : rings.entrySet()) {
+            while (ring.getValue().remainingCapacity() == 0) {
+                if (System.nanoTime() - deadline >= 0) {
+                    meterRegistry.counter("workspaceflow.events.publish.rejected").increment();
+                    throw new PublishCapacityExceededException("In-process event bus full: "
+                            + ring.getValue().capacity() + " undelivered events on " + ring.getKey());
+                }
+                LockSupport.parkNanos(FULL_WAIT_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Publish an event to the topic's subscribers. The change it describes is already stored, so
+     * while the ring is full the caller waits for the subscribers instead of losing the event.
+     */
+    public void publish(String topic, String key, Object event) {
+        EventRingBuffer ring = rings.get(topic);
+        if (ring == null) {
+            log.debug("No in-process subscriber for topic {}, dropping event {}", topic, key);
+            return;
+        }
+        while (!ring.tryPublish(key, event, publishTimeout.toNanos())) {
+            if (!running) {
+                log.error("In-process event bus stopped with {} full, dropping event {}: {}", topic, key, event);
+                return;
+            }
+            log.warn("In-process event bus full on {}, waiting to publish event {}", topic, key);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        for (Thread reader : readers) {
+            LockSupport.unpark(reader);
+            reader.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        }
+        if (retries != null) {
+            int pending = retries.shutdownNow().size();
+            if (pending > 0) {
+                log.warn("In-process event bus stopped with {} event retries pending", pending);
+            }
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        int idle = 0;
+        while (true) {
+            int read = subscription.ring().poll(subscription.reader(), batchSize,
+                    (key, event) -> deliver(subscription, key, event, 1));
+            if (read > 0) {
+                idle = 0;
+            } else if (!running) {
+                return;
+            } else if (++idle < IDLE_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                subscription.ring().await(subscription.reader(), IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private void deliver(Subscription subscription, String key, Object event, int attempt) {
+        CompletableFuture<Void> handled;
+        try {
+            handled = subscription.handler().handle(event, key, subscription.topic());
+        } catch (RuntimeException e) {
+            handled = CompletableFuture.failedFuture(e);
+        }
+        if (handled != null) {
+            handled.whenComplete((result, failure) -> {
+                if (failure != null) {
+                    failed(subscription, key, event, attempt, unwrap(failure));
+                }
+            });
+        }
+    }
+
+    private void failed(Subscription subscription, String key, Object event, int attempt, Throwable failure) {
+        // As on the retry topics, a payload of the wrong type will not get better with retries
+        if (attempt < subscription.maxAttempts() && !(failure instanceof ClassCastException)) {
+            long delay = backoff(attempt);
+            log.warn("{} failed on {} event {} (attempt {}), retrying in {} ms: {}", subscription.name(),
+                    subscription.topic(), key, attempt, delay, failure.getMessage());
+            meterRegistry.counter("workspaceflow.events.bus.retries", "topic", subscription.topic()).increment();
+            try {
+                retries.schedule(() -> deliver(subscription, key, event, attempt + 1), delay, TimeUnit.MILLISECONDS);
+                return;
+            } catch (RejectedExecutionException e) {
+                log.warn("Event bus stopping, dead-lettering {} event {} instead of retrying", subscription.topic(), key);
+            }
+        }
+        deadLetter(subscription, key, event, attempt, failure);
+    }
+
+    /**
+     * Delay before the given attempt's retry, like the exponential backoff of the retry topics
+     */
+    long backoff(int attempt) {
+        double delay = initialInterval.toMillis() * Math.pow(multiplier, attempt - 1);
+        return (long) Math.min(delay, maxInterval.toMillis());
+    }
+
+    private void deadLetter(Subscription subscription, String key, Object event, int attempts, Throwable failure) {
+        log.error("Event from {} failed after {} attempts in {}, storing it in dead_letter_events",
+                subscription.topic(), attempts, subscription.name(), failure);
+        meterRegistry.counter("workspaceflow.events.bus.dead-letters", "topic", subscription.topic()).increment();
+        try {
+            mongoTemplate.insert(DeadLetterEvent.builder()
+                    .topic(subscription.topic())
+                    .key(key)
+                    .consumer(subscription.name())
+                    .payload(event)
+                    .attempts(attempts)
+                    .exceptionClass(failure.getClass().getName())
+                    .exceptionMessage(failure.getMessage())
+                    .failedAt(LocalDateTime.now())
+                    .build());
+        } catch (RuntimeException e) {
+            log.error("Failed to store dead letter of {} event {}: {}", subscription.topic(), key, event, e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
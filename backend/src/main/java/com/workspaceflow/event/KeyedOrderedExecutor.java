@@ -0,0 +1,126 @@
+package com.workspaceflow.event;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs listener work in parallel across keys and in submission order within a key.
+ * Consumers key lifecycle events by instanceId, so one instance's events are handled one at a
+ * time while different instances proceed concurrently, beyond the topic's partition count.
+ * The workflow and task listeners share the executor, but their topics are consumed
+ * independently: events of one instance are ordered within a topic, not across the two.
+ * <p>
+ * With threads=virtual every task gets its own virtual thread instead of a pooled platform
+ * thread, so I/O-bound handlers (audit writes) can have hundreds of records in flight per
+ * partition; max-in-flight is then the only bound.
+ */
+@Slf4j
+@Component
+public class KeyedOrderedExecutor {
+
+    private final ExecutorService workers;
+    private final Semaphore inFlight;
+
+    /**
+     * Last submitted task per key; later tasks for the key chain onto it
+     */
+    private final Map<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    private final int maxInFlight;
+
+    public KeyedOrderedExecutor(
+            @Value("${workspaceflow.kafka.ordered-processing.threads:platform}") String threads,
+            @Value("${workspaceflow.kafka.ordered-processing.workers:16}") int workerCount,
+            @Value("${workspaceflow.kafka.ordered-processing.max-in-flight:1000}") int maxInFlight,
+            MeterRegistry meterRegistry) {
+        this.workers = "virtual".equals(threads)
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("keyed-virtual-", 1).factory())
+                : Executors.newFixedThreadPool(workerCount, platformThreads());
+        this.inFlight = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+        Gauge.builder("workspaceflow.kafka.listener.in-flight", this, KeyedOrderedExecutor::inFlight)
+                .description("Records dispatched to keyed workers and not yet completed")
+                .register(meterRegistry);
+        Gauge.builder("workspaceflow.kafka.listener.active-keys", this, KeyedOrderedExecutor::activeKeys)
+                .description("Keys with pending or running records")
+                .register(meterRegistry);
+        log.info("Keyed listener processing on {} threads, max in flight {}", threads, maxInFlight);
+    }
+
+    private static ThreadFactory platformThreads() {
+        AtomicInteger threads = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "keyed-worker-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Schedule work for a key after all previously submitted work for the same key. Blocks the
+     * calling (consumer) thread while max-in-flight tasks are pending, which pauses polling.
+     * The returned future fails with the task's exception; later tasks for the key still run.
+     */
+    public CompletableFuture<Void> submit(String key, Runnable task) {
+        inFlight.acquireUninterruptibly();
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        CompletableFuture<Void> tail = tails.compute(key, (k, previous) -> {
+            CompletableFuture<Void> start = previous != null ? previous : CompletableFuture.completedFuture(null);
+            return start.handleAsync((ignored, previousFailure) -> {
+                Throwable failure = null;
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    failure = e;
+                }
+                // Release before completing so the permit is free once the caller sees the result
+                inFlight.release();
+                if (failure == null) {
+                    result.complete(null);
+                } else {
+                    result.completeExceptionally(failure);
+                }
+                return null;
+            }, workers);
+        });
+        tail.whenComplete((ignored, e) -> tails.remove(key, tail));
+        return result;
+    }
+
+    /**
+     * Number of submitted tasks that have not completed yet
+     */
+    public int inFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    /**
+     * Number of keys with pending or running work
+     */
+    public int activeKeys() {
+        return tails.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Keyed workers did not finish within 10s, {} keys still active", tails.size());
+            workers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.workspaceflow.event;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scales the concurrency of the event listeners with their consumer group lag.
+ *
+ * Every interval it reads the lag of each listener, exports it with the processing rate,
+ * and restarts the container with its share of the ceil(lag / lag-per-consumer) consumers
+ * the group needs: the lag is group-wide, so the count is split over the nodes consuming
+ * in the group. The share is bounded by min/max concurrency and by the node's share of
+ * the partitions (extra consumers would sit idle). With grow-partitions enabled the topic
+ * is first grown towards the group's desired concurrency, up to max-partitions. Changes
+ * are at least one cooldown apart. Off by default.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("${workspaceflow.kafka.autoscaling.enabled:false} and '${workspaceflow.events.mode:direct}' != 'in-process'")
+public class ListenerAutoscaler {
+
+    private final KafkaListenerEndpointRegistry endpointRegistry;
+    private final ConsumerLagReader lagReader;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ListenerState> states = new ConcurrentHashMap<>();
+
+    @Value("${workspaceflow.kafka.autoscaling.listeners:workflow-consumer,task-consumer,audit-consumer}")
+    private List<String> listeners = List.of("workflow-consumer", "task-consumer", "audit-consumer");
+
+    @Value("${workspaceflow.kafka.autoscaling.min-concurrency:1}")
+    private int minConcurrency = 1;
+
+    @Value("${workspaceflow.kafka.autoscaling.max-concurrency:6}")
+    private int maxConcurrency = 6;
+
+    @Value("${workspaceflow.kafka.autoscaling.lag-per-consumer:1000}")
+    private long lagPerConsumer = 1000;
+
+    @Value("${workspaceflow.kafka.autoscaling.cooldown:PT1M}")
+    private Duration cooldown = Duration.ofMinutes(1);
+
+    @Value("${workspaceflow.kafka.autoscaling.grow-partitions:false}")
+    private boolean growPartitions;
+
+    @Value("${workspaceflow.kafka.autoscaling.max-partitions:12}")
+    private int maxPartitions = 12;
+
+    @Scheduled(fixedDelayString = "${workspaceflow.kafka.autoscaling.interval:PT15S}",
+            initialDelayString = "${workspaceflow.kafka.autoscaling.interval:PT15S}")
+    public void autoscale() {
+        long now = System.currentTimeMillis();
+        for (String listenerId : listeners) {
+            try {
+                evaluate(listenerId, now);
+            } catch (RuntimeException e) {
+                log.warn("Autoscaling check failed for listener {}: {}", listenerId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Sample the lag of one listener and resize it if needed
+     */
+    void evaluate(String listenerId, long now) {
+        MessageListenerContainer listener = endpointRegistry.getListenerContainer(listenerId);
+        if (!(listener instanceof ConcurrentMessageListenerContainer<?, ?> container) || !container.isRunning()) {
+            return;
+        }
+        String[] topics = container.getContainerProperties().getTopics();
+        if (topics == null || topics.length == 0) {
+            return;
+        }
+
+        ListenerState state = states.computeIfAbsent(listenerId, this::registerGauges);
+        ConsumerLagReader.GroupLag lag = lagReader.read(container.getGroupId(), List.of(topics));
+        state.sample(lag, now);
+        state.concurrency = container.getConcurrency();
+
+        int nodes = lag.nodes();
+        int desired = desiredConcurrency(lag.lag(), nodes);
+        int partitions = lag.totalPartitions();
+        if (now - state.lastScaledAt < cooldown.toMillis()) {
+            return;
+        }
+        if (growPartitions && desired * nodes > partitions && partitions < maxPartitions * lag.partitions().size()) {
+            partitions = grow(lag, Math.min(desired * nodes, maxPartitions));
+        }
+
+        int target = Math.max(minConcurrency, Math.min(desired, (partitions + nodes - 1) / nodes));
+        if (target == state.concurrency) {
+            return;
+        }
+        log.info("Scaling listener {} from {} to {} consumers (lag {}, {} partitions, {} nodes, {} records/s)",
+                listenerId, state.concurrency, target, lag.lag(), partitions, nodes, String.format("%.1f", state.rate));
+        container.stop();
+        container.setConcurrency(target);
+        container.start();
+        state.concurrency = target;
+        state.lastScaledAt = now;
+    }
+
+    /**
+     * Consumers this node should run for the group-wide lag
+     */
+    int desiredConcurrency(long lag, int nodes) {
+        long needed = (lag + lagPerConsumer - 1) / lagPerConsumer;
+        int share = (int) Math.min(Integer.MAX_VALUE, (needed + nodes - 1) / nodes);
+        return Math.max(minConcurrency, Math.min(maxConcurrency, share));
+    }
+
+    private int grow(ConsumerLagReader.GroupLag lag, int partitionsPerTopic) {
+        int total = 0;
+        for (Map.Entry<String, Integer> topic : lag.partitions().entrySet()) {
+            if (topic.getValue() < partitionsPerTopic) {
+                log.info("Growing topic {} from {} to {} partitions", topic.getKey(), topic.getValue(), partitionsPerTopic);
+                lagReader.growPartitions(topic.getKey(), partitionsPerTopic);
+            }
+            total += Math.max(topic.getValue(), partitionsPerTopic);
+        }
+        return total;
+    }
+
+    private ListenerState registerGauges(String listenerId) {
+        ListenerState state = new ListenerState();
+        Gauge.builder("workspaceflow.kafka.consumer.lag", state, s -> s.lag)
+                .tag("listener", listenerId)
+                .description("Records behind the end of the listener's topics")
+                .register(meterRegistry);
+        Gauge.builder("workspaceflow.kafka.consumer.rate", state, s -> s.rate)
+                .tag("listener", listenerId)
+                .description("Records committed per second over the last interval")
+                .baseUnit("records/s")
+                .register(meterRegistry);
+        Gauge.builder("workspaceflow.kafka.listener.concurrency", state, s -> s.concurrency)
+                .tag("listener", listenerId)
+                .register(meterRegistry);
+        return state;
+    }
+
+    private static class ListenerState {
+
+        private volatile long lag;
+        private volatile double rate;
+        private volatile int concurrency;
+        private long lastConsumed = -1;
+        private long lastSampledAt;
+        private long lastScaledAt;
+
+        void sample(ConsumerLagReader.GroupLag sample, long now) {
+            lag = sample.lag();
+            if (lastConsumed >= 0 && now > lastSampledAt) {
+                rate = Math.max(0, sample.consumed() - lastConsumed) * 1000.0 / (now - lastSampledAt);
+            }
+            lastConsumed = sample.consumed();
+            lastSampledAt = now;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.workspaceflow.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Notification event model for Kafka events, keyed by recipient so all notifications of a
+ * recipient reach the same consumer and can be coalesced into one digest
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationEvent {
+
+    private String type;
+    private String recipient;
+    private String taskId;
+    private String instanceId;
+    private String workflowId;
+    private String subject;
+    private LocalDateTime timestamp;
+
+    // Event types
+    public static final String TASK_ASSIGNED = "TASK_ASSIGNED";
+    public static final String TASK_DUE = "TASK_DUE";
+    public static final String INSTANCE_COMPLETED = "INSTANCE_COMPLETED";
+
+    /**
+     * Recipient of notifications for unassigned tasks: everyone holding the role
+     */
+    public static String roleRecipient(String role) {
+        return role != null ? "role:" + role : null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.workspaceflow.event;
+
+import com.workspaceflow.service.NotificationDigester;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Kafka consumer for notification events. Notifications are collected into per-recipient
+ * digests; the offset is committed once the digest holding the record was delivered.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationEventConsumer {
+
+    private final NotificationDigester notificationDigester;
+
+    @KafkaListener(id = "notification-consumer", topics = "notification.events", groupId = "notification-consumer-group", containerFactory = "kafkaListenerContainerFactory")
+    public CompletableFuture<Void> consumeNotificationEvent(
+            @Payload NotificationEvent event,
+            @Header(KafkaHeaders.RECEIVED_KEY) String key) {
+
+        log.debug("Received notification {} for {}", event.getType(), event.getRecipient());
+        if (event.getRecipient() == null) {
+            event.setRecipient(key);
+        }
+        return notificationDigester.add(event);
+    }
+}
@@ -0,0 +1,140 @@
+package com.workspaceflow.event;
+
+import com.workspaceflow.model.entity.OutboxEvent;
+import com.workspaceflow.repository.OutboxEventRepository;
+import com.workspaceflow.service.LeaseService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relays outbox events to Kafka in batches, ordered by {@code _id}.
+ *
+ * A batch is sent without waiting per record, then the acks are awaited and the
+ * longest acknowledged prefix is marked published. Anything after the first
+ * failure is retried on the next poll, so delivery is at-least-once.
+ * <p>
+ * Only the node holding the {@value #LEASE} lease relays; the lease is renewed
+ * before every batch, so lease-ttl must exceed the time a batch can take
+ * (send-timeout-ms).
+ * <p>
+ * The ObjectId is assigned by the writing node at insert, not at commit. Events
+ * of one node are relayed in the order they were appended, but a transaction
+ * that commits late is relayed after events with higher ids, and events of
+ * different nodes appended within the same second are not ordered. Per-key
+ * order therefore only holds while all writes of a key come from one node.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${workspaceflow.events.mode:direct}' == 'outbox' and ${workspaceflow.outbox.relay-enabled:true}")
+public class OutboxRelay {
+
+    static final String LEASE = "outbox-relay";
+
+    private final OutboxEventRepository outboxRepository;
+    private final MongoTemplate mongoTemplate;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final LeaseService leaseService;
+
+    @Value("${workspaceflow.outbox.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${workspaceflow.outbox.send-timeout-ms:30000}")
+    private long sendTimeoutMs = 30000;
+
+    @Value("${workspaceflow.outbox.lease-ttl:PT1M}")
+    private Duration leaseTtl = Duration.ofMinutes(1);
+
+    @Scheduled(fixedDelayString = "${workspaceflow.outbox.poll-interval:PT0.2S}")
+    public void relay() {
+        int published;
+        do {
+            if (!leaseService.tryAcquire(LEASE, leaseTtl)) {
+                return;
+            }
+            published = relayBatch();
+        } while (published == batchSize);
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        leaseService.release(LEASE);
+    }
+
+    /**
+     * Publish one batch; returns the number of events marked published
+     */
+    int relayBatch() {
+        List<OutboxEvent> batch = outboxRepository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, Object>>> futures;
+        if (kafkaTemplate.isTransactional()) {
+            // Exactly-once mode: the batch commits or aborts as a whole, so a failed commit leaves it all pending
+            try {
+                futures = kafkaTemplate.executeInTransaction(operations -> sendAll(operations, batch));
+            } catch (RuntimeException e) {
+                log.error("Failed to commit outbox batch of {} events; retrying on next poll", batch.size(), e);
+                return 0;
+            }
+        } else {
+            futures = sendAll(kafkaTemplate, batch);
+            kafkaTemplate.flush();
+        }
+
+        List<String> acknowledged = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                futures.get(i).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                acknowledged.add(batch.get(i).getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Failed to relay outbox event {} to topic {}; retrying from it on next poll",
+                        batch.get(i).getId(), batch.get(i).getTopic(), e);
+                break;
+            }
+        }
+
+        if (!acknowledged.isEmpty()) {
+            mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("_id").in(acknowledged)),
+                    Update.update("publishedAt", LocalDateTime.now()),
+                    OutboxEvent.class);
+            log.debug("Relayed {} outbox events", acknowledged.size());
+        }
+        return acknowledged.size();
+    }
+
+    private static List<CompletableFuture<SendResult<String, Object>>> sendAll(
+            KafkaOperations<String, Object> operations, List<OutboxEvent> batch) {
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            futures.add(operations.send(event.getTopic(), event.getKey(), event.getPayload()));
+        }
+        return futures;
+    }
+}
@@ -0,0 +1,68 @@
+package com.workspaceflow.event;
+
+import com.workspaceflow.model.entity.OutboxEvent;
+import com.workspaceflow.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Appends events to the outbox collection. Called from within the service
+ * transaction, so the event is committed if and only if the entity change is.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "workspaceflow.events.mode", havingValue = "outbox")
+public class OutboxService {
+
+    private final OutboxEventRepository outboxRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${workspaceflow.outbox.retention:P7D}")
+    private Duration retention;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        try {
+            // Relay poll: unpublished events in insertion order
+            mongoTemplate.indexOps(OutboxEvent.class).ensureIndex(new Index()
+                    .on("publishedAt", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.ASC)
+                    .named("published_id"));
+
+            // Published events are purged after the retention period
+            mongoTemplate.indexOps(OutboxEvent.class).ensureIndex(new Index()
+                    .on("publishedAt", Sort.Direction.ASC)
+                    .expire(retention)
+                    .named("published_ttl"));
+        } catch (RuntimeException e) {
+            log.warn("Could not create the outbox indexes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Append an event to the outbox
+     */
+    public void append(String topic, String key, Object event) {
+        outboxRepository.insert(OutboxEvent.builder()
+                .topic(topic)
+                .key(key)
+                .payload(event)
+                .createdAt(LocalDateTime.now())
+                .build());
+        log.debug("Event appended to outbox for topic: {} with key: {}", topic, key);
+    }
+}
@@ -0,0 +1,217 @@
+package com.workspaceflow.event;
+
+import com.workspaceflow.exception.PublishCapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Publishing mode of {@link EventProducer} (workspaceflow.events.publish.mode):
+ * <ul>
+ *     <li>fire-and-forget: hand the event to the producer and only log failures</li>
+ *     <li>await-ack: block the request until the broker acknowledges, up to ack-timeout</li>
+ *     <li>bounded-async: like fire-and-forget, but at most max-in-flight unacknowledged sends</li>
+ * </ul>
+ * In the bounded modes {@link #ensureCapacity()} rejects a request with
+ * {@link PublishCapacityExceededException} (503) when no capacity frees up within acquire-timeout,
+ * so a slow broker fails requests fast instead of parking request threads in a full producer
+ * buffer for max.block.ms. It is an admission check made before the request writes anything and
+ * holds no capacity for the request's events; those take a free slot when they are sent, and
+ * once the change is stored they are always sent, past max-in-flight if need be.
+ */
+@Slf4j
+@Component
+public class PublishBackpressure {
+
+    public enum Mode {
+        FIRE_AND_FORGET,
+        AWAIT_ACK,
+        BOUNDED_ASYNC;
+
+        static Mode of(String name) {
+            return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final Mode mode;
+    private final int maxInFlight;
+    private final Duration acquireTimeout;
+    private final Duration ackTimeout;
+    private final MeterRegistry meterRegistry;
+
+    private final Semaphore permits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private final Counter overflowed;
+
+    /**
+     * Reading producer metrics creates the producer, so the buffer gauge waits for the first send
+     */
+    private volatile boolean sending;
+
+    public PublishBackpressure(KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${workspaceflow.events.publish.mode:bounded-async}") String mode,
+            @Value("${workspaceflow.events.publish.max-in-flight:10000}") int maxInFlight,
+            @Value("${workspaceflow.events.publish.acquire-timeout:PT0.1S}") Duration acquireTimeout,
+            @Value("${workspaceflow.events.publish.ack-timeout:PT5S}") Duration ackTimeout,
+            MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.mode = Mode.of(mode);
+        this.maxInFlight = maxInFlight;
+        this.acquireTimeout = acquireTimeout;
+        this.ackTimeout = ackTimeout;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(maxInFlight);
+        this.rejected = Counter.builder("workspaceflow.events.publish.rejected")
+                .description("Events rejected because publishing capacity was exhausted")
+                .register(meterRegistry);
+        this.overflowed = Counter.builder("workspaceflow.events.publish.overflow")
+                .description("Events sent past max-in-flight because their change was already stored")
+                .register(meterRegistry);
+        Gauge.builder("workspaceflow.events.publish.in-flight", inFlight, AtomicInteger::get)
+                .description("Events handed to the producer and not yet acknowledged")
+                .register(meterRegistry);
+        Gauge.builder("workspaceflow.events.publish.buffer-available-bytes", this, PublishBackpressure::bufferAvailableBytes)
+                .description("Free bytes in the producer's record buffer")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        log.info("Event publishing mode {}, max in flight {}", this.mode, maxInFlight);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Throw PublishCapacityExceededException unless a send could start within acquire-timeout;
+     * call before writing anything the events describe. Nothing is reserved: the slot is
+     * returned at once, and the request's sends compete for capacity when they publish.
+     */
+    public void ensureCapacity() {
+        if (mode == Mode.FIRE_AND_FORGET) {
+            return;
+        }
+        if (!awaitPermit()) {
+            rejected.increment();
+            throw new PublishCapacityExceededException(
+                    "Event publishing capacity exhausted: " + maxInFlight + " events in flight");
+        }
+        permits.release();
+    }
+
+    /**
+     * Run a send under the publishing mode. The change the event describes is already stored,
+     * so nothing is rejected or waited for here: without a free slot the send goes past
+     * max-in-flight, and in await-ack mode a missing acknowledgement is only logged.
+     */
+    public void publish(String topic, String key, Supplier<CompletableFuture<SendResult<String, Object>>> send) {
+        boolean permitted = mode != Mode.FIRE_AND_FORGET && permits.tryAcquire();
+        if (mode != Mode.FIRE_AND_FORGET && !permitted) {
+            overflowed.increment();
+            log.warn("Event publishing capacity exhausted, sending event {} to {} past max in flight", key, topic);
+        }
+        long started = System.nanoTime();
+        inFlight.incrementAndGet();
+        sending = true;
+
+        CompletableFuture<SendResult<String, Object>> sent;
+        try {
+            sent = send.get();
+        } catch (RuntimeException e) {
+            completed(topic, key, started, permitted, e);
+            throw e;
+        }
+        CompletableFuture<SendResult<String, Object>> acknowledged =
+                sent.whenComplete((result, e) -> completed(topic, key, started, permitted, e));
+
+        if (mode == Mode.AWAIT_ACK) {
+            awaitAck(acknowledged, topic, key);
+        }
+    }
+
+    private boolean awaitPermit() {
+        try {
+            return permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void completed(String topic, String key, long started, boolean permitted, Throwable failure) {
+        inFlight.decrementAndGet();
+        if (permitted) {
+            permits.release();
+        }
+        Timer.builder("workspaceflow.events.publish.latency")
+                .description("Time from send to broker acknowledgement")
+                .tag("topic", topic)
+                .tag("outcome", failure == null ? "success" : "failure")
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        if (failure == null) {
+            log.debug("Event sent successfully to topic: {} with key: {}", topic, key);
+        } else {
+            log.error("Failed to send event to topic: {} with key: {}", topic, key, failure);
+        }
+    }
+
+    /**
+     * Failures are logged by completed; the request has nothing left to undo, so it only waits
+     */
+    private void awaitAck(CompletableFuture<SendResult<String, Object>> acknowledged, String topic, String key) {
+        try {
+            acknowledged.get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("No acknowledgement within {} for event {} on {}, still sending", ackTimeout, key, topic);
+        } catch (ExecutionException e) {
+            // Logged by completed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * buffer-available-bytes of the template's producer, NaN before it exists
+     */
+    double bufferAvailableBytes() {
+        if (!sending) {
+            return Double.NaN;
+        }
+        try {
+            for (Map.Entry<MetricName, ? extends Metric> metric : kafkaTemplate.metrics().entrySet()) {
+                if ("buffer-available-bytes".equals(metric.getKey().name())
+                        && metric.getValue().metricValue() instanceof Number bytes) {
+                    return bytes.doubleValue();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("Producer metrics unavailable: {}", e.getMessage());
+        }
+        return Double.NaN;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Map;
 
@@ -29,4 +30,44 @@ public class TaskEvent {
     public static final String TASK_ASSIGNED = "TASK_ASSIGNED";
     public static final String TASK_COMPLETED = "TASK_COMPLETED";
     public static final String TASK_REJECTED = "TASK_REJECTED";
+
+    // Payload keys of every task event, used by the throughput aggregation
+    public static final String WORKFLOW_ID = "workflowId";
+    public static final String ASSIGNEE_ROLE = "assigneeRole";
+
+    // TASK_COMPLETED payload keys used by the live step duration sketches
+    public static final String STEP_ID = "stepId";
+    public static final String WAIT_MILLIS = "waitMillis";
+    public static final String WORK_MILLIS = "workMillis";
+
+    /**
+     * Add the task's workflow and role to an event payload
+     */
+    public static Map<String, Object> putWorkflow(Map<String, Object> payload, String workflowId, String assigneeRole) {
+        if (workflowId != null) {
+            payload.put(WORKFLOW_ID, workflowId);
+        }
+        if (assigneeRole != null) {
+            payload.put(ASSIGNEE_ROLE, assigneeRole);
+        }
+        return payload;
+    }
+
+    /**
+     * Add the step and its wait and work durations to a TASK_COMPLETED payload
+     */
+    public static void putDurations(Map<String, Object> payload, String workflowId, String stepId,
+            LocalDateTime createdAt, LocalDateTime assignedAt, LocalDateTime completedAt) {
+        if (workflowId == null || stepId == null) {
+            return;
+        }
+        payload.put(WORKFLOW_ID, workflowId);
+        payload.put(STEP_ID, stepId);
+        if (createdAt != null && assignedAt != null) {
+            payload.put(WAIT_MILLIS, Duration.between(createdAt, assignedAt).toMillis());
+        }
+        if (assignedAt != null && completedAt != null) {
+            payload.put(WORK_MILLIS, Duration.between(assignedAt, completedAt).toMillis());
+        }
+    }
 }
@@ -1,25 +1,54 @@
 package com.workspaceflow.event;
 
+import com.workspaceflow.event.serialization.HeaderFilter;
+import com.workspaceflow.service.StepSketchService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 /**
- * Kafka consumer for task events
+ * Kafka consumer for task events. Events are processed in order per instance and in
+ * parallel across instances; the offset is committed once the returned future completes.
+ * Only TASK_COMPLETED payloads are deserialized (for the step duration sketches); the other
+ * types are logged from their header envelope.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class TaskEventConsumer {
 
-    @KafkaListener(topics = "task.events", groupId = "task-consumer-group", containerFactory = "kafkaListenerContainerFactory")
-    public void consumeTaskEvent(
-            @Payload TaskEvent event,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+    private final StepSketchService stepSketchService;
+    private final KeyedOrderedExecutor keyedOrderedExecutor;
+
+    @KafkaListener(id = "task-consumer", topics = "task.events", groupId = "task-consumer-group", containerFactory = "kafkaListenerContainerFactory",
+            properties = {
+                    HeaderFilter.ACCEPT_TYPES_CONFIG + "=" + TaskEvent.TASK_COMPLETED,
+                    HeaderFilter.ROUTE_TYPES_CONFIG + "=" + TaskEvent.TASK_CREATED + "," + TaskEvent.TASK_ASSIGNED + "," + TaskEvent.TASK_REJECTED
+            })
+    public CompletableFuture<Void> consumeTaskEvent(ConsumerRecord<String, Object> record) {
+        return consume(record.value(), record.key(), record.topic());
+    }
 
+    /**
+     * Handles a record value; the in-process event bus delivers here directly
+     */
+    CompletableFuture<Void> consume(Object value, String key, String topic) {
+        if (value instanceof EventEnvelope envelope) {
+            log.info("Received task event from topic {}: type={}, instanceId={} (headers only)",
+                    topic, envelope.type(), envelope.instanceId());
+            return CompletableFuture.completedFuture(null);
+        }
+        TaskEvent event = (TaskEvent) value;
+        String instanceId = event.getInstanceId() != null ? event.getInstanceId() : key;
+        return keyedOrderedExecutor.submit(instanceId, () -> process(event, topic));
+    }
+
+    private void process(TaskEvent event, String topic) {
         try {
             log.info("Received task event from topic {}: type={}, taskId={}",
                     topic, event.getType(), event.getTaskId());
@@ -34,6 +63,7 @@ public class TaskEventConsumer {
                     break;
                 case TaskEvent.TASK_COMPLETED:
                     log.info("Task completed: {}", event.getTaskId());
+                    recordDurations(event.getPayload());
                     break;
                 case TaskEvent.TASK_REJECTED:
                     log.warn("Task rejected: {}", event.getTaskId());
@@ -47,4 +77,15 @@ public class TaskEventConsumer {
             throw e; // Re-throw to trigger retry mechanism
         }
     }
+
+    private void recordDurations(Map<String, Object> payload) {
+        if (payload == null || payload.get(TaskEvent.WORKFLOW_ID) == null || payload.get(TaskEvent.STEP_ID) == null) {
+            return;
+        }
+        stepSketchService.record(
+                String.valueOf(payload.get(TaskEvent.WORKFLOW_ID)),
+                String.valueOf(payload.get(TaskEvent.STEP_ID)),
+                payload.get(TaskEvent.WAIT_MILLIS) instanceof Number wait ? wait.longValue() : null,
+                payload.get(TaskEvent.WORK_MILLIS) instanceof Number work ? work.longValue() : null);
+    }
 }
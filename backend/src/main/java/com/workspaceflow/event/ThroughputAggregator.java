@@ -0,0 +1,319 @@
+package com.workspaceflow.event;
+
+import com.workspaceflow.config.KafkaTopicConfig;
+import com.workspaceflow.event.ThroughputWindows.GroupKey;
+import com.workspaceflow.event.ThroughputWindows.Metric;
+import com.workspaceflow.model.dto.ThroughputResponse;
+import com.workspaceflow.model.entity.Task;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Streaming aggregation of workflow.events and task.events into per-minute windows: tasks
+ * created and completed per workflow and role, instances started and completed per workflow,
+ * and the current task backlog. The dashboard queries it instead of Mongo.
+ * <p>
+ * Every node assigns itself all partitions of both topics, so each node holds the full
+ * aggregate. It does not join a consumer group and never commits offsets, so no per-node
+ * groups are left behind: each partition starts one retention period back, rebuilding the
+ * windows after a restart. Partitions are looked up when the node starts (retried until Kafka
+ * answers); partitions added later are read after the next restart. The backlog is seeded
+ * once from the open tasks in Mongo and then
+ * follows the events published after the seed. The container is created programmatically
+ * so the retry-topic configuration of the event listeners does not apply to it, and started
+ * with the application context rather than during bean initialization. In in-process mode it
+ * subscribes to the {@link InProcessEventBus} instead and starts without history.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThroughputAggregator implements SmartLifecycle {
+
+    private static final Duration METADATA_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration METADATA_RETRY = Duration.ofSeconds(10);
+
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${workspaceflow.throughput.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${workspaceflow.throughput.retention:PT1H}")
+    private Duration retention = Duration.ofHours(1);
+
+    @Value("${workspaceflow.throughput.group-id:throughput-aggregator}")
+    private String groupId = "throughput-aggregator";
+
+    /**
+     * Present only in in-process mode; events are then followed on the bus instead of Kafka
+     */
+    @Autowired(required = false)
+    private InProcessEventBus inProcessEventBus;
+
+    private ThroughputWindows windows;
+    private KafkaMessageListenerContainer<String, Object> container;
+
+    /**
+     * Record timestamp (ms) from which events change the backlog seeded from Mongo
+     */
+    private volatile long backlogSince;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void createWindows() {
+        windows = new ThroughputWindows(retention.toMinutes());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (!enabled) {
+            return;
+        }
+        backlogSince = System.currentTimeMillis();
+        try {
+            windows.seedBacklog(openTasks());
+        } catch (RuntimeException e) {
+            log.warn("Could not seed the task backlog from Mongo, it only follows new events: {}", e.getMessage());
+        }
+
+        if (inProcessEventBus != null) {
+            // No log to rewind: the windows fill from startup on
+            inProcessEventBus.subscribe(KafkaTopicConfig.WORKFLOW_EVENTS, "throughput-aggregator", this::onBusEvent);
+            inProcessEventBus.subscribe(KafkaTopicConfig.TASK_EVENTS, "throughput-aggregator", this::onBusEvent);
+            log.info("Throughput aggregation started on the in-process event bus");
+            return;
+        }
+        Thread.ofVirtual().name("throughput-aggregator-start").start(this::startContainer);
+    }
+
+    /**
+     * Look up the partitions, retrying until Kafka answers, then start reading all of them
+     */
+    private void startContainer() {
+        while (running) {
+            long since = System.currentTimeMillis() - retention.toMillis();
+            try (Consumer<String, Object> consumer = consumerFactory.createConsumer(groupId, "-metadata")) {
+                TopicPartitionOffset[] partitions = assignment(consumer, since);
+                ContainerProperties properties = new ContainerProperties(partitions);
+                properties.setGroupId(groupId);
+                // Never acknowledged: no offsets are committed for the group
+                properties.setAckMode(ContainerProperties.AckMode.MANUAL);
+                properties.getKafkaConsumerProperties().setProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+                properties.setMessageListener((MessageListener<String, Object>) this::onRecord);
+                synchronized (this) {
+                    if (!running) {
+                        return;
+                    }
+                    container = new KafkaMessageListenerContainer<>(consumerFactory, properties);
+                    container.setBeanName("throughput-aggregator");
+                    container.start();
+                }
+                log.info("Throughput aggregation started: {} partitions, {} of history", partitions.length, retention);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Could not look up the event topic partitions, retrying in {}: {}",
+                        METADATA_RETRY, e.getMessage());
+                try {
+                    Thread.sleep(METADATA_RETRY);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * All partitions of the event topics, each starting at the first record since the given time
+     */
+    static TopicPartitionOffset[] assignment(Consumer<?, ?> consumer, long since) {
+        List<TopicPartitionOffset> partitions = new ArrayList<>();
+        for (String topic : List.of(KafkaTopicConfig.WORKFLOW_EVENTS, KafkaTopicConfig.TASK_EVENTS)) {
+            List<PartitionInfo> infos = consumer.partitionsFor(topic, METADATA_TIMEOUT);
+            if (infos == null || infos.isEmpty()) {
+                throw new IllegalStateException("No partitions found for topic " + topic);
+            }
+            infos.forEach(info -> partitions.add(new TopicPartitionOffset(topic, info.partition(), since,
+                    TopicPartitionOffset.SeekPosition.TIMESTAMP)));
+        }
+        return partitions.toArray(TopicPartitionOffset[]::new);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (container != null) {
+            container.stop();
+            container = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Windows of the last minutes and the current backlog, optionally for one workflow and/or role
+     */
+    public ThroughputResponse query(int minutes, String workflowId, String role) {
+        long window = Math.max(1, Math.min(minutes, retention.toMinutes()));
+        long toMinute = epochMinute(LocalDateTime.now());
+        long fromMinute = toMinute - window + 1;
+
+        List<ThroughputResponse.Window> rows = windows.windowsSince(fromMinute, workflowId, role).stream()
+                .map(counts -> ThroughputResponse.Window.builder()
+                        .minute(toLocalDateTime(counts.epochMinute()))
+                        .workflowId(counts.key().workflowId())
+                        .role(counts.key().role())
+                        .tasksCreated(counts.counts().get(Metric.TASKS_CREATED))
+                        .tasksCompleted(counts.counts().get(Metric.TASKS_COMPLETED))
+                        .instancesStarted(counts.counts().get(Metric.INSTANCES_STARTED))
+                        .instancesCompleted(counts.counts().get(Metric.INSTANCES_COMPLETED))
+                        .build())
+                .sorted(Comparator.comparing(ThroughputResponse.Window::getMinute))
+                .toList();
+        List<ThroughputResponse.Backlog> backlog = windows.backlog(workflowId, role).entrySet().stream()
+                .map(entry -> ThroughputResponse.Backlog.builder()
+                        .workflowId(entry.getKey().workflowId())
+                        .role(entry.getKey().role())
+                        .openTasks(Math.max(0, entry.getValue()))
+                        .build())
+                .toList();
+
+        return ThroughputResponse.builder()
+                .from(toLocalDateTime(fromMinute))
+                .to(toLocalDateTime(toMinute + 1))
+                .windows(rows)
+                .backlog(backlog)
+                .build();
+    }
+
+    void onRecord(ConsumerRecord<String, Object> record) {
+        try {
+            aggregate(record.value(), record.timestamp());
+        } catch (RuntimeException e) {
+            log.warn("Skipping {} record at offset {} in throughput aggregation: {}",
+                    record.topic(), record.offset(), e.getMessage());
+        }
+    }
+
+    CompletableFuture<Void> onBusEvent(Object event, String key, String topic) {
+        try {
+            aggregate(event, System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.warn("Skipping {} event {} in throughput aggregation: {}", topic, key, e.getMessage());
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void aggregate(Object value, long timestamp) {
+        if (value instanceof TaskEvent event) {
+            onTaskEvent(event, timestamp);
+        } else if (value instanceof WorkflowEvent event) {
+            onWorkflowEvent(event, timestamp);
+        }
+    }
+
+    private void onTaskEvent(TaskEvent event, long recordTimestamp) {
+        Map<String, Object> payload = event.getPayload() != null ? event.getPayload() : Map.of();
+        GroupKey key = new GroupKey(stringOrNull(payload.get(TaskEvent.WORKFLOW_ID)),
+                stringOrNull(payload.get(TaskEvent.ASSIGNEE_ROLE)));
+        long minute = eventMinute(event.getTimestamp(), recordTimestamp);
+        boolean affectsBacklog = recordTimestamp >= backlogSince;
+
+        switch (event.getType()) {
+            case TaskEvent.TASK_CREATED -> {
+                windows.record(minute, key, Metric.TASKS_CREATED);
+                if (affectsBacklog) {
+                    windows.adjustBacklog(key, 1);
+                }
+            }
+            case TaskEvent.TASK_COMPLETED -> {
+                windows.record(minute, key, Metric.TASKS_COMPLETED);
+                if (affectsBacklog) {
+                    windows.adjustBacklog(key, -1);
+                }
+            }
+            case TaskEvent.TASK_REJECTED -> {
+                if (affectsBacklog) {
+                    windows.adjustBacklog(key, -1);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void onWorkflowEvent(WorkflowEvent event, long recordTimestamp) {
+        GroupKey key = new GroupKey(event.getWorkflowId(), null);
+        long minute = eventMinute(event.getTimestamp(), recordTimestamp);
+        switch (event.getType()) {
+            case WorkflowEvent.INSTANCE_STARTED -> windows.record(minute, key, Metric.INSTANCES_STARTED);
+            case WorkflowEvent.INSTANCE_COMPLETED -> windows.record(minute, key, Metric.INSTANCES_COMPLETED);
+            default -> {
+            }
+        }
+    }
+
+    private Map<GroupKey, Long> openTasks() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("status").in(Task.TaskStatus.CREATED.name(), Task.TaskStatus.ASSIGNED.name())),
+                Aggregation.group("workflowId", "assigneeRole").count().as("count"));
+
+        Map<GroupKey, Long> open = new HashMap<>();
+        for (Document row : mongoTemplate.aggregate(aggregation, "tasks", Document.class).getMappedResults()) {
+            Document key = row.get("_id", Document.class);
+            open.put(new GroupKey(key.getString("workflowId"), key.getString("assigneeRole")),
+                    ((Number) row.get("count")).longValue());
+        }
+        return open;
+    }
+
+    private static long eventMinute(LocalDateTime timestamp, long recordTimestamp) {
+        return timestamp != null ? epochMinute(timestamp) : recordTimestamp / 60_000;
+    }
+
+    private static long epochMinute(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toEpochSecond() / 60;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMinute) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochMinute * 60), ZoneId.systemDefault());
+    }
+
+    private static String stringOrNull(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
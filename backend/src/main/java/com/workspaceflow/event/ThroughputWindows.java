@@ -0,0 +1,112 @@
+package com.workspaceflow.event;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory state store of {@link ThroughputAggregator}: per-minute tumbling windows of event
+ * counts for each workflow and role, plus the running open task count (backlog).
+ * Minutes older than the retention behind the latest one seen are dropped.
+ */
+public class ThroughputWindows {
+
+    public enum Metric {
+        TASKS_CREATED,
+        TASKS_COMPLETED,
+        INSTANCES_STARTED,
+        INSTANCES_COMPLETED
+    }
+
+    /**
+     * Aggregation key; role is null for instance metrics and for tasks without a role
+     */
+    public record GroupKey(String workflowId, String role) {
+    }
+
+    /**
+     * Counts of one window for one key
+     */
+    public record WindowCounts(long epochMinute, GroupKey key, Map<Metric, Long> counts) {
+    }
+
+    private final long retentionMinutes;
+    private final NavigableMap<Long, Map<GroupKey, Map<Metric, LongAdder>>> windows = new ConcurrentSkipListMap<>();
+    private final Map<GroupKey, LongAdder> backlog = new ConcurrentHashMap<>();
+
+    public ThroughputWindows(long retentionMinutes) {
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    /**
+     * Count an event in the window of its minute; late events beyond the retention are ignored
+     */
+    public void record(long epochMinute, GroupKey key, Metric metric) {
+        long latest = windows.isEmpty() ? epochMinute : Math.max(windows.lastKey(), epochMinute);
+        if (epochMinute <= latest - retentionMinutes) {
+            return;
+        }
+        windows.computeIfAbsent(epochMinute, minute -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> newCounters())
+                .get(metric)
+                .increment();
+        windows.headMap(latest - retentionMinutes, true).clear();
+    }
+
+    private static Map<Metric, LongAdder> newCounters() {
+        Map<Metric, LongAdder> counters = new EnumMap<>(Metric.class);
+        for (Metric metric : Metric.values()) {
+            counters.put(metric, new LongAdder());
+        }
+        return counters;
+    }
+
+    public void adjustBacklog(GroupKey key, long delta) {
+        backlog.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * Replace the backlog with counts taken from the task store
+     */
+    public void seedBacklog(Map<GroupKey, Long> openTasks) {
+        backlog.clear();
+        openTasks.forEach(this::adjustBacklog);
+    }
+
+    /**
+     * Windows from the given minute on, optionally for one workflow and/or role, oldest first
+     */
+    public List<WindowCounts> windowsSince(long fromEpochMinute, String workflowId, String role) {
+        List<WindowCounts> result = new ArrayList<>();
+        windows.tailMap(fromEpochMinute, true).forEach((minute, byKey) -> byKey.forEach((key, adders) -> {
+            if (matches(key, workflowId, role)) {
+                Map<Metric, Long> counts = new EnumMap<>(Metric.class);
+                adders.forEach((metric, adder) -> counts.put(metric, adder.sum()));
+                result.add(new WindowCounts(minute, key, counts));
+            }
+        }));
+        return result;
+    }
+
+    public Map<GroupKey, Long> backlog(String workflowId, String role) {
+        Map<GroupKey, Long> result = new HashMap<>();
+        backlog.forEach((key, open) -> {
+            if (matches(key, workflowId, role)) {
+                result.put(key, open.sum());
+            }
+        });
+        return result;
+    }
+
+    private static boolean matches(GroupKey key, String workflowId, String role) {
+        return (workflowId == null || Objects.equals(workflowId, key.workflowId()))
+                && (role == null || Objects.equals(role, key.role()));
+    }
+}
@@ -1,42 +1,69 @@
 package com.workspaceflow.event;
 
+import com.workspaceflow.event.serialization.HeaderFilter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
- * Kafka consumer for workflow events
+ * Kafka consumer for workflow events. Events are processed in order per instance and in
+ * parallel across instances; the offset is committed once the returned future completes.
+ * The handled types only need the header envelope, so their payloads are never deserialized.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class WorkflowEventConsumer {
 
-    @KafkaListener(topics = "workflow.events", groupId = "workflow-consumer-group", containerFactory = "kafkaListenerContainerFactory")
-    public void consumeWorkflowEvent(
-            @Payload WorkflowEvent event,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+    private final KeyedOrderedExecutor keyedOrderedExecutor;
+
+    @KafkaListener(id = "workflow-consumer", topics = "workflow.events", groupId = "workflow-consumer-group", containerFactory = "kafkaListenerContainerFactory",
+            properties = HeaderFilter.ROUTE_TYPES_CONFIG + "=" + WorkflowEvent.INSTANCE_STARTED + ","
+                    + WorkflowEvent.INSTANCE_COMPLETED + "," + WorkflowEvent.INSTANCE_FAILED)
+    public CompletableFuture<Void> consumeWorkflowEvent(ConsumerRecord<String, Object> record) {
+        return consume(record.value(), record.key(), record.topic());
+    }
+
+    /**
+     * Handles a record value; the in-process event bus delivers here directly
+     */
+    CompletableFuture<Void> consume(Object value, String key, String topic) {
+        String type;
+        String instanceId;
+        if (value instanceof EventEnvelope envelope) {
+            type = envelope.type();
+            instanceId = envelope.instanceId();
+        } else {
+            // Records written without envelope headers are still deserialized
+            WorkflowEvent event = (WorkflowEvent) value;
+            type = event.getType();
+            instanceId = event.getInstanceId();
+        }
+        String orderingKey = instanceId != null ? instanceId : key;
+        return keyedOrderedExecutor.submit(orderingKey, () -> process(type, instanceId, topic));
+    }
 
+    private void process(String type, String instanceId, String topic) {
         try {
-            log.info("Received workflow event from topic {}: type={}, instanceId={}",
-                    topic, event.getType(), event.getInstanceId());
+            log.info("Received workflow event from topic {}: type={}, instanceId={}", topic, type, instanceId);
 
             // Process workflow event based on type
-            switch (event.getType()) {
+            switch (type) {
                 case WorkflowEvent.INSTANCE_STARTED:
-                    log.info("Workflow instance started: {}", event.getInstanceId());
+                    log.info("Workflow instance started: {}", instanceId);
                     break;
                 case WorkflowEvent.INSTANCE_COMPLETED:
-                    log.info("Workflow instance completed: {}", event.getInstanceId());
+                    log.info("Workflow instance completed: {}", instanceId);
                     break;
                 case WorkflowEvent.INSTANCE_FAILED:
-                    log.warn("Workflow instance failed: {}", event.getInstanceId());
+                    log.warn("Workflow instance failed: {}", instanceId);
                     break;
                 default:
-                    log.info("Unknown workflow event type: {}", event.getType());
+                    log.info("Unknown workflow event type: {}", type);
             }
 
         } catch (Exception e) {
@@ -0,0 +1,57 @@
+package com.workspaceflow.event.serialization;
+
+import com.workspaceflow.event.AuditRecord;
+
+/**
+ * Binary schema for {@link AuditRecord}. Version 2 appends the deterministic event id.
+ */
+public class AuditRecordSchema implements EventSchema<AuditRecord> {
+
+    @Override
+    public String subject() {
+        return "audit-record";
+    }
+
+    @Override
+    public int version() {
+        return 2;
+    }
+
+    @Override
+    public String definition(int version) {
+        String fields = "eventType:string,entityType:string,entityId:string,userId:string,timestamp:datetime,payload:map";
+        return version >= 2 ? fields + ",eventId:string" : fields;
+    }
+
+    @Override
+    public Class<AuditRecord> type() {
+        return AuditRecord.class;
+    }
+
+    @Override
+    public void write(AuditRecord event, BinaryEventWriter out) {
+        out.writeString(event.getEventType());
+        out.writeString(event.getEntityType());
+        out.writeString(event.getEntityId());
+        out.writeString(event.getUserId());
+        out.writeDateTime(event.getTimestamp());
+        out.writeMap(event.getPayload());
+        out.writeString(event.getEventId());
+    }
+
+    @Override
+    public AuditRecord read(BinaryEventReader in, int version) {
+        AuditRecord event = AuditRecord.builder()
+                .eventType(in.readString())
+                .entityType(in.readString())
+                .entityId(in.readString())
+                .userId(in.readString())
+                .timestamp(in.readDateTime())
+                .payload(in.readMap())
+                .build();
+        if (version >= 2) {
+            event.setEventId(in.readString());
+        }
+        return event;
+    }
+}
@@ -0,0 +1,107 @@
+package com.workspaceflow.event.serialization;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of the typed Kafka events. A record is a magic byte, the 4-byte
+ * schema id and the fields of that schema version:
+ *
+ * <pre>0x00 | schema id | fields...</pre>
+ *
+ * JSON records always start with '{', so both formats can share a topic during a rollout.
+ */
+public class BinaryEventCodec {
+
+    public static final byte MAGIC = 0x00;
+
+    private static final int HEADER_SIZE = 5;
+
+    private final SchemaRegistry registry;
+    private final Map<Class<?>, WriterSchema> writers = new HashMap<>();
+    private final Map<String, EventSchema<?>> readers = new HashMap<>();
+
+    public BinaryEventCodec(SchemaRegistry registry) {
+        this(registry, releases());
+    }
+
+    /**
+     * Registration order fixes the schema ids of a {@link LocalSchemaRegistry}: only ever append
+     */
+    public BinaryEventCodec(SchemaRegistry registry, List<Release> releases) {
+        this.registry = registry;
+        for (Release release : releases) {
+            EventSchema<?> schema = release.schema();
+            int id = registry.register(schema.subject(), release.version(), schema.definition(release.version()));
+            if (release.version() == schema.version()) {
+                writers.put(schema.type(), new WriterSchema(id, schema));
+            }
+            readers.put(schema.subject(), schema);
+        }
+    }
+
+    /**
+     * Every released schema version, oldest first
+     */
+    public static List<Release> releases() {
+        WorkflowEventSchema workflowEvent = new WorkflowEventSchema();
+        TaskEventSchema taskEvent = new TaskEventSchema();
+        AuditRecordSchema auditRecord = new AuditRecordSchema();
+        return List.of(
+                new Release(workflowEvent, 1),
+                new Release(taskEvent, 1),
+                new Release(auditRecord, 1),
+                new Release(auditRecord, 2));
+    }
+
+    public boolean supports(Object event) {
+        return event != null && writers.containsKey(event.getClass());
+    }
+
+    /**
+     * Encode an event with the current version of its schema, or return null for types without one
+     */
+    public byte[] encode(Object event) {
+        WriterSchema writer = event != null ? writers.get(event.getClass()) : null;
+        if (writer == null) {
+            return null;
+        }
+        BinaryEventWriter out = new BinaryEventWriter(128);
+        out.writeByte(MAGIC);
+        out.writeInt(writer.id());
+        writer.write(event, out);
+        return out.toByteArray();
+    }
+
+    public Object decode(byte[] data) {
+        if (!isBinary(data) || data.length < HEADER_SIZE) {
+            throw new SerializationException("Not a binary event record");
+        }
+        BinaryEventReader in = new BinaryEventReader(data, 1);
+        SchemaRegistry.RegisteredSchema registered = registry.lookup(in.readInt());
+        EventSchema<?> schema = readers.get(registered.subject());
+        if (schema == null || registered.version() > schema.version()) {
+            throw new SerializationException("No reader for event schema " + registered.subject()
+                    + " v" + registered.version());
+        }
+        return schema.read(in, registered.version());
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length > 0 && data[0] == MAGIC;
+    }
+
+    public record Release(EventSchema<?> schema, int version) {
+    }
+
+    private record WriterSchema(int id, EventSchema<?> schema) {
+
+        @SuppressWarnings("unchecked")
+        void write(Object event, BinaryEventWriter out) {
+            ((EventSchema<Object>) schema).write(event, out);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.workspaceflow.event.serialization;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.workspaceflow.event.serialization.BinaryEventWriter.*;
+
+/**
+ * Reads values written by {@link BinaryEventWriter}
+ */
+public class BinaryEventReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryEventReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public int readInt() {
+        require(4);
+        return ((buffer[position++] & 0xFF) << 24)
+                | ((buffer[position++] & 0xFF) << 16)
+                | ((buffer[position++] & 0xFF) << 8)
+                | (buffer[position++] & 0xFF);
+    }
+
+    public long readVarLong() {
+        long zigZag = readUnsignedVarLong();
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+
+    public String readString() {
+        long length = readUnsignedVarLong();
+        if (length == 0) {
+            return null;
+        }
+        int size = toSize(length - 1);
+        require(size);
+        String value = new String(buffer, position, size, StandardCharsets.UTF_8);
+        position += size;
+        return value;
+    }
+
+    public LocalDateTime readDateTime() {
+        return readByte() == 0 ? null : readDateTimeValue();
+    }
+
+    public Map<String, Object> readMap() {
+        long size = readUnsignedVarLong();
+        return size == 0 ? null : readEntries(toSize(size - 1));
+    }
+
+    public Object readValue() {
+        int tag = readByte();
+        return switch (tag) {
+            case TAG_NULL -> null;
+            case TAG_FALSE -> Boolean.FALSE;
+            case TAG_TRUE -> Boolean.TRUE;
+            case TAG_INT -> (int) readVarLong();
+            case TAG_LONG -> readVarLong();
+            case TAG_DOUBLE -> Double.longBitsToDouble(((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL));
+            case TAG_STRING -> readString();
+            case TAG_DATETIME -> readDateTimeValue();
+            case TAG_MAP -> readEntries(toSize(readUnsignedVarLong()));
+            case TAG_LIST -> {
+                int size = toSize(readUnsignedVarLong());
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue());
+                }
+                yield list;
+            }
+            default -> throw new SerializationException("Unknown payload value tag " + tag);
+        };
+    }
+
+    private Map<String, Object> readEntries(int size) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = readString();
+            map.put(key, readValue());
+        }
+        return map;
+    }
+
+    private LocalDateTime readDateTimeValue() {
+        long seconds = readVarLong();
+        int nanos = (int) readUnsignedVarLong();
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    private long readUnsignedVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed varint in event record");
+    }
+
+    private int toSize(long size) {
+        // Every element takes at least one byte, so larger sizes can only come from a corrupt record
+        if (size < 0 || size > buffer.length - position) {
+            throw new SerializationException("Invalid length " + size + " in event record");
+        }
+        return (int) size;
+    }
+
+    private void require(int bytes) {
+        if (position + bytes > buffer.length) {
+            throw new SerializationException("Truncated event record");
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.workspaceflow.event.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Growable buffer for the binary event format: zig-zag varints, length-prefixed UTF-8
+ * strings (length + 1, so 0 means null) and type-tagged payload values
+ */
+public class BinaryEventWriter {
+
+    static final int TAG_NULL = 0;
+    static final int TAG_FALSE = 1;
+    static final int TAG_TRUE = 2;
+    static final int TAG_INT = 3;
+    static final int TAG_LONG = 4;
+    static final int TAG_DOUBLE = 5;
+    static final int TAG_STRING = 6;
+    static final int TAG_DATETIME = 7;
+    static final int TAG_MAP = 8;
+    static final int TAG_LIST = 9;
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryEventWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeInt(int value) {
+        ensureCapacity(4);
+        buffer[position++] = (byte) (value >>> 24);
+        buffer[position++] = (byte) (value >>> 16);
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        long zigZag = (value << 1) ^ (value >> 63);
+        writeUnsignedVarLong(zigZag);
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeUnsignedVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsignedVarLong(bytes.length + 1L);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * Seconds and nanos of the local date-time read as UTC; 0 marks null
+     */
+    public void writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            writeByte(0);
+            return;
+        }
+        writeByte(1);
+        writeVarLong(value.toEpochSecond(ZoneOffset.UTC));
+        writeUnsignedVarLong(value.getNano());
+    }
+
+    public void writeMap(Map<String, ?> map) {
+        if (map == null) {
+            writeUnsignedVarLong(0);
+            return;
+        }
+        writeUnsignedVarLong(map.size() + 1L);
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            writeString(entry.getKey());
+            writeValue(entry.getValue());
+        }
+    }
+
+    /**
+     * Write a payload value. Types without a tag of their own are written as their string form,
+     * as they would be in JSON.
+     */
+    @SuppressWarnings("unchecked")
+    public void writeValue(Object value) {
+        if (value == null) {
+            writeByte(TAG_NULL);
+        } else if (value instanceof Boolean b) {
+            writeByte(b ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writeByte(TAG_INT);
+            writeVarLong(((Number) value).intValue());
+        } else if (value instanceof Long l) {
+            writeByte(TAG_LONG);
+            writeVarLong(l);
+        } else if (value instanceof Double || value instanceof Float) {
+            writeByte(TAG_DOUBLE);
+            writeLong(Double.doubleToRawLongBits(((Number) value).doubleValue()));
+        } else if (value instanceof LocalDateTime dateTime) {
+            writeByte(TAG_DATETIME);
+            writeVarLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+            writeUnsignedVarLong(dateTime.getNano());
+        } else if (value instanceof Map<?, ?> map) {
+            writeByte(TAG_MAP);
+            writeUnsignedVarLong(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(String.valueOf(entry.getKey()));
+                writeValue(entry.getValue());
+            }
+        } else if (value instanceof Collection<?> collection) {
+            writeByte(TAG_LIST);
+            writeUnsignedVarLong(collection.size());
+            for (Object element : collection) {
+                writeValue(element);
+            }
+        } else if (value instanceof Enum<?> e) {
+            writeByte(TAG_STRING);
+            writeString(e.name());
+        } else {
+            writeByte(TAG_STRING);
+            writeString(value.toString());
+        }
+    }
+
+    private void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    private void writeUnsignedVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+}
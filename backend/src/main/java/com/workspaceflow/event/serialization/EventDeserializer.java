@@ -0,0 +1,69 @@
+package com.workspaceflow.event.serialization;
+
+import com.workspaceflow.config.KafkaTopicConfig;
+import com.workspaceflow.event.AuditRecord;
+import com.workspaceflow.event.EventEnvelope;
+import com.workspaceflow.event.NotificationEvent;
+import com.workspaceflow.event.TaskEvent;
+import com.workspaceflow.event.WorkflowEvent;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+/**
+ * Kafka value deserializer accepting both formats: binary records are decoded through
+ * their schema id, JSON records are read as the event type of their topic (a Map elsewhere).
+ * Records the {@link HeaderFilter} routes or drops are not parsed; their value is the
+ * {@link EventEnvelope} read from the headers, carrying the undecoded bytes.
+ */
+public class EventDeserializer implements Deserializer<Object> {
+
+    private final BinaryEventCodec codec;
+    private final HeaderFilter filter;
+    private final Map<String, JsonDeserializer<?>> jsonByTopic = Map.of(
+            KafkaTopicConfig.WORKFLOW_EVENTS, new JsonDeserializer<>(WorkflowEvent.class, false),
+            KafkaTopicConfig.TASK_EVENTS, new JsonDeserializer<>(TaskEvent.class, false),
+            KafkaTopicConfig.AUDIT_EVENTS, new JsonDeserializer<>(AuditRecord.class, false),
+            KafkaTopicConfig.NOTIFICATION_EVENTS, new JsonDeserializer<>(NotificationEvent.class, false));
+    private final JsonDeserializer<Map> jsonMap = new JsonDeserializer<>(Map.class, false);
+
+    public EventDeserializer(BinaryEventCodec codec) {
+        this(codec, HeaderFilter.ACCEPT_ALL);
+    }
+
+    public EventDeserializer(BinaryEventCodec codec, HeaderFilter filter) {
+        this.codec = codec;
+        this.filter = filter;
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return switch (filter.decide(headers)) {
+            case DESERIALIZE -> deserialize(topic, data);
+            case ROUTE -> EventEnvelope.of(headers, data, false);
+            case DROP -> EventEnvelope.of(headers, data, true);
+        };
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (BinaryEventCodec.isBinary(data)) {
+            return codec.decode(data);
+        }
+        return jsonByTopic.getOrDefault(topic, jsonMap).deserialize(topic, data);
+    }
+
+    @Override
+    public void close() {
+        jsonByTopic.values().forEach(JsonDeserializer::close);
+        jsonMap.close();
+    }
+}
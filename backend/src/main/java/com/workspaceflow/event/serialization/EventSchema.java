@@ -0,0 +1,23 @@
+package com.workspaceflow.event.serialization;
+
+/**
+ * Binary layout of one event type. {@link #write} always produces the current version;
+ * {@link #read} must keep accepting every earlier version.
+ */
+public interface EventSchema<T> {
+
+    String subject();
+
+    int version();
+
+    /**
+     * Field list of a version, registered with the schema registry
+     */
+    String definition(int version);
+
+    Class<T> type();
+
+    void write(T event, BinaryEventWriter out);
+
+    T read(BinaryEventReader in, int version);
+}
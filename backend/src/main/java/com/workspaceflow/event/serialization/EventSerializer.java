@@ -0,0 +1,34 @@
+package com.workspaceflow.event.serialization;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * Kafka value serializer writing typed events in the binary format and anything
+ * else (relayed outbox maps, dead letters of unknown shape) as JSON
+ */
+public class EventSerializer implements Serializer<Object> {
+
+    private final BinaryEventCodec codec;
+    private final JsonSerializer<Object> json = new JsonSerializer<>();
+
+    public EventSerializer(BinaryEventCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return codec.supports(data) ? codec.encode(data) : json.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        return codec.supports(data) ? codec.encode(data) : json.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+}
@@ -0,0 +1,73 @@
+package com.workspaceflow.event.serialization;
+
+import com.workspaceflow.event.EventHeaders;
+import org.apache.kafka.common.header.Headers;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Decides from the {@link EventHeaders} envelope whether a record is worth deserializing.
+ * Configured per consumer through consumer properties, e.g. in @KafkaListener(properties):
+ * <ul>
+ *     <li>accept-types: types deserialized into their event class</li>
+ *     <li>route-types: types delivered as a header-only {@link com.workspaceflow.event.EventEnvelope}</li>
+ *     <li>tenant: records of any other tenant are dropped</li>
+ * </ul>
+ * With either type list set, every other type is dropped. Records without envelope headers
+ * (written before the headers existed) are always deserialized.
+ */
+public class HeaderFilter {
+
+    public static final String ACCEPT_TYPES_CONFIG = "workspaceflow.filter.accept-types";
+    public static final String ROUTE_TYPES_CONFIG = "workspaceflow.filter.route-types";
+    public static final String TENANT_CONFIG = "workspaceflow.filter.tenant";
+
+    public static final HeaderFilter ACCEPT_ALL = new HeaderFilter(Set.of(), Set.of(), null);
+
+    public enum Decision {
+        DESERIALIZE,
+        ROUTE,
+        DROP
+    }
+
+    private final Set<String> acceptTypes;
+    private final Set<String> routeTypes;
+    private final String tenant;
+
+    public HeaderFilter(Set<String> acceptTypes, Set<String> routeTypes, String tenant) {
+        this.acceptTypes = acceptTypes;
+        this.routeTypes = routeTypes;
+        this.tenant = tenant;
+    }
+
+    public static HeaderFilter from(Map<String, ?> configs) {
+        Object tenant = configs.get(TENANT_CONFIG);
+        return new HeaderFilter(types(configs.get(ACCEPT_TYPES_CONFIG)), types(configs.get(ROUTE_TYPES_CONFIG)),
+                tenant != null && !tenant.toString().isBlank() ? tenant.toString() : null);
+    }
+
+    private static Set<String> types(Object configured) {
+        if (configured == null) {
+            return Set.of();
+        }
+        return Arrays.stream(configured.toString().split(","))
+                .map(String::trim)
+                .filter(type -> !type.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public Decision decide(Headers headers) {
+        String recordTenant = EventHeaders.read(headers, EventHeaders.TENANT);
+        if (tenant != null && recordTenant != null && !tenant.equals(recordTenant)) {
+            return Decision.DROP;
+        }
+        String type = EventHeaders.read(headers, EventHeaders.TYPE);
+        if (type == null || (acceptTypes.isEmpty() && routeTypes.isEmpty()) || acceptTypes.contains(type)) {
+            return Decision.DESERIALIZE;
+        }
+        return routeTypes.contains(type) ? Decision.ROUTE : Decision.DROP;
+    }
+}
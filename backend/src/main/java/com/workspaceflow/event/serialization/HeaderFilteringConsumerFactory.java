@@ -0,0 +1,29 @@
+package com.workspaceflow.event.serialization;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+import java.util.Map;
+
+/**
+ * Consumer factory giving every consumer its own {@link EventDeserializer} with the
+ * {@link HeaderFilter} of that consumer's properties, including the per-listener overrides of
+ * {@code @KafkaListener(properties = ...)}
+ */
+public class HeaderFilteringConsumerFactory extends DefaultKafkaConsumerFactory<String, Object> {
+
+    private final BinaryEventCodec codec;
+
+    public HeaderFilteringConsumerFactory(Map<String, Object> configs, BinaryEventCodec codec) {
+        super(configs, StringDeserializer::new, () -> new EventDeserializer(codec));
+        this.codec = codec;
+    }
+
+    @Override
+    protected Consumer<String, Object> createRawConsumer(Map<String, Object> configProps) {
+        return new KafkaConsumer<>(configProps, new StringDeserializer(),
+                new EventDeserializer(codec, HeaderFilter.from(configProps)));
+    }
+}
@@ -0,0 +1,44 @@
+package com.workspaceflow.event.serialization;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-process schema registry. Ids follow registration order, so every node that registers
+ * the same schemas in the same order (see {@link BinaryEventCodec}) agrees on them; new
+ * versions must be appended, never inserted. A shared registry client can replace it
+ * behind the same interface.
+ */
+public class LocalSchemaRegistry implements SchemaRegistry {
+
+    private final List<RegisteredSchema> schemas = new ArrayList<>();
+    private final Map<String, RegisteredSchema> bySubjectVersion = new HashMap<>();
+
+    @Override
+    public synchronized int register(String subject, int version, String definition) {
+        String key = subject + ":" + version;
+        RegisteredSchema existing = bySubjectVersion.get(key);
+        if (existing != null) {
+            if (!existing.definition().equals(definition)) {
+                throw new IllegalStateException("Schema " + key + " is already registered with a different definition");
+            }
+            return existing.id();
+        }
+        RegisteredSchema schema = new RegisteredSchema(schemas.size() + 1, subject, version, definition);
+        schemas.add(schema);
+        bySubjectVersion.put(key, schema);
+        return schema.id();
+    }
+
+    @Override
+    public synchronized RegisteredSchema lookup(int schemaId) {
+        if (schemaId < 1 || schemaId > schemas.size()) {
+            throw new SerializationException("Unknown event schema id " + schemaId);
+        }
+        return schemas.get(schemaId - 1);
+    }
+}
@@ -0,0 +1,22 @@
+package com.workspaceflow.event.serialization;
+
+/**
+ * Maps versioned event schemas to the numeric ids carried in binary records
+ */
+public interface SchemaRegistry {
+
+    /**
+     * Register a schema version, returning its id. Registering the same definition again returns the same id.
+     */
+    int register(String subject, int version, String definition);
+
+    /**
+     * Look up a schema by id
+     *
+     * @throws org.apache.kafka.common.errors.SerializationException when the id is unknown
+     */
+    RegisteredSchema lookup(int schemaId);
+
+    record RegisteredSchema(int id, String subject, int version, String definition) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.workspaceflow.event.serialization;
+
+import com.workspaceflow.event.TaskEvent;
+
+/**
+ * Binary schema for {@link TaskEvent}
+ */
+public class TaskEventSchema implements EventSchema<TaskEvent> {
+
+    @Override
+    public String subject() {
+        return "task-event";
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public String definition(int version) {
+        return "type:string,taskId:string,assignee:string,instanceId:string,timestamp:datetime,payload:map";
+    }
+
+    @Override
+    public Class<TaskEvent> type() {
+        return TaskEvent.class;
+    }
+
+    @Override
+    public void write(TaskEvent event, BinaryEventWriter out) {
+        out.writeString(event.getType());
+        out.writeString(event.getTaskId());
+        out.writeString(event.getAssignee());
+        out.writeString(event.getInstanceId());
+        out.writeDateTime(event.getTimestamp());
+        out.writeMap(event.getPayload());
+    }
+
+    @Override
+    public TaskEvent read(BinaryEventReader in, int version) {
+        return TaskEvent.builder()
+                .type(in.readString())
+                .taskId(in.readString())
+                .assignee(in.readString())
+                .instanceId(in.readString())
+                .timestamp(in.readDateTime())
+                .payload(in.readMap())
+                .build();
+    }
+}
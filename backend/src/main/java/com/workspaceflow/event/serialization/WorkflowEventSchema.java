@@ -0,0 +1,49 @@
+package com.workspaceflow.event.serialization;
+
+import com.workspaceflow.event.WorkflowEvent;
+
+/**
+ * Binary schema for {@link WorkflowEvent}
+ */
+public class WorkflowEventSchema implements EventSchema<WorkflowEvent> {
+
+    @Override
+    public String subject() {
+        return "workflow-event";
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public String definition(int version) {
+        return "type:string,workflowId:string,instanceId:string,timestamp:datetime,payload:map";
+    }
+
+    @Override
+    public Class<WorkflowEvent> type() {
+        return WorkflowEvent.class;
+    }
+
+    @Override
+    public void write(WorkflowEvent event, BinaryEventWriter out) {
+        out.writeString(event.getType());
+        out.writeString(event.getWorkflowId());
+        out.writeString(event.getInstanceId());
+        out.writeDateTime(event.getTimestamp());
+        out.writeMap(event.getPayload());
+    }
+
+    @Override
+    public WorkflowEvent read(BinaryEventReader in, int version) {
+        return WorkflowEvent.builder()
+                .type(in.readString())
+                .workflowId(in.readString())
+                .instanceId(in.readString())
+                .timestamp(in.readDateTime())
+                .payload(in.readMap())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.workspaceflow.exception;
+
+/**
+ * Thrown when an update conflicts with a concurrent change of the same entity
+ * and cannot be applied on top of it; returned as 409 Conflict
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
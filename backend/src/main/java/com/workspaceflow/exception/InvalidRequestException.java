@@ -0,0 +1,12 @@
+package com.workspaceflow.exception;
+
+/**
+ * Thrown when request parameters are invalid in a way bean validation cannot
+ * express, such as a malformed paging cursor; returned as 400 Bad Request
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.workspaceflow.exception;
+
+/**
+ * Thrown before a change is written when its events could not be published because the
+ * publishing capacity is exhausted; returned as 503 Service Unavailable
+ */
+public class PublishCapacityExceededException extends RuntimeException {
+
+    public PublishCapacityExceededException(String message) {
+        super(message);
+    }
+
+    public PublishCapacityExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,21 @@
+package com.workspaceflow.mapper;
+
+import com.workspaceflow.model.dto.AuditEventResponse;
+import com.workspaceflow.model.entity.AuditEvent;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * Mapper for AuditEvent
+ */
+@Mapper(componentModel = "spring")
+public interface AuditMapper {
+
+    @Mapping(target = "entityType", source = "meta.entityType")
+    @Mapping(target = "entityId", source = "meta.entityId")
+    AuditEventResponse toResponse(AuditEvent entity);
+
+    List<AuditEventResponse> toResponseList(List<AuditEvent> entities);
+}
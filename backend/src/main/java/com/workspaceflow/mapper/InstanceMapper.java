@@ -1,7 +1,9 @@
 package com.workspaceflow.mapper;
 
+import com.workspaceflow.model.dto.InstanceEventResponse;
 import com.workspaceflow.model.dto.TaskResponse;
 import com.workspaceflow.model.dto.WorkflowInstanceResponse;
+import com.workspaceflow.model.entity.InstanceEvent;
 import com.workspaceflow.model.entity.Task;
 import com.workspaceflow.model.entity.WorkflowInstance;
 import org.mapstruct.Mapper;
@@ -21,4 +23,8 @@ public interface InstanceMapper {
     TaskResponse toTaskResponse(Task entity);
 
     List<TaskResponse> toTaskResponseList(List<Task> entities);
+
+    InstanceEventResponse toEventResponse(InstanceEvent entity);
+
+    List<InstanceEventResponse> toEventResponseList(List<InstanceEvent> entities);
 }
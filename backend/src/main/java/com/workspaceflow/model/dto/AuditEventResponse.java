@@ -0,0 +1,27 @@
+package com.workspaceflow.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO for audit event response
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEventResponse {
+
+    private String id;
+    private String eventType;
+    private String entityType;
+    private String entityId;
+    private String userId;
+    private Map<String, Object> payload;
+    private LocalDateTime timestamp;
+}
@@ -2,6 +2,7 @@ package com.workspaceflow.model.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -44,5 +45,8 @@ public class CreateWorkflowRequest {
 
         @NotNull(message = "Step order is required")
         private Integer order;
+
+        @Pattern(regexp = "P(?=\\d|T\\d)(\\d+D)?(T(?=\\d)(\\d+H)?(\\d+M)?(\\d+S)?)?", message = "Step dueIn must be an ISO-8601 duration, e.g. P2D or PT4H")
+        private String dueIn;
     }
 }
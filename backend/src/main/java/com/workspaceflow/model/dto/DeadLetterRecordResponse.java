@@ -0,0 +1,35 @@
+package com.workspaceflow.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a record on the dead letter topic
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterRecordResponse {
+
+    private int partition;
+    private long offset;
+    private String key;
+    private LocalDateTime timestamp;
+
+    /**
+     * Main topic the record came from (retry topic suffixes removed)
+     */
+    private String originalTopic;
+    private String exceptionClass;
+    private String exceptionMessage;
+
+    /**
+     * Decoded value: the typed event for binary records, a map for JSON
+     */
+    private Object value;
+}
@@ -0,0 +1,38 @@
+package com.workspaceflow.model.dto;
+
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for starting a dead letter replay. Filters left empty match every record.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterReplayRequest {
+
+    private String originalTopic;
+
+    private String key;
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    /**
+     * Fully qualified or simple name of the exception (or its cause)
+     */
+    private String errorClass;
+
+    /**
+     * Records re-published per second; defaults to workspaceflow.deadletter.replay.default-rate
+     */
+    @Positive(message = "Rate must be positive")
+    private Integer ratePerSecond;
+}
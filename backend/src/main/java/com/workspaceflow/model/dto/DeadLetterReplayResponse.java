@@ -0,0 +1,40 @@
+package com.workspaceflow.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the progress of a dead letter replay
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterReplayResponse {
+
+    private String id;
+    private String status;
+    private String originalTopic;
+    private String key;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private String errorClass;
+    private int ratePerSecond;
+
+    /**
+     * Dead letter records to scan, scanned so far and re-published so far
+     */
+    private long totalRecords;
+    private long scanned;
+    private long replayed;
+    private double progressPercent;
+
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,29 @@
+package com.workspaceflow.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the estimated completion of a running workflow instance
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InstanceEtaResponse {
+
+    private String instanceId;
+    private String workflowId;
+    private String currentStepId;
+    private long remainingMillis;
+    private LocalDateTime estimatedCompletionAt;
+
+    /**
+     * Smallest number of completed tasks behind the estimate of any remaining step
+     */
+    private long minSamples;
+}
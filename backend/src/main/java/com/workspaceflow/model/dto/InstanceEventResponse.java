@@ -0,0 +1,25 @@
+package com.workspaceflow.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO for an event in a workflow instance's history
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InstanceEventResponse {
+
+    private long sequence;
+    private String type;
+    private LocalDateTime timestamp;
+    private String actor;
+    private Map<String, Object> data;
+}
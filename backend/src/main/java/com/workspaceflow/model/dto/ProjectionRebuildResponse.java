@@ -0,0 +1,20 @@
+package com.workspaceflow.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the outcome of rebuilding instance projections from the event store
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectionRebuildResponse {
+
+    private int instances;
+    private long events;
+    private long durationMillis;
+}
@@ -0,0 +1,22 @@
+package com.workspaceflow.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO for dashboard status counts
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsResponse {
+
+    private String workflowId;
+    private Map<String, Long> instancesByStatus;
+    private Map<String, Long> tasksByStatus;
+}
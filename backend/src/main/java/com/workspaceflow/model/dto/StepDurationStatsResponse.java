@@ -0,0 +1,51 @@
+package com.workspaceflow.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for per-step wait and work time percentiles over a time range
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StepDurationStatsResponse {
+
+    /**
+     * Effective range, aligned to whole buckets
+     */
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<StepStats> steps;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StepStats {
+        private String workflowId;
+        private String stepId;
+        private Percentiles waitTime;
+        private Percentiles workTime;
+    }
+
+    /**
+     * Duration percentiles in milliseconds
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Percentiles {
+        private long count;
+        private long p50;
+        private long p90;
+        private long p99;
+    }
+}
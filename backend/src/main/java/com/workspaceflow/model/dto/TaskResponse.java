@@ -18,7 +18,9 @@ import java.util.Map;
 public class TaskResponse {
 
     private String id;
+    private Long version;
     private String workflowInstanceId;
+    private String workflowId;
     private String stepId;
     private String name;
     private String description;
@@ -30,4 +32,5 @@ public class TaskResponse {
     private LocalDateTime assignedAt;
     private LocalDateTime completedAt;
     private String completedBy;
+    private LocalDateTime dueAt;
 }
@@ -0,0 +1,25 @@
+package com.workspaceflow.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a page of task search results, ordered by relevance
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResponse {
+
+    private List<TaskResponse> tasks;
+
+    /**
+     * Opaque cursor for the next page, null when there are no more results
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,54 @@
+package com.workspaceflow.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for live throughput: per-minute windows and the current task backlog
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThroughputResponse {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<Window> windows;
+    private List<Backlog> backlog;
+
+    /**
+     * Event counts of one minute for one workflow and role; instance counts have no role
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Window {
+        private LocalDateTime minute;
+        private String workflowId;
+        private String role;
+        private long tasksCreated;
+        private long tasksCompleted;
+        private long instancesStarted;
+        private long instancesCompleted;
+    }
+
+    /**
+     * Open (created or assigned) tasks of one workflow and role
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Backlog {
+        private String workflowId;
+        private String role;
+        private long openTasks;
+    }
+}
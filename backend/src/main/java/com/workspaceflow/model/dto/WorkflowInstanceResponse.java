@@ -18,6 +18,7 @@ import java.util.Map;
 public class WorkflowInstanceResponse {
 
     private String id;
+    private Long version;
     private String workflowId;
     private String workflowName;
     private String status;
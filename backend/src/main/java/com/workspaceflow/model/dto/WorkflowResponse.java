@@ -18,6 +18,7 @@ import java.util.List;
 public class WorkflowResponse {
 
     private String id;
+    private Long version;
     private String name;
     private String description;
     private List<StepResponse> steps;
@@ -36,5 +37,6 @@ public class WorkflowResponse {
         private String type;
         private String assigneeRole;
         private Integer order;
+        private String dueIn;
     }
 }
@@ -6,18 +6,28 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Sharded;
+import org.springframework.data.mongodb.core.mapping.ShardingStrategy;
 
 import java.time.LocalDateTime;
 import java.util.Map;
 
 /**
  * Audit Event Entity
+ *
+ * The audited entity is kept in a nested {@code meta} document so the collection
+ * can be stored as a MongoDB time-series collection with {@code timestamp} as
+ * timeField and {@code meta} as metaField (see {@code AuditCollectionInitializer}).
+ *
+ * Shard key: hashed {@code meta.entityId} (a metaField subfield, as time-series
+ * sharding requires), so the history of one entity is read from one shard.
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "audit_events")
+@Sharded(shardKey = {"meta.entityId"}, shardingStrategy = ShardingStrategy.HASH, immutableKey = true)
 public class AuditEvent {
 
     @Id
@@ -25,13 +35,20 @@ public class AuditEvent {
 
     private String eventType;
 
-    private String entityType;
-
-    private String entityId;
+    private Meta meta;
 
     private String userId;
 
     private Map<String, Object> payload;
 
     private LocalDateTime timestamp;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Meta {
+        private String entityType;
+        private String entityId;
+    }
 }
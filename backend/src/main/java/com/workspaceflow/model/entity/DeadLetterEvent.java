@@ -0,0 +1,40 @@
+package com.workspaceflow.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event the in-process event bus gave up on, the counterpart of a deadletter.events record
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "dead_letter_events")
+public class DeadLetterEvent {
+
+    @Id
+    private String id;
+
+    private String topic;
+
+    private String key;
+
+    private String consumer;
+
+    private Object payload;
+
+    private int attempts;
+
+    private String exceptionClass;
+
+    private String exceptionMessage;
+
+    private LocalDateTime failedAt;
+}
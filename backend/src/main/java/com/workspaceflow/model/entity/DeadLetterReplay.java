@@ -0,0 +1,64 @@
+package com.workspaceflow.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A replay of dead-lettered records to their original topics, checkpointed so it can resume
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "dead_letter_replays")
+public class DeadLetterReplay {
+
+    @Id
+    private String id;
+
+    // Filter
+    private String originalTopic;
+    private String key;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private String errorClass;
+
+    private int ratePerSecond;
+
+    @Indexed
+    private ReplayStatus status;
+
+    /**
+     * Dead letter offsets per partition at start; records added later are not replayed
+     */
+    private Map<String, Long> endOffsets;
+
+    /**
+     * Checkpoint: next offset to read per partition
+     */
+    private Map<String, Long> positions;
+
+    private long totalRecords;
+    private long scanned;
+    private long replayed;
+
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    public enum ReplayStatus {
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+}
@@ -0,0 +1,64 @@
+package com.workspaceflow.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Sharded;
+import org.springframework.data.mongodb.core.mapping.ShardingStrategy;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Workflow instance state change in the append-only event store (event-sourcing mode)
+ *
+ * The id is {@code instanceId:sequence}, so two writers appending the same sequence collide
+ * on the primary key. Shard key: hashed {@code instanceId}, keeping an instance's events on
+ * one shard where the _id uniqueness is enforced.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "instance_events")
+@Sharded(shardKey = {"instanceId"}, shardingStrategy = ShardingStrategy.HASH, immutableKey = true)
+public class InstanceEvent {
+
+    @Id
+    private String id;
+
+    private String instanceId;
+
+    /**
+     * 1 for the STARTED event, then consecutive per instance
+     */
+    private long sequence;
+
+    private Type type;
+
+    private LocalDateTime timestamp;
+
+    private String actor;
+
+    private Map<String, Object> data;
+
+    /**
+     * The instance transitions the services perform; add a type together with its write path
+     */
+    public enum Type {
+        STARTED,
+        COMPLETED
+    }
+
+    // STARTED data keys
+    public static final String WORKFLOW_ID = "workflowId";
+    public static final String WORKFLOW_NAME = "workflowName";
+    public static final String VARIABLES = "variables";
+
+    public static String idOf(String instanceId, long sequence) {
+        return instanceId + ":" + sequence;
+    }
+}
@@ -0,0 +1,34 @@
+package com.workspaceflow.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Folded instance state as of an event sequence; loading an instance replays only the
+ * events after its snapshot
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "instance_snapshots")
+public class InstanceSnapshot {
+
+    /**
+     * The instance id; one snapshot per instance, replaced as it advances
+     */
+    @Id
+    private String id;
+
+    private long sequence;
+
+    private WorkflowInstance state;
+
+    private LocalDateTime takenAt;
+}
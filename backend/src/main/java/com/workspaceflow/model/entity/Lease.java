@@ -0,0 +1,28 @@
+package com.workspaceflow.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Time-bounded ownership of a single-writer job across backend nodes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "leases")
+public class Lease {
+
+    @Id
+    private String id;
+
+    private String owner;
+
+    private Instant expiresAt;
+}
@@ -0,0 +1,34 @@
+package com.workspaceflow.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event waiting in the transactional outbox to be relayed to Kafka
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "outbox_events")
+public class OutboxEvent {
+
+    @Id
+    private String id;
+
+    private String topic;
+
+    private String key;
+
+    private Object payload;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+}
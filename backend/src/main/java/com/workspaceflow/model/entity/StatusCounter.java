@@ -0,0 +1,43 @@
+package com.workspaceflow.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Materialized count of instances or tasks in one status for one workflow
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "status_counters")
+public class StatusCounter {
+
+    @Id
+    private String id;
+
+    private CounterKind kind;
+
+    private String workflowId;
+
+    private String status;
+
+    private long count;
+
+    private LocalDateTime updatedAt;
+
+    public enum CounterKind {
+        INSTANCE,
+        TASK
+    }
+
+    public static String idOf(CounterKind kind, String workflowId, String status) {
+        return kind + ":" + workflowId + ":" + status;
+    }
+}
@@ -0,0 +1,53 @@
+package com.workspaceflow.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cached wait and work time histograms of the tasks completed within one
+ * closed time bucket. Closed buckets are immutable, so they are computed once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "step_duration_buckets")
+public class StepDurationBucket {
+
+    @Id
+    private String id;
+
+    private LocalDateTime bucketStart;
+
+    private LocalDateTime bucketEnd;
+
+    private List<StepHistogram> steps;
+
+    private LocalDateTime computedAt;
+
+    /**
+     * Log-scale duration histograms (bin index to count) for one workflow step
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StepHistogram {
+
+        private String workflowId;
+
+        private String stepId;
+
+        private Map<String, Long> wait;
+
+        private Map<String, Long> work;
+    }
+}
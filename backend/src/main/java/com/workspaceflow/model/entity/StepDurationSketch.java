@@ -0,0 +1,40 @@
+package com.workspaceflow.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Checkpointed live duration sketch of one workflow step, merged from all nodes
+ * by incrementing the bin counters of each node's delta
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "step_duration_sketches")
+public class StepDurationSketch {
+
+    @Id
+    private String id;
+
+    private String workflowId;
+
+    private String stepId;
+
+    private Map<String, Long> wait;
+
+    private Map<String, Long> work;
+
+    private LocalDateTime updatedAt;
+
+    public static String idOf(String workflowId, String stepId) {
+        return workflowId + ":" + stepId;
+    }
+}
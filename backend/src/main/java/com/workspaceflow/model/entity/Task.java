@@ -5,26 +5,38 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Sharded;
+import org.springframework.data.mongodb.core.mapping.ShardingStrategy;
 
 import java.time.LocalDateTime;
 import java.util.Map;
 
 /**
  * Task Entity
+ *
+ * Shard key: hashed {@code workflowInstanceId}, so all tasks of an instance live
+ * on one shard and lookups by instance (or by id plus instance) are routed.
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "tasks")
+@Sharded(shardKey = {"workflowInstanceId"}, shardingStrategy = ShardingStrategy.HASH, immutableKey = true)
 public class Task {
 
     @Id
     private String id;
 
+    @Version
+    private Long version;
+
     private String workflowInstanceId;
 
+    private String workflowId;
+
     private String stepId;
 
     private String name;
@@ -47,6 +59,13 @@ public class Task {
 
     private String completedBy;
 
+    private LocalDateTime dueAt;
+
+    /**
+     * When the due reminder was published; tasks are reminded once
+     */
+    private LocalDateTime dueNotifiedAt;
+
     public enum TaskStatus {
         CREATED,
         ASSIGNED,
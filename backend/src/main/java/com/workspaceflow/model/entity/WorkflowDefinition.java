@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -23,6 +24,9 @@ public class WorkflowDefinition {
     @Id
     private String id;
 
+    @Version
+    private Long version;
+
     private String name;
 
     private String description;
@@ -47,5 +51,6 @@ public class WorkflowDefinition {
         private String type; // HUMAN_TASK, AUTOMATED, APPROVAL
         private String assigneeRole;
         private Integer order;
+        private String dueIn; // ISO-8601 duration from task creation, e.g. P2D
     }
 }
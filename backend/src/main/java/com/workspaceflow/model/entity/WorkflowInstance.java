@@ -5,24 +5,33 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Sharded;
+import org.springframework.data.mongodb.core.mapping.ShardingStrategy;
 
 import java.time.LocalDateTime;
 import java.util.Map;
 
 /**
  * Workflow Instance Entity
+ *
+ * Shard key: hashed {@code _id}; every hot access is by instance id.
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "workflow_instances")
+@Sharded(shardingStrategy = ShardingStrategy.HASH, immutableKey = true)
 public class WorkflowInstance {
 
     @Id
     private String id;
 
+    @Version
+    private Long version;
+
     private String workflowId;
 
     private String workflowName;
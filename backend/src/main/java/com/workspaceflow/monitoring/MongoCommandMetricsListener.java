@@ -0,0 +1,131 @@
+package com.workspaceflow.monitoring;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mongo driver CommandListener that records a {@code workspaceflow.mongo.commands}
+ * timer per collection, command and repository method, and logs commands slower
+ * than the configured threshold with their redacted query shape and plan summary.
+ *
+ * The explain runs on a single background thread (queryPlanner only, once per
+ * shape per interval) so the request path never waits for it.
+ */
+@Slf4j
+public class MongoCommandMetricsListener implements CommandListener {
+
+    private static final Set<String> EXPLAINABLE = Set.of("find", "aggregate", "count", "distinct");
+
+    private final MeterRegistry registry;
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final Duration slowThreshold;
+    private final Duration explainInterval;
+
+    private final Map<Integer, StartedCommand> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastExplained = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor explainExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(16), Thread.ofVirtual().name("mongo-explain").factory(),
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    public MongoCommandMetricsListener(MeterRegistry registry, ObjectProvider<MongoTemplate> mongoTemplate,
+            Duration slowThreshold, Duration explainInterval) {
+        this.registry = registry;
+        this.mongoTemplate = mongoTemplate;
+        this.slowThreshold = slowThreshold;
+        this.explainInterval = explainInterval;
+    }
+
+    private record StartedCommand(String collection, String repositoryMethod, BsonDocument command) {
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String commandName = event.getCommandName();
+        BsonDocument command = event.getCommand();
+        BsonValue target = command.get(commandName);
+        String collection = target != null && target.isString() ? target.asString().getValue() : "none";
+
+        // The command document is only valid during this callback; keep a copy of reads for the slow log
+        BsonDocument copy = EXPLAINABLE.contains(commandName) ? command.clone() : null;
+        inFlight.put(event.getRequestId(), new StartedCommand(collection, RepositoryMethodContext.current(), copy));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        complete(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), "success");
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        complete(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), "failed");
+    }
+
+    private void complete(int requestId, String commandName, long elapsedNanos, String status) {
+        StartedCommand started = inFlight.remove(requestId);
+        if (started == null) {
+            return;
+        }
+
+        Timer.builder("workspaceflow.mongo.commands")
+                .description("Mongo command latency by collection, command and repository method")
+                .tag("collection", started.collection())
+                .tag("command", commandName)
+                .tag("repository.method", started.repositoryMethod())
+                .tag("status", status)
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (elapsedNanos >= slowThreshold.toNanos()) {
+            logSlowCommand(started, commandName, elapsedNanos);
+        }
+    }
+
+    private void logSlowCommand(StartedCommand started, String commandName, long elapsedNanos) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (started.command() == null) {
+            log.warn("Slow Mongo command: {} {} took {} ms (repository method: {})",
+                    commandName, started.collection(), elapsedMs, started.repositoryMethod());
+            return;
+        }
+
+        String shape = QueryShapes.shapeOf(commandName, started.collection(), started.command());
+        long now = System.currentTimeMillis();
+        Long previous = lastExplained.get(shape);
+        if (previous != null && now - previous < explainInterval.toMillis()) {
+            log.warn("Slow Mongo command: {} took {} ms (repository method: {})",
+                    shape, elapsedMs, started.repositoryMethod());
+            return;
+        }
+        lastExplained.put(shape, now);
+
+        explainExecutor.execute(() -> {
+            String plan;
+            try {
+                BsonDocument explain = QueryShapes.explainOf(started.command());
+                plan = QueryShapes.planSummary(mongoTemplate.getObject().getDb()
+                        .runCommand(explain, BsonDocument.class));
+            } catch (Exception e) {
+                plan = "explain failed: " + e.getMessage();
+            }
+            log.warn("Slow Mongo command: {} took {} ms (repository method: {}, plan: {})",
+                    shape, elapsedMs, started.repositoryMethod(), plan);
+        });
+    }
+}
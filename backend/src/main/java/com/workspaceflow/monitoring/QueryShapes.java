@@ -0,0 +1,136 @@
+package com.workspaceflow.monitoring;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Helpers for logging Mongo commands without leaking data: values are replaced
+ * by {@code ?} while field names and operators are kept, and explain output is
+ * reduced to its winning plan stages.
+ */
+public final class QueryShapes {
+
+    private static final BsonString REDACTED = new BsonString("?");
+
+    /**
+     * Command fields that describe the query and are worth logging
+     */
+    private static final Set<String> SHAPE_FIELDS = Set.of("filter", "sort", "projection", "pipeline", "query", "q", "hint");
+
+    /**
+     * Session and transport fields that must not be sent with an explain
+     */
+    private static final Set<String> SESSION_FIELDS = Set.of("lsid", "txnNumber", "autocommit", "startTransaction",
+            "readConcern", "writeConcern", "apiVersion", "apiStrict", "apiDeprecationErrors");
+
+    private QueryShapes() {
+    }
+
+    /**
+     * Redacted shape of a command, e.g. {@code find tasks {"filter": {"assignee": "?"}}}
+     */
+    public static String shapeOf(String commandName, String collection, BsonDocument command) {
+        BsonDocument shape = new BsonDocument();
+        for (String field : SHAPE_FIELDS) {
+            if (command.containsKey(field)) {
+                shape.put(field, redact(command.get(field), field.equals("sort") || field.equals("hint")));
+            }
+        }
+        return commandName + " " + collection + " " + shape.toJson();
+    }
+
+    static BsonValue redact(BsonValue value, boolean keepScalars) {
+        if (value.isDocument()) {
+            BsonDocument redacted = new BsonDocument();
+            value.asDocument().forEach((key, nested) -> redacted.put(key, redact(nested, keepScalars)));
+            return redacted;
+        }
+        if (value.isArray()) {
+            BsonArray array = value.asArray();
+            // Keep the structure of pipelines and $and/$or, collapse value lists
+            if (!array.isEmpty() && array.get(0).isDocument()) {
+                BsonArray redacted = new BsonArray();
+                array.forEach(item -> redacted.add(redact(item, keepScalars)));
+                return redacted;
+            }
+            return new BsonArray(List.of(REDACTED));
+        }
+        return keepScalars ? value : REDACTED;
+    }
+
+    /**
+     * Wraps a read command into a queryPlanner explain
+     */
+    public static BsonDocument explainOf(BsonDocument command) {
+        BsonDocument explained = new BsonDocument();
+        command.forEach((key, value) -> {
+            if (!key.startsWith("$") && !SESSION_FIELDS.contains(key)) {
+                explained.put(key, value);
+            }
+        });
+        return new BsonDocument("explain", explained).append("verbosity", new BsonString("queryPlanner"));
+    }
+
+    /**
+     * Winning plan as a stage chain, e.g. {@code FETCH <- IXSCAN(assignee_1)}
+     */
+    public static String planSummary(BsonDocument explainResult) {
+        BsonDocument queryPlanner = findQueryPlanner(explainResult);
+        if (queryPlanner == null || !queryPlanner.isDocument("winningPlan")) {
+            return "unknown";
+        }
+        BsonDocument plan = queryPlanner.getDocument("winningPlan");
+        // Slot-based engine wraps the classic tree in queryPlan
+        if (plan.isDocument("queryPlan")) {
+            plan = plan.getDocument("queryPlan");
+        }
+        List<String> stages = new ArrayList<>();
+        collectStages(plan, stages);
+        return String.join(" <- ", stages);
+    }
+
+    private static void collectStages(BsonDocument stage, List<String> stages) {
+        String name = stage.getString("stage", new BsonString("?")).getValue();
+        if (stage.isString("indexName")) {
+            name += "(" + stage.getString("indexName").getValue() + ")";
+        }
+        stages.add(name);
+        if (stage.isDocument("inputStage")) {
+            collectStages(stage.getDocument("inputStage"), stages);
+        } else if (stage.isArray("inputStages")) {
+            for (BsonValue input : stage.getArray("inputStages")) {
+                if (input.isDocument()) {
+                    collectStages(input.asDocument(), stages);
+                }
+            }
+        }
+    }
+
+    private static BsonDocument findQueryPlanner(BsonDocument document) {
+        if (document.isDocument("queryPlanner")) {
+            return document.getDocument("queryPlanner");
+        }
+        for (BsonValue value : document.values()) {
+            BsonDocument found = null;
+            if (value.isDocument()) {
+                found = findQueryPlanner(value.asDocument());
+            } else if (value.isArray()) {
+                for (BsonValue item : value.asArray()) {
+                    if (item.isDocument() && (found = findQueryPlanner(item.asDocument())) != null) {
+                        break;
+                    }
+                }
+            }
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+}
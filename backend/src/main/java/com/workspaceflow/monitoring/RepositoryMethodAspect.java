@@ -0,0 +1,48 @@
+package com.workspaceflow.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tags the current thread with the invoked repository method (e.g.
+ * {@code TaskRepository.findByAssignee}) for {@link MongoCommandMetricsListener}.
+ * Inherited methods such as findAll are reported against the application
+ * repository interface; only the outermost repository call is recorded.
+ */
+@Aspect
+@Component
+public class RepositoryMethodAspect {
+
+    private static final String REPOSITORY_PACKAGE = "com.workspaceflow.repository";
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object tagRepositoryMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!RepositoryMethodContext.NONE.equals(RepositoryMethodContext.current())) {
+            return joinPoint.proceed();
+        }
+
+        String repository = repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), this::repositoryName);
+        String previous = RepositoryMethodContext.enter(repository + "." + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RepositoryMethodContext.restore(previous);
+        }
+    }
+
+    private String repositoryName(Class<?> proxyClass) {
+        for (Class<?> type : proxyClass.getInterfaces()) {
+            if (REPOSITORY_PACKAGE.equals(type.getPackageName()) && type.getSimpleName().endsWith("Repository")) {
+                return type.getSimpleName();
+            }
+        }
+        return proxyClass.getSimpleName();
+    }
+}
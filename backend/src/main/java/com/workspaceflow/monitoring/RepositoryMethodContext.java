@@ -0,0 +1,34 @@
+package com.workspaceflow.monitoring;
+
+/**
+ * Holds the repository method currently executing on this thread, so that Mongo
+ * commands issued by the (synchronous) driver can be attributed to it.
+ */
+public final class RepositoryMethodContext {
+
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private RepositoryMethodContext() {
+    }
+
+    public static String current() {
+        String method = CURRENT.get();
+        return method != null ? method : NONE;
+    }
+
+    static String enter(String method) {
+        String previous = CURRENT.get();
+        CURRENT.set(method);
+        return previous;
+    }
+
+    static void restore(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
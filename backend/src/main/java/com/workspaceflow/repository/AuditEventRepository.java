@@ -10,9 +10,9 @@ import java.util.List;
  * Repository for AuditEvent
  */
 @Repository
-public interface AuditEventRepository extends MongoRepository<AuditEvent, String> {
+public interface AuditEventRepository extends MongoRepository<AuditEvent, String>, AuditEventRepositoryCustom {
 
-    List<AuditEvent> findByEntityTypeAndEntityId(String entityType, String entityId);
+    List<AuditEvent> findByMetaEntityTypeAndMetaEntityId(String entityType, String entityId);
 
     List<AuditEvent> findByUserId(String userId);
 
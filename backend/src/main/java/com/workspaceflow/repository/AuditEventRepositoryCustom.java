@@ -0,0 +1,23 @@
+package com.workspaceflow.repository;
+
+import com.workspaceflow.model.entity.AuditEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Hot AuditEvent queries served through the hand-written BSON codec
+ */
+public interface AuditEventRepositoryCustom {
+
+    /**
+     * Time-window query for one entity; served by the meta + timestamp index
+     */
+    List<AuditEvent> findByMetaEntityTypeAndMetaEntityIdAndTimestampBetweenOrderByTimestampAsc(
+            String entityType, String entityId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Insert an event unless one with the same id was already written; returns false for duplicates
+     */
+    boolean insertIfAbsent(AuditEvent event);
+}
@@ -0,0 +1,67 @@
+package com.workspaceflow.repository;
+
+import com.workspaceflow.model.entity.AuditEvent;
+import com.workspaceflow.repository.codec.EntityCodecReader;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Codec-backed implementation of {@link AuditEventRepositoryCustom}
+ */
+public class AuditEventRepositoryCustomImpl implements AuditEventRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+    private final EntityCodecReader reader;
+
+    private volatile Boolean timeSeries;
+
+    public AuditEventRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.reader = new EntityCodecReader(mongoTemplate);
+    }
+
+    @Override
+    public List<AuditEvent> findByMetaEntityTypeAndMetaEntityIdAndTimestampBetweenOrderByTimestampAsc(
+            String entityType, String entityId, LocalDateTime from, LocalDateTime to) {
+        Query query = Query.query(Criteria.where("meta.entityType").is(entityType)
+                        .and("meta.entityId").is(entityId)
+                        .and("timestamp").gt(from).lt(to))
+                .with(Sort.by(Sort.Direction.ASC, "timestamp"));
+        return reader.find(query, AuditEvent.class);
+    }
+
+    /**
+     * The unique _id index rejects a second insert of the same event. Time-series collections
+     * do not enforce _id uniqueness, so there the id is looked up (with the meta field) first.
+     */
+    @Override
+    public boolean insertIfAbsent(AuditEvent event) {
+        if (isTimeSeries() && mongoTemplate.exists(Query.query(Criteria.where("meta.entityId")
+                .is(event.getMeta().getEntityId()).and("_id").is(event.getId())), AuditEvent.class)) {
+            return false;
+        }
+        try {
+            mongoTemplate.insert(event);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private boolean isTimeSeries() {
+        if (timeSeries == null) {
+            Document collection = mongoTemplate.getDb().listCollections()
+                    .filter(new Document("name", mongoTemplate.getCollectionName(AuditEvent.class)))
+                    .first();
+            timeSeries = collection != null && "timeseries".equals(collection.getString("type"));
+        }
+        return timeSeries;
+    }
+}
@@ -0,0 +1,18 @@
+package com.workspaceflow.repository;
+
+import com.workspaceflow.model.entity.DeadLetterReplay;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for DeadLetterReplay
+ */
+@Repository
+public interface DeadLetterReplayRepository extends MongoRepository<DeadLetterReplay, String> {
+
+    List<DeadLetterReplay> findByStatus(DeadLetterReplay.ReplayStatus status);
+
+    List<DeadLetterReplay> findAllByOrderByCreatedAtDesc();
+}
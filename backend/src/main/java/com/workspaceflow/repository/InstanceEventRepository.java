@@ -0,0 +1,24 @@
+package com.workspaceflow.repository;
+
+import com.workspaceflow.model.entity.InstanceEvent;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the instance event store
+ */
+@Repository
+public interface InstanceEventRepository extends MongoRepository<InstanceEvent, String> {
+
+    List<InstanceEvent> findByInstanceIdOrderBySequenceAsc(String instanceId);
+
+    List<InstanceEvent> findByInstanceIdAndSequenceGreaterThanOrderBySequenceAsc(String instanceId, long sequence);
+
+    List<InstanceEvent> findByInstanceIdAndTimestampLessThanEqualOrderBySequenceAsc(String instanceId,
+            LocalDateTime timestamp);
+
+    boolean existsByInstanceId(String instanceId);
+}
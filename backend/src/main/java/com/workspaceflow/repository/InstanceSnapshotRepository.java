@@ -0,0 +1,12 @@
+package com.workspaceflow.repository;
+
+import com.workspaceflow.model.entity.InstanceSnapshot;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for instance snapshots
+ */
+@Repository
+public interface InstanceSnapshotRepository extends MongoRepository<InstanceSnapshot, String> {
+}
@@ -0,0 +1,20 @@
+package com.workspaceflow.repository;
+
+import com.workspaceflow.model.entity.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for OutboxEvent
+ */
+@Repository
+public interface OutboxEventRepository extends MongoRepository<OutboxEvent, String> {
+
+    /**
+     * Oldest unpublished events first; ObjectIds are monotonic per node so _id order is insertion order
+     */
+    List<OutboxEvent> findByPublishedAtIsNullOrderByIdAsc(Limit limit);
+}
@@ -0,0 +1,16 @@
+package com.workspaceflow.repository;
+
+import com.workspaceflow.model.entity.StatusCounter;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for StatusCounter
+ */
+@Repository
+public interface StatusCounterRepository extends MongoRepository<StatusCounter, String> {
+
+    List<StatusCounter> findByWorkflowId(String workflowId);
+}
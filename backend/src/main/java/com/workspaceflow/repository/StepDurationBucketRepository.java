@@ -0,0 +1,12 @@
+package com.workspaceflow.repository;
+
+import com.workspaceflow.model.entity.StepDurationBucket;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for StepDurationBucket
+ */
+@Repository
+public interface StepDurationBucketRepository extends MongoRepository<StepDurationBucket, String> {
+}
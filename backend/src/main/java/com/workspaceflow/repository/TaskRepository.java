@@ -1,22 +1,31 @@
 package com.workspaceflow.repository;
 
 import com.workspaceflow.model.entity.Task;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for Task
  */
 @Repository
-public interface TaskRepository extends MongoRepository<Task, String> {
+public interface TaskRepository extends MongoRepository<Task, String>, TaskRepositoryCustom {
 
-    List<Task> findByWorkflowInstanceId(String workflowInstanceId);
-
-    List<Task> findByAssignee(String assignee);
+    /**
+     * Lookup routed to a single shard through the workflowInstanceId shard key
+     */
+    Optional<Task> findByIdAndWorkflowInstanceId(String id, String workflowInstanceId);
 
     List<Task> findByStatus(Task.TaskStatus status);
 
     List<Task> findByAssigneeAndStatus(String assignee, Task.TaskStatus status);
+
+    List<Task> findByStatusAndCompletedAtAfter(Task.TaskStatus status, LocalDateTime completedAfter);
+
+    List<Task> findByStatusInOrderByCreatedAtDesc(Collection<Task.TaskStatus> statuses, Limit limit);
 }
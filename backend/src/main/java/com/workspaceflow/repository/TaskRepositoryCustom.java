@@ -0,0 +1,17 @@
+package com.workspaceflow.repository;
+
+import com.workspaceflow.model.entity.Task;
+
+import java.util.List;
+
+/**
+ * Hot Task queries served through the hand-written BSON codec
+ */
+public interface TaskRepositoryCustom {
+
+    List<Task> findAll();
+
+    List<Task> findByWorkflowInstanceId(String workflowInstanceId);
+
+    List<Task> findByAssignee(String assignee);
+}
@@ -0,0 +1,36 @@
+package com.workspaceflow.repository;
+
+import com.workspaceflow.model.entity.Task;
+import com.workspaceflow.repository.codec.EntityCodecReader;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+/**
+ * Codec-backed implementation of {@link TaskRepositoryCustom}
+ */
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private final EntityCodecReader reader;
+
+    public TaskRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.reader = new EntityCodecReader(mongoTemplate);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return reader.find(new Query(), Task.class);
+    }
+
+    @Override
+    public List<Task> findByWorkflowInstanceId(String workflowInstanceId) {
+        return reader.find(Query.query(Criteria.where("workflowInstanceId").is(workflowInstanceId)), Task.class);
+    }
+
+    @Override
+    public List<Task> findByAssignee(String assignee) {
+        return reader.find(Query.query(Criteria.where("assignee").is(assignee)), Task.class);
+    }
+}
@@ -1,6 +1,7 @@
 package com.workspaceflow.repository;
 
 import com.workspaceflow.model.entity.WorkflowInstance;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,11 +11,14 @@ import java.util.List;
  * Repository for WorkflowInstance
  */
 @Repository
-public interface WorkflowInstanceRepository extends MongoRepository<WorkflowInstance, String> {
+public interface WorkflowInstanceRepository extends MongoRepository<WorkflowInstance, String>,
+        WorkflowInstanceRepositoryCustom {
 
     List<WorkflowInstance> findByWorkflowId(String workflowId);
 
     List<WorkflowInstance> findByStatus(WorkflowInstance.WorkflowStatus status);
 
     List<WorkflowInstance> findByStartedBy(String startedBy);
+
+    List<WorkflowInstance> findByOrderByStartedAtDesc(Limit limit);
 }
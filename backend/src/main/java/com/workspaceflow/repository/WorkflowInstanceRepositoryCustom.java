@@ -0,0 +1,13 @@
+package com.workspaceflow.repository;
+
+import com.workspaceflow.model.entity.WorkflowInstance;
+
+import java.util.List;
+
+/**
+ * Hot WorkflowInstance queries served through the hand-written BSON codec
+ */
+public interface WorkflowInstanceRepositoryCustom {
+
+    List<WorkflowInstance> findAll();
+}
@@ -0,0 +1,25 @@
+package com.workspaceflow.repository;
+
+import com.workspaceflow.model.entity.WorkflowInstance;
+import com.workspaceflow.repository.codec.EntityCodecReader;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+/**
+ * Codec-backed implementation of {@link WorkflowInstanceRepositoryCustom}
+ */
+public class WorkflowInstanceRepositoryCustomImpl implements WorkflowInstanceRepositoryCustom {
+
+    private final EntityCodecReader reader;
+
+    public WorkflowInstanceRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.reader = new EntityCodecReader(mongoTemplate);
+    }
+
+    @Override
+    public List<WorkflowInstance> findAll() {
+        return reader.find(new Query(), WorkflowInstance.class);
+    }
+}
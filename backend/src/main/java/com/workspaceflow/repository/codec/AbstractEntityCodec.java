@@ -0,0 +1,146 @@
+package com.workspaceflow.repository.codec;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class for the hand-written entity codecs.
+ *
+ * The BSON layout is the one produced by Spring Data's MappingMongoConverter
+ * (ObjectId-compatible ids as ObjectId, enums by name, LocalDateTime as a UTC
+ * date in the system zone, null fields omitted), so documents written by either
+ * side can be read by the other. Unknown fields such as {@code _class} are skipped.
+ */
+public abstract class AbstractEntityCodec<T> implements Codec<T> {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final Codec<Document> documentCodec;
+
+    protected AbstractEntityCodec(CodecRegistry registry) {
+        this.documentCodec = registry.get(Document.class);
+    }
+
+    protected void writeId(BsonWriter writer, String id) {
+        if (id == null) {
+            return;
+        }
+        writer.writeName("_id");
+        if (ObjectId.isValid(id)) {
+            writer.writeObjectId(new ObjectId(id));
+        } else {
+            writer.writeString(id);
+        }
+    }
+
+    protected void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    protected void writeEnum(BsonWriter writer, String name, Enum<?> value) {
+        if (value != null) {
+            writer.writeString(name, value.name());
+        }
+    }
+
+    protected void writeDateTime(BsonWriter writer, String name, LocalDateTime value) {
+        if (value != null) {
+            writer.writeDateTime(name, value.atZone(ZONE).toInstant().toEpochMilli());
+        }
+    }
+
+    protected void writeLong(BsonWriter writer, String name, Long value) {
+        if (value != null) {
+            writer.writeInt64(name, value);
+        }
+    }
+
+    protected void writeMap(BsonWriter writer, String name, Map<String, Object> value, EncoderContext context) {
+        if (value != null) {
+            writer.writeName(name);
+            documentCodec.encode(writer, new Document(value), context);
+        }
+    }
+
+    protected String readId(BsonReader reader) {
+        return reader.getCurrentBsonType() == BsonType.OBJECT_ID
+                ? reader.readObjectId().toHexString()
+                : readString(reader);
+    }
+
+    protected String readString(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        return reader.readString();
+    }
+
+    protected <E extends Enum<E>> E readEnum(BsonReader reader, Class<E> type) {
+        String value = readString(reader);
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+
+    protected LocalDateTime readDateTime(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(reader.readDateTime()), ZONE);
+    }
+
+    protected Long readLong(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case NULL -> {
+                reader.readNull();
+                yield null;
+            }
+            case INT32 -> (long) reader.readInt32();
+            case DOUBLE -> (long) reader.readDouble();
+            default -> reader.readInt64();
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Map<String, Object> readMap(BsonReader reader, DecoderContext context) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        return (Map<String, Object>) toPlainValue(documentCodec.decode(reader, context));
+    }
+
+    /**
+     * Nested documents become plain maps, as with MappingMongoConverter
+     */
+    private static Object toPlainValue(Object value) {
+        if (value instanceof Document document) {
+            Map<String, Object> map = new LinkedHashMap<>(document.size());
+            document.forEach((key, nested) -> map.put(key, toPlainValue(nested)));
+            return map;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(item -> copy.add(toPlainValue(item)));
+            return copy;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,78 @@
+package com.workspaceflow.repository.codec;
+
+import com.workspaceflow.model.entity.AuditEvent;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * Hand-written BSON codec for {@link AuditEvent}
+ */
+public class AuditEventCodec extends AbstractEntityCodec<AuditEvent> {
+
+    public AuditEventCodec(CodecRegistry registry) {
+        super(registry);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, AuditEvent event, EncoderContext context) {
+        writer.writeStartDocument();
+        writeId(writer, event.getId());
+        writeString(writer, "eventType", event.getEventType());
+        if (event.getMeta() != null) {
+            writer.writeStartDocument("meta");
+            writeString(writer, "entityType", event.getMeta().getEntityType());
+            writeString(writer, "entityId", event.getMeta().getEntityId());
+            writer.writeEndDocument();
+        }
+        writeString(writer, "userId", event.getUserId());
+        writeMap(writer, "payload", event.getPayload(), context);
+        writeDateTime(writer, "timestamp", event.getTimestamp());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public AuditEvent decode(BsonReader reader, DecoderContext context) {
+        AuditEvent event = new AuditEvent();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> event.setId(readId(reader));
+                case "eventType" -> event.setEventType(readString(reader));
+                case "meta" -> event.setMeta(decodeMeta(reader));
+                case "userId" -> event.setUserId(readString(reader));
+                case "payload" -> event.setPayload(readMap(reader, context));
+                case "timestamp" -> event.setTimestamp(readDateTime(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return event;
+    }
+
+    private AuditEvent.Meta decodeMeta(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        AuditEvent.Meta meta = new AuditEvent.Meta();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "entityType" -> meta.setEntityType(readString(reader));
+                case "entityId" -> meta.setEntityId(readString(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return meta;
+    }
+
+    @Override
+    public Class<AuditEvent> getEncoderClass() {
+        return AuditEvent.class;
+    }
+}
@@ -0,0 +1,29 @@
+package com.workspaceflow.repository.codec;
+
+import com.workspaceflow.model.entity.AuditEvent;
+import com.workspaceflow.model.entity.Task;
+import com.workspaceflow.model.entity.WorkflowInstance;
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * Provides the hand-written codecs of the hot entities to the driver's codec registry
+ */
+public class EntityCodecProvider implements CodecProvider {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+        if (clazz == Task.class) {
+            return (Codec<T>) new TaskCodec(registry);
+        }
+        if (clazz == WorkflowInstance.class) {
+            return (Codec<T>) new WorkflowInstanceCodec(registry);
+        }
+        if (clazz == AuditEvent.class) {
+            return (Codec<T>) new AuditEventCodec(registry);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.workspaceflow.repository.codec;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs Spring Data queries against the driver with the hand-written entity codecs,
+ * so results are decoded straight from BSON instead of going through
+ * MappingMongoConverter. The query itself is still mapped by Spring's QueryMapper
+ * (field names, id and enum conversion), which is cheap compared to entity mapping.
+ */
+public class EntityCodecReader {
+
+    private final MongoTemplate mongoTemplate;
+    private final QueryMapper queryMapper;
+
+    public EntityCodecReader(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+    }
+
+    public <T> List<T> find(Query query, Class<T> type) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext().getPersistentEntity(type);
+        Document filter = queryMapper.getMappedObject(query.getQueryObject(), entity);
+        Document sort = queryMapper.getMappedSort(query.getSortObject(), entity);
+
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(type));
+        FindIterable<T> results = collection
+                .withCodecRegistry(CodecRegistries.fromRegistries(
+                        CodecRegistries.fromProviders(new EntityCodecProvider()),
+                        collection.getCodecRegistry()))
+                .find(filter, type)
+                .sort(sort);
+        if (query.isLimited()) {
+            results = results.limit(query.getLimit());
+        }
+        if (query.getSkip() > 0) {
+            results = results.skip((int) query.getSkip());
+        }
+        return results.into(new ArrayList<>());
+    }
+}
@@ -0,0 +1,77 @@
+package com.workspaceflow.repository.codec;
+
+import com.workspaceflow.model.entity.Task;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * Hand-written BSON codec for {@link Task}
+ */
+public class TaskCodec extends AbstractEntityCodec<Task> {
+
+    public TaskCodec(CodecRegistry registry) {
+        super(registry);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Task task, EncoderContext context) {
+        writer.writeStartDocument();
+        writeId(writer, task.getId());
+        writeLong(writer, "version", task.getVersion());
+        writeString(writer, "workflowInstanceId", task.getWorkflowInstanceId());
+        writeString(writer, "workflowId", task.getWorkflowId());
+        writeString(writer, "stepId", task.getStepId());
+        writeString(writer, "name", task.getName());
+        writeString(writer, "description", task.getDescription());
+        writeEnum(writer, "status", task.getStatus());
+        writeString(writer, "assignee", task.getAssignee());
+        writeString(writer, "assigneeRole", task.getAssigneeRole());
+        writeMap(writer, "data", task.getData(), context);
+        writeDateTime(writer, "createdAt", task.getCreatedAt());
+        writeDateTime(writer, "assignedAt", task.getAssignedAt());
+        writeDateTime(writer, "completedAt", task.getCompletedAt());
+        writeString(writer, "completedBy", task.getCompletedBy());
+        writeDateTime(writer, "dueAt", task.getDueAt());
+        writeDateTime(writer, "dueNotifiedAt", task.getDueNotifiedAt());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Task decode(BsonReader reader, DecoderContext context) {
+        Task task = new Task();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> task.setId(readId(reader));
+                case "version" -> task.setVersion(readLong(reader));
+                case "workflowInstanceId" -> task.setWorkflowInstanceId(readString(reader));
+                case "workflowId" -> task.setWorkflowId(readString(reader));
+                case "stepId" -> task.setStepId(readString(reader));
+                case "name" -> task.setName(readString(reader));
+                case "description" -> task.setDescription(readString(reader));
+                case "status" -> task.setStatus(readEnum(reader, Task.TaskStatus.class));
+                case "assignee" -> task.setAssignee(readString(reader));
+                case "assigneeRole" -> task.setAssigneeRole(readString(reader));
+                case "data" -> task.setData(readMap(reader, context));
+                case "createdAt" -> task.setCreatedAt(readDateTime(reader));
+                case "assignedAt" -> task.setAssignedAt(readDateTime(reader));
+                case "completedAt" -> task.setCompletedAt(readDateTime(reader));
+                case "completedBy" -> task.setCompletedBy(readString(reader));
+                case "dueAt" -> task.setDueAt(readDateTime(reader));
+                case "dueNotifiedAt" -> task.setDueNotifiedAt(readDateTime(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return task;
+    }
+
+    @Override
+    public Class<Task> getEncoderClass() {
+        return Task.class;
+    }
+}
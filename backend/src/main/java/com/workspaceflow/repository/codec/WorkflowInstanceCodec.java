@@ -0,0 +1,63 @@
+package com.workspaceflow.repository.codec;
+
+import com.workspaceflow.model.entity.WorkflowInstance;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * Hand-written BSON codec for {@link WorkflowInstance}
+ */
+public class WorkflowInstanceCodec extends AbstractEntityCodec<WorkflowInstance> {
+
+    public WorkflowInstanceCodec(CodecRegistry registry) {
+        super(registry);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, WorkflowInstance instance, EncoderContext context) {
+        writer.writeStartDocument();
+        writeId(writer, instance.getId());
+        writeLong(writer, "version", instance.getVersion());
+        writeString(writer, "workflowId", instance.getWorkflowId());
+        writeString(writer, "workflowName", instance.getWorkflowName());
+        writeEnum(writer, "status", instance.getStatus());
+        writeString(writer, "currentStepId", instance.getCurrentStepId());
+        writeMap(writer, "variables", instance.getVariables(), context);
+        writeDateTime(writer, "startedAt", instance.getStartedAt());
+        writeDateTime(writer, "completedAt", instance.getCompletedAt());
+        writeString(writer, "startedBy", instance.getStartedBy());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public WorkflowInstance decode(BsonReader reader, DecoderContext context) {
+        WorkflowInstance instance = new WorkflowInstance();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> instance.setId(readId(reader));
+                case "version" -> instance.setVersion(readLong(reader));
+                case "workflowId" -> instance.setWorkflowId(readString(reader));
+                case "workflowName" -> instance.setWorkflowName(readString(reader));
+                case "status" -> instance.setStatus(readEnum(reader, WorkflowInstance.WorkflowStatus.class));
+                case "currentStepId" -> instance.setCurrentStepId(readString(reader));
+                case "variables" -> instance.setVariables(readMap(reader, context));
+                case "startedAt" -> instance.setStartedAt(readDateTime(reader));
+                case "completedAt" -> instance.setCompletedAt(readDateTime(reader));
+                case "startedBy" -> instance.setStartedBy(readString(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return instance;
+    }
+
+    @Override
+    public Class<WorkflowInstance> getEncoderClass() {
+        return WorkflowInstance.class;
+    }
+}
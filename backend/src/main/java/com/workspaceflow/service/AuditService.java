@@ -0,0 +1,36 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.mapper.AuditMapper;
+import com.workspaceflow.model.dto.AuditEventResponse;
+import com.workspaceflow.repository.AuditEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service for querying the audit trail
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditService {
+
+    private static final int DEFAULT_WINDOW_DAYS = 30;
+
+    private final AuditEventRepository auditEventRepository;
+    private final AuditMapper auditMapper;
+
+    /**
+     * Get audit events of an entity within a time window (defaults to the last 30 days)
+     */
+    public List<AuditEventResponse> getEntityHistory(String entityType, String entityId,
+            LocalDateTime from, LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(DEFAULT_WINDOW_DAYS);
+
+        return auditMapper.toResponseList(auditEventRepository
+                .findByMetaEntityTypeAndMetaEntityIdAndTimestampBetweenOrderByTimestampAsc(
+                        entityType, entityId, start, end));
+    }
+}
@@ -0,0 +1,140 @@
+package com.workspaceflow.service;
+
+import com.mongodb.MongoException;
+import com.workspaceflow.exception.ConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Bounded retry of optimistic locking conflicts, for {@link RetryOnConflict}
+ * methods and programmatic use.
+ * <p>
+ * Each attempt re-runs the whole operation, which re-reads the entity, so a
+ * retry succeeds when the concurrent change commutes with it. Otherwise the
+ * operation throws {@link ConflictException} and the client gets a 409. The
+ * aspect is ordered before the transaction interceptor so that in outbox mode
+ * each attempt runs in a fresh transaction; inside an already active transaction
+ * conflicts are propagated to the outermost retry.
+ * <p>
+ * Metric {@code workspaceflow.optimistic.conflicts} counts conflicts per
+ * operation and outcome (retried, exhausted, rejected).
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ConflictRetry {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${workspaceflow.optimistic-lock.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${workspaceflow.optimistic-lock.backoff:PT0.01S}")
+    private Duration backoff = Duration.ofMillis(10);
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retryAnnotated(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        return execute(retryOnConflict.value(), joinPoint::proceed);
+    }
+
+    /**
+     * Run an operation, retrying it on optimistic locking conflicts
+     */
+    public <T> T run(String operation, Supplier<T> action) {
+        try {
+            return execute(operation, action::get);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private <T> T execute(String operation, Attempt<T> attempt) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return attempt.run();
+        }
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return attempt.run();
+            } catch (ConflictException e) {
+                if (attemptNumber > 1) {
+                    count(operation, "rejected");
+                }
+                throw e;
+            } catch (RuntimeException e) {
+                if (!isConflict(e)) {
+                    throw e;
+                }
+                if (attemptNumber >= maxAttempts) {
+                    count(operation, "exhausted");
+                    log.warn("Giving up {} after {} conflicting attempts", operation, attemptNumber);
+                    throw new ConflictException("Concurrent update conflict in " + operation + ", please retry", e);
+                }
+                count(operation, "retried");
+                log.debug("Retrying {} after conflict (attempt {})", operation, attemptNumber);
+                pause(attemptNumber);
+            }
+        }
+    }
+
+    /**
+     * A lost version check, or a write conflict aborting a Mongo transaction
+     */
+    static boolean isConflict(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockingFailureException) {
+                return true;
+            }
+            if (cause instanceof MongoException mongoException
+                    && mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void count(String operation, String outcome) {
+        Counter.builder("workspaceflow.optimistic.conflicts")
+                .description("Optimistic locking conflicts per operation")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void pause(int attemptNumber) {
+        long maxMillis = backoff.toMillis() * attemptNumber;
+        if (maxMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxMillis / 2, maxMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Interrupted while retrying a conflicting update", e);
+        }
+    }
+
+    @FunctionalInterface
+    interface Attempt<T> {
+        T run() throws Throwable;
+    }
+}
@@ -0,0 +1,61 @@
+package com.workspaceflow.service;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.regex.Pattern;
+
+/**
+ * Matches dead letter records by original topic, key, record time window and exception class.
+ * Null criteria match everything.
+ */
+public record DeadLetterFilter(String originalTopic, String key, LocalDateTime from, LocalDateTime to,
+        String errorClass) {
+
+    private static final Pattern RETRY_SUFFIX = Pattern.compile("-retry(-\\d+)?$");
+
+    public boolean matches(ConsumerRecord<String, byte[]> record) {
+        if (originalTopic != null && !originalTopic.equals(originalTopic(record))) {
+            return false;
+        }
+        if (key != null && !key.equals(record.key())) {
+            return false;
+        }
+        LocalDateTime timestamp = timestamp(record);
+        if (from != null && timestamp.isBefore(from)) {
+            return false;
+        }
+        if (to != null && !timestamp.isBefore(to)) {
+            return false;
+        }
+        return errorClass == null
+                || isClass(header(record, KafkaHeaders.DLT_EXCEPTION_FQCN))
+                || isClass(header(record, KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN));
+    }
+
+    private boolean isClass(String className) {
+        return className != null && (className.equals(errorClass) || className.endsWith("." + errorClass));
+    }
+
+    /**
+     * Main topic a dead letter came from; records exhausted on a retry topic point back to its main topic
+     */
+    public static String originalTopic(ConsumerRecord<String, byte[]> record) {
+        String topic = header(record, KafkaHeaders.DLT_ORIGINAL_TOPIC);
+        return topic != null ? RETRY_SUFFIX.matcher(topic).replaceFirst("") : null;
+    }
+
+    public static LocalDateTime timestamp(ConsumerRecord<?, ?> record) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestamp()), ZoneId.systemDefault());
+    }
+
+    public static String header(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null && header.value() != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
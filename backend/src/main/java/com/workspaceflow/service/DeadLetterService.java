@@ -0,0 +1,460 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.config.KafkaTopicConfig;
+import com.workspaceflow.event.serialization.BinaryEventCodec;
+import com.workspaceflow.event.serialization.EventDeserializer;
+import com.workspaceflow.exception.ConflictException;
+import com.workspaceflow.model.dto.DeadLetterRecordResponse;
+import com.workspaceflow.model.dto.DeadLetterReplayRequest;
+import com.workspaceflow.model.dto.DeadLetterReplayResponse;
+import com.workspaceflow.model.entity.DeadLetterReplay;
+import com.workspaceflow.model.entity.DeadLetterReplay.ReplayStatus;
+import com.workspaceflow.repository.DeadLetterReplayRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Browses deadletter.events and replays matching records to their original topics.
+ *
+ * A replay snapshots the dead letter end offsets at start, then re-publishes the raw record
+ * bytes at no more than its rate, without the dlt/retry headers so the record gets a fresh
+ * set of retries. Progress is checkpointed (flush, then save the next offset per partition)
+ * so delivery is at-least-once. A lease per replay keeps it on one node; RUNNING replays
+ * whose node went away are picked up again by {@link #resumeReplays}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadLetterService {
+
+    static final String REPLAY_HEADER = "workspaceflow-replay-id";
+    private static final String LEASE_PREFIX = "dead-letter-replay:";
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final DeadLetterReplayRepository replayRepository;
+    private final MongoTemplate mongoTemplate;
+    private final LeaseService leaseService;
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final ProducerFactory<String, Object> producerFactory;
+    private final BinaryEventCodec binaryEventCodec;
+
+    private final Set<String> active = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "dead-letter-replay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${workspaceflow.deadletter.browse.default-limit:50}")
+    private int defaultLimit = 50;
+
+    @Value("${workspaceflow.deadletter.browse.max-limit:500}")
+    private int maxLimit = 500;
+
+    @Value("${workspaceflow.deadletter.browse.max-scan:10000}")
+    private long maxScan = 10000;
+
+    @Value("${workspaceflow.deadletter.replay.default-rate:100}")
+    private int defaultRate = 100;
+
+    @Value("${workspaceflow.deadletter.replay.max-rate:5000}")
+    private int maxRate = 5000;
+
+    @Value("${workspaceflow.deadletter.replay.max-concurrent:2}")
+    private int maxConcurrent = 2;
+
+    @Value("${workspaceflow.deadletter.replay.checkpoint-interval:PT5S}")
+    private Duration checkpointInterval = Duration.ofSeconds(5);
+
+    @Value("${workspaceflow.deadletter.replay.lease-ttl:PT1M}")
+    private Duration leaseTtl = Duration.ofMinutes(1);
+
+    private volatile boolean shuttingDown;
+
+    /**
+     * First records matching the filter, scanning at most max-scan dead letters
+     */
+    public List<DeadLetterRecordResponse> browse(DeadLetterFilter filter, Integer limit) {
+        int max = limit != null ? Math.max(1, Math.min(limit, maxLimit)) : defaultLimit;
+        EventDeserializer deserializer = new EventDeserializer(binaryEventCodec);
+        List<DeadLetterRecordResponse> records = new ArrayList<>();
+
+        try (Consumer<String, byte[]> consumer = createConsumer(500)) {
+            List<TopicPartition> partitions = assignDeadLetters(consumer);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            seekToStart(consumer, partitions, filter.from());
+
+            long scanned = 0;
+            while (records.size() < max && scanned < maxScan && !reachedEnd(consumer, endOffsets)) {
+                for (ConsumerRecord<String, byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                    scanned++;
+                    if (records.size() < max && filter.matches(record)) {
+                        records.add(toResponse(record, deserializer));
+                    }
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Create a replay of the matching dead letters and start it if a slot is free
+     */
+    public DeadLetterReplayResponse startReplay(DeadLetterReplayRequest request) {
+        int rate = Math.min(request.getRatePerSecond() != null ? request.getRatePerSecond() : defaultRate, maxRate);
+        Map<String, Long> endOffsets = new HashMap<>();
+        Map<String, Long> positions = new HashMap<>();
+        long total = 0;
+
+        try (Consumer<String, byte[]> consumer = createConsumer(1)) {
+            List<TopicPartition> partitions = assignDeadLetters(consumer);
+            Map<TopicPartition, Long> end = consumer.endOffsets(partitions);
+            seekToStart(consumer, partitions, request.getFrom());
+            for (TopicPartition partition : partitions) {
+                long position = consumer.position(partition);
+                endOffsets.put(String.valueOf(partition.partition()), end.get(partition));
+                positions.put(String.valueOf(partition.partition()), position);
+                total += Math.max(0, end.get(partition) - position);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        DeadLetterReplay replay = replayRepository.save(DeadLetterReplay.builder()
+                .originalTopic(request.getOriginalTopic())
+                .key(request.getKey())
+                .from(request.getFrom())
+                .to(request.getTo())
+                .errorClass(request.getErrorClass())
+                .ratePerSecond(rate)
+                .status(ReplayStatus.RUNNING)
+                .endOffsets(endOffsets)
+                .positions(positions)
+                .totalRecords(total)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        log.info("Created dead letter replay {} over {} records at {}/s", replay.getId(), total, rate);
+
+        tryStart(replay.getId());
+        return toResponse(replay);
+    }
+
+    public DeadLetterReplayResponse getReplay(String id) {
+        return toResponse(findReplay(id));
+    }
+
+    public List<DeadLetterReplayResponse> getReplays() {
+        return replayRepository.findAllByOrderByCreatedAtDesc().stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /**
+     * Stop a running replay; the runner notices at its next checkpoint
+     */
+    public DeadLetterReplayResponse cancelReplay(String id) {
+        findReplay(id);
+        if (!finish(id, ReplayStatus.CANCELLED, null)) {
+            throw new ConflictException("Dead letter replay " + id + " is not running");
+        }
+        log.info("Cancelled dead letter replay {}", id);
+        return toResponse(findReplay(id));
+    }
+
+    /**
+     * Pick up RUNNING replays that no node is working on, e.g. after a restart
+     */
+    @Scheduled(fixedDelayString = "${workspaceflow.deadletter.replay.resume-interval:PT30S}")
+    public void resumeReplays() {
+        for (DeadLetterReplay replay : replayRepository.findByStatus(ReplayStatus.RUNNING)) {
+            if (!active.contains(replay.getId())) {
+                tryStart(replay.getId());
+            }
+        }
+    }
+
+    private synchronized void tryStart(String id) {
+        if (shuttingDown || active.size() >= maxConcurrent || active.contains(id)) {
+            return;
+        }
+        if (!leaseService.tryAcquire(LEASE_PREFIX + id, leaseTtl)) {
+            return;
+        }
+        active.add(id);
+        executor.submit(() -> run(id));
+    }
+
+    private void run(String id) {
+        try {
+            DeadLetterReplay replay = replayRepository.findById(id).orElse(null);
+            if (replay != null && replay.getStatus() == ReplayStatus.RUNNING) {
+                execute(replay);
+            }
+        } catch (InterruptException | InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Dead letter replay {} stopped, it resumes from its last checkpoint", id);
+        } catch (RuntimeException e) {
+            log.error("Dead letter replay {} failed", id, e);
+            finish(id, ReplayStatus.FAILED, e.getMessage());
+        } finally {
+            active.remove(id);
+            leaseService.release(LEASE_PREFIX + id);
+        }
+    }
+
+    private void execute(DeadLetterReplay replay) throws InterruptedException {
+        String id = replay.getId();
+        DeadLetterFilter filter = new DeadLetterFilter(replay.getOriginalTopic(), replay.getKey(),
+                replay.getFrom(), replay.getTo(), replay.getErrorClass());
+        Map<TopicPartition, Long> endOffsets = toPartitions(replay.getEndOffsets());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / replay.getRatePerSecond();
+        AtomicReference<Exception> sendError = new AtomicReference<>();
+        long scanned = replay.getScanned();
+        long replayed = replay.getReplayed();
+        long nextSendAt = System.nanoTime();
+        long lastCheckpoint = System.nanoTime();
+        log.info("Running dead letter replay {} from {}", id, replay.getPositions());
+
+        // One poll holds about a second of sends, so checkpoints and lease renewals stay on time
+        try (Consumer<String, byte[]> consumer = createConsumer(Math.min(500, replay.getRatePerSecond()));
+             Producer<String, byte[]> producer = createProducer()) {
+            consumer.assign(endOffsets.keySet());
+            toPartitions(replay.getPositions()).forEach(consumer::seek);
+
+            boolean done = reachedEnd(consumer, endOffsets);
+            while (!done) {
+                for (ConsumerRecord<String, byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                    if (record.offset() >= endOffsets.get(new TopicPartition(record.topic(), record.partition()))) {
+                        continue;
+                    }
+                    scanned++;
+                    String topic = DeadLetterFilter.originalTopic(record);
+                    if (topic == null || !filter.matches(record)) {
+                        continue;
+                    }
+                    long wait = nextSendAt - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                    nextSendAt = Math.max(nextSendAt, System.nanoTime() - intervalNanos) + intervalNanos;
+                    producer.send(new ProducerRecord<>(topic, null, record.key(), record.value(), replayHeaders(id, record)),
+                            (metadata, e) -> {
+                                if (e != null) {
+                                    sendError.compareAndSet(null, e);
+                                }
+                            });
+                    replayed++;
+                }
+
+                done = reachedEnd(consumer, endOffsets);
+                if (done || System.nanoTime() - lastCheckpoint >= checkpointInterval.toNanos()) {
+                    producer.flush();
+                    if (sendError.get() != null) {
+                        throw new KafkaException("Replay send failed", sendError.get());
+                    }
+                    if (!checkpoint(id, positions(consumer, endOffsets.keySet()), scanned, replayed)) {
+                        log.info("Dead letter replay {} cancelled after {} records", id, replayed);
+                        return;
+                    }
+                    if (!leaseService.tryAcquire(LEASE_PREFIX + id, leaseTtl)) {
+                        log.warn("Lost the lease of dead letter replay {}, stopping", id);
+                        return;
+                    }
+                    lastCheckpoint = System.nanoTime();
+                }
+            }
+        }
+        finish(id, ReplayStatus.COMPLETED, null);
+        log.info("Dead letter replay {} completed: {} of {} records re-published", id, replayed, scanned);
+    }
+
+    private boolean checkpoint(String id, Map<String, Long> positions, long scanned, long replayed) {
+        Query query = Query.query(Criteria.where("_id").is(id).and("status").is(ReplayStatus.RUNNING));
+        Update update = new Update()
+                .set("positions", positions)
+                .set("scanned", scanned)
+                .set("replayed", replayed)
+                .set("updatedAt", LocalDateTime.now());
+        return mongoTemplate.updateFirst(query, update, DeadLetterReplay.class).getMatchedCount() > 0;
+    }
+
+    private boolean finish(String id, ReplayStatus status, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = Query.query(Criteria.where("_id").is(id).and("status").is(ReplayStatus.RUNNING));
+        Update update = new Update()
+                .set("status", status)
+                .set("lastError", error)
+                .set("updatedAt", now)
+                .set("completedAt", now);
+        return mongoTemplate.updateFirst(query, update, DeadLetterReplay.class).getMatchedCount() > 0;
+    }
+
+    private DeadLetterReplay findReplay(String id) {
+        return replayRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Dead letter replay not found with id: " + id));
+    }
+
+    /**
+     * Original headers minus the dead letter and retry bookkeeping, plus the replay id
+     */
+    private static RecordHeaders replayHeaders(String replayId, ConsumerRecord<String, byte[]> record) {
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith("kafka_dlt-") && !header.key().startsWith("retry_topic-")) {
+                headers.add(header);
+            }
+        }
+        headers.add(REPLAY_HEADER, replayId.getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+
+    private Consumer<String, byte[]> createConsumer(int maxPollRecords) {
+        Map<String, Object> config = new HashMap<>(consumerFactory.getConfigurationProperties());
+        config.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.max(1, maxPollRecords));
+        return new KafkaConsumer<>(config, new StringDeserializer(), new ByteArrayDeserializer());
+    }
+
+    private Producer<String, byte[]> createProducer() {
+        return new KafkaProducer<>(new HashMap<>(producerFactory.getConfigurationProperties()),
+                new StringSerializer(), new ByteArraySerializer());
+    }
+
+    private static List<TopicPartition> assignDeadLetters(Consumer<String, byte[]> consumer) {
+        List<TopicPartition> partitions = consumer.partitionsFor(KafkaTopicConfig.DEADLETTER_EVENTS).stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+        consumer.assign(partitions);
+        return partitions;
+    }
+
+    private static void seekToStart(Consumer<String, byte[]> consumer, List<TopicPartition> partitions,
+            LocalDateTime from) {
+        if (from == null) {
+            consumer.seekToBeginning(partitions);
+            return;
+        }
+        long timestamp = from.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Map<TopicPartition, Long> query = new HashMap<>();
+        partitions.forEach(partition -> query.put(partition, timestamp));
+        Map<TopicPartition, OffsetAndTimestamp> offsets = consumer.offsetsForTimes(query);
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+        for (TopicPartition partition : partitions) {
+            OffsetAndTimestamp offset = offsets.get(partition);
+            consumer.seek(partition, offset != null ? offset.offset() : endOffsets.get(partition));
+        }
+    }
+
+    private static boolean reachedEnd(Consumer<String, byte[]> consumer, Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream().allMatch(end -> consumer.position(end.getKey()) >= end.getValue());
+    }
+
+    private static Map<String, Long> positions(Consumer<String, byte[]> consumer, Collection<TopicPartition> partitions) {
+        Map<String, Long> positions = new HashMap<>();
+        partitions.forEach(partition -> positions.put(String.valueOf(partition.partition()), consumer.position(partition)));
+        return positions;
+    }
+
+    private static Map<TopicPartition, Long> toPartitions(Map<String, Long> offsets) {
+        Map<TopicPartition, Long> partitions = new HashMap<>();
+        offsets.forEach((partition, offset) ->
+                partitions.put(new TopicPartition(KafkaTopicConfig.DEADLETTER_EVENTS, Integer.parseInt(partition)), offset));
+        return partitions;
+    }
+
+    private static DeadLetterRecordResponse toResponse(ConsumerRecord<String, byte[]> record,
+            EventDeserializer deserializer) {
+        Object value;
+        try {
+            value = deserializer.deserialize(KafkaTopicConfig.DEADLETTER_EVENTS, record.value());
+        } catch (RuntimeException e) {
+            value = record.value() != null ? new String(record.value(), StandardCharsets.UTF_8) : null;
+        }
+        String causeClass = DeadLetterFilter.header(record, KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN);
+        return DeadLetterRecordResponse.builder()
+                .partition(record.partition())
+                .offset(record.offset())
+                .key(record.key())
+                .timestamp(DeadLetterFilter.timestamp(record))
+                .originalTopic(DeadLetterFilter.originalTopic(record))
+                .exceptionClass(causeClass != null ? causeClass
+                        : DeadLetterFilter.header(record, KafkaHeaders.DLT_EXCEPTION_FQCN))
+                .exceptionMessage(DeadLetterFilter.header(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE))
+                .value(value)
+                .build();
+    }
+
+    private DeadLetterReplayResponse toResponse(DeadLetterReplay replay) {
+        double progress = replay.getTotalRecords() == 0 ? 100.0
+                : Math.min(100.0, Math.round(replay.getScanned() * 1000.0 / replay.getTotalRecords()) / 10.0);
+        return DeadLetterReplayResponse.builder()
+                .id(replay.getId())
+                .status(replay.getStatus().name())
+                .originalTopic(replay.getOriginalTopic())
+                .key(replay.getKey())
+                .from(replay.getFrom())
+                .to(replay.getTo())
+                .errorClass(replay.getErrorClass())
+                .ratePerSecond(replay.getRatePerSecond())
+                .totalRecords(replay.getTotalRecords())
+                .scanned(replay.getScanned())
+                .replayed(replay.getReplayed())
+                .progressPercent(progress)
+                .lastError(replay.getLastError())
+                .createdAt(replay.getCreatedAt())
+                .updatedAt(replay.getUpdatedAt())
+                .completedAt(replay.getCompletedAt())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        executor.shutdownNow();
+    }
+}
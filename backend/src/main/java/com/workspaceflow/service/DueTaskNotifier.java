@@ -0,0 +1,122 @@
+package com.workspaceflow.service;
+
+import com.mongodb.client.result.UpdateResult;
+import com.workspaceflow.event.EventProducer;
+import com.workspaceflow.event.NotificationEvent;
+import com.workspaceflow.exception.PublishCapacityExceededException;
+import com.workspaceflow.model.entity.Task;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Publishes a TASK_DUE notification for open tasks due within the lead time (or overdue),
+ * to the assignee or, for unassigned tasks, to the task's role. Each task is claimed by
+ * setting dueNotifiedAt before publishing, so every node may scan and a task is reminded once.
+ * A scan is skipped while publishing capacity is exhausted, so no claimed reminder is rejected.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DueTaskNotifier {
+
+    private static final List<String> OPEN_STATUSES = List.of(Task.TaskStatus.CREATED.name(),
+            Task.TaskStatus.ASSIGNED.name(), Task.TaskStatus.IN_PROGRESS.name());
+
+    private final MongoTemplate mongoTemplate;
+    private final EventProducer eventProducer;
+
+    @Value("${workspaceflow.notifications.due.lead:PT1H}")
+    private Duration lead = Duration.ofHours(1);
+
+    @Value("${workspaceflow.notifications.due.batch-size:500}")
+    private int batchSize = 500;
+
+    /**
+     * Created in the background once the application is ready; until then scans fall back to a
+     * collection scan
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        try {
+            // Only tasks with a due date are indexed
+            mongoTemplate.indexOps(Task.class).ensureIndex(new Index()
+                    .on("dueAt", Sort.Direction.ASC)
+                    .sparse()
+                    .named("task_due"));
+        } catch (RuntimeException e) {
+            log.warn("Could not create the task_due index: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${workspaceflow.notifications.due.scan-interval:PT1M}",
+            initialDelayString = "${workspaceflow.notifications.due.scan-interval:PT1M}")
+    public void scheduledScan() {
+        int notified = notifyDueTasks();
+        if (notified > 0) {
+            log.info("Published {} due task reminders", notified);
+        }
+    }
+
+    /**
+     * Claim and announce one batch of due tasks; returns the number of reminders published
+     */
+    public int notifyDueTasks() {
+        try {
+            eventProducer.ensurePublishCapacity();
+        } catch (PublishCapacityExceededException e) {
+            log.warn("Postponing due task reminders: {}", e.getMessage());
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Query due = Query.query(Criteria.where("dueAt").lte(now.plus(lead))
+                        .and("dueNotifiedAt").is(null)
+                        .and("status").in(OPEN_STATUSES))
+                .with(Sort.by(Sort.Direction.ASC, "dueAt"))
+                .limit(batchSize);
+
+        int notified = 0;
+        for (Task task : mongoTemplate.find(due, Task.class)) {
+            // The version increment makes a concurrent save of the task (assignment) retry on a fresh read
+            UpdateResult claimed = mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(task.getId())
+                            .and("workflowInstanceId").is(task.getWorkflowInstanceId())
+                            .and("dueNotifiedAt").is(null)),
+                    new Update().set("dueNotifiedAt", now).inc("version", 1),
+                    Task.class);
+            if (claimed.getModifiedCount() == 0) {
+                continue;
+            }
+
+            String recipient = task.getAssignee() != null
+                    ? task.getAssignee()
+                    : NotificationEvent.roleRecipient(task.getAssigneeRole());
+            eventProducer.publishNotification(
+                    NotificationEvent.TASK_DUE,
+                    recipient,
+                    task.getId(),
+                    task.getWorkflowInstanceId(),
+                    task.getWorkflowId(),
+                    task.getName());
+            notified++;
+        }
+        return notified;
+    }
+}
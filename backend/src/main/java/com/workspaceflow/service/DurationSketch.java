@@ -0,0 +1,86 @@
+package com.workspaceflow.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Mergeable duration sketch using the log-scale bins of {@link StepAnalyticsService},
+ * so live and batch percentiles agree. Durations are capped at one year, which
+ * bounds a sketch to about 500 counters (4 KB); the array only grows up to the
+ * largest bin seen. Not thread-safe.
+ */
+public class DurationSketch {
+
+    static final int MAX_BIN = StepAnalyticsService.binOf(Duration.ofDays(365).toMillis());
+
+    private long[] counts = new long[0];
+    private long total;
+
+    public void record(long millis) {
+        add(StepAnalyticsService.binOf(Math.max(0, millis)), 1);
+    }
+
+    public void merge(DurationSketch other) {
+        for (int bin = 0; bin < other.counts.length; bin++) {
+            if (other.counts[bin] != 0) {
+                add(bin, other.counts[bin]);
+            }
+        }
+    }
+
+    public long count() {
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    public long quantile(double q) {
+        return StepAnalyticsService.quantile(toNavigableMap(), total, q);
+    }
+
+    /**
+     * Non-empty bins keyed by bin index, the layout stored in Mongo
+     */
+    public Map<String, Long> toBins() {
+        Map<String, Long> bins = new HashMap<>();
+        for (int bin = 0; bin < counts.length; bin++) {
+            if (counts[bin] != 0) {
+                bins.put(Integer.toString(bin), counts[bin]);
+            }
+        }
+        return bins;
+    }
+
+    public static DurationSketch fromBins(Map<String, Long> bins) {
+        DurationSketch sketch = new DurationSketch();
+        if (bins != null) {
+            bins.forEach((bin, count) -> sketch.add(Integer.parseInt(bin), count));
+        }
+        return sketch;
+    }
+
+    NavigableMap<Integer, Long> toNavigableMap() {
+        NavigableMap<Integer, Long> bins = new TreeMap<>();
+        for (int bin = 0; bin < counts.length; bin++) {
+            if (counts[bin] != 0) {
+                bins.put(bin, counts[bin]);
+            }
+        }
+        return bins;
+    }
+
+    private void add(int bin, long count) {
+        int index = Math.min(bin, MAX_BIN);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.min(MAX_BIN + 1, Math.max(index + 1, counts.length * 2)));
+        }
+        counts[index] += count;
+        total += count;
+    }
+}
@@ -0,0 +1,264 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.model.dto.ProjectionRebuildResponse;
+import com.workspaceflow.model.entity.InstanceEvent;
+import com.workspaceflow.model.entity.InstanceSnapshot;
+import com.workspaceflow.model.entity.WorkflowInstance;
+import com.workspaceflow.repository.InstanceEventRepository;
+import com.workspaceflow.repository.InstanceSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Event store for workflow instances (workspaceflow.instances.event-sourcing.enabled).
+ * <p>
+ * State changes are appended to instance_events; the current state is a fold over an
+ * instance's events, starting from its latest snapshot (taken every snapshot-every events).
+ * Appends are inserts of the next sequence, so concurrent writers conflict on the event id
+ * instead of on a document version, and the loser is retried by {@link ConflictRetry}.
+ * workflow_instances becomes a projection of the folded state, which
+ * {@link #rebuildProjections()} regenerates from the events.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InstanceEventStore {
+
+    private final InstanceEventRepository eventRepository;
+    private final InstanceSnapshotRepository snapshotRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${workspaceflow.instances.event-sourcing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${workspaceflow.instances.event-sourcing.snapshot-every:50}")
+    private int snapshotEvery = 50;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            // Replay after a snapshot and time-travel reads, per instance in sequence order
+            mongoTemplate.indexOps(InstanceEvent.class).ensureIndex(new Index()
+                    .on("instanceId", Sort.Direction.ASC)
+                    .on("sequence", Sort.Direction.ASC)
+                    .named("instance_sequence"));
+        } catch (RuntimeException e) {
+            log.warn("Could not create the instance_sequence index: {}", e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record a new instance; returns its state with the generated id
+     */
+    public WorkflowInstance start(WorkflowInstance instance) {
+        Map<String, Object> data = new HashMap<>();
+        data.put(InstanceEvent.WORKFLOW_ID, instance.getWorkflowId());
+        data.put(InstanceEvent.WORKFLOW_NAME, instance.getWorkflowName());
+        data.put(InstanceEvent.VARIABLES, instance.getVariables());
+        WorkflowInstance empty = WorkflowInstance.builder().id(new ObjectId().toHexString()).build();
+        return append(empty, InstanceEvent.Type.STARTED, instance.getStartedBy(), data);
+    }
+
+    /**
+     * Append an event after the given state and return the new state. Throws
+     * OptimisticLockingFailureException when another event was appended since the state was read.
+     */
+    public WorkflowInstance append(WorkflowInstance current, InstanceEvent.Type type, String actor,
+            Map<String, Object> data) {
+        long sequence = current.getVersion() != null ? current.getVersion() + 1 : 1;
+        InstanceEvent event = InstanceEvent.builder()
+                .id(InstanceEvent.idOf(current.getId(), sequence))
+                .instanceId(current.getId())
+                .sequence(sequence)
+                .type(type)
+                .timestamp(LocalDateTime.now())
+                .actor(actor != null ? actor : "system")
+                .data(data != null ? data : Map.of())
+                .build();
+        try {
+            eventRepository.insert(event);
+        } catch (DuplicateKeyException e) {
+            throw new OptimisticLockingFailureException(
+                    "Instance " + current.getId() + " already has an event at sequence " + sequence, e);
+        }
+
+        WorkflowInstance next = apply(sequence == 1 ? null : current, event);
+        project(next, false);
+        if (sequence % snapshotEvery == 0) {
+            snapshot(next);
+        }
+        return next;
+    }
+
+    /**
+     * Current state: the snapshot plus the events after it; empty for instances without events
+     */
+    public Optional<WorkflowInstance> load(String instanceId) {
+        Optional<InstanceSnapshot> snapshot = snapshotRepository.findById(instanceId);
+        WorkflowInstance state = snapshot.map(InstanceSnapshot::getState).orElse(null);
+        long after = snapshot.map(InstanceSnapshot::getSequence).orElse(0L);
+        return Optional.ofNullable(fold(state,
+                eventRepository.findByInstanceIdAndSequenceGreaterThanOrderBySequenceAsc(instanceId, after)));
+    }
+
+    /**
+     * State as of a point in time, folded from the first event (time-travel debugging)
+     */
+    public Optional<WorkflowInstance> loadAt(String instanceId, LocalDateTime at) {
+        return Optional.ofNullable(fold(null,
+                eventRepository.findByInstanceIdAndTimestampLessThanEqualOrderBySequenceAsc(instanceId, at)));
+    }
+
+    public List<InstanceEvent> history(String instanceId) {
+        return eventRepository.findByInstanceIdOrderBySequenceAsc(instanceId);
+    }
+
+    /**
+     * Replay tool: fold every instance from its first event, overwrite its projection and
+     * refresh its snapshot
+     */
+    public ProjectionRebuildResponse rebuildProjections() {
+        long started = System.currentTimeMillis();
+        List<String> instanceIds = mongoTemplate.findDistinct(new Query(), "instanceId", InstanceEvent.class, String.class);
+        long events = 0;
+        for (String instanceId : instanceIds) {
+            List<InstanceEvent> history = history(instanceId);
+            WorkflowInstance state = fold(null, history);
+            project(state, true);
+            if (state.getVersion() >= snapshotEvery) {
+                snapshot(state);
+            }
+            events += history.size();
+        }
+        long durationMillis = System.currentTimeMillis() - started;
+        log.info("Rebuilt {} instance projections from {} events in {} ms", instanceIds.size(), events, durationMillis);
+        return ProjectionRebuildResponse.builder()
+                .instances(instanceIds.size())
+                .events(events)
+                .durationMillis(durationMillis)
+                .build();
+    }
+
+    static WorkflowInstance fold(WorkflowInstance state, List<InstanceEvent> events) {
+        for (InstanceEvent event : events) {
+            state = apply(state, event);
+        }
+        return state;
+    }
+
+    /**
+     * The state after one event; the input state is not modified
+     */
+    static WorkflowInstance apply(WorkflowInstance state, InstanceEvent event) {
+        if (state == null && event.getType() != InstanceEvent.Type.STARTED) {
+            throw new IllegalStateException("Event history of instance " + event.getInstanceId()
+                    + " does not begin with STARTED");
+        }
+        WorkflowInstance next = state == null ? new WorkflowInstance() : copyOf(state);
+        Map<String, Object> data = event.getData() != null ? event.getData() : Map.of();
+        switch (event.getType()) {
+            case STARTED -> {
+                next.setId(event.getInstanceId());
+                next.setWorkflowId((String) data.get(InstanceEvent.WORKFLOW_ID));
+                next.setWorkflowName((String) data.get(InstanceEvent.WORKFLOW_NAME));
+                next.setVariables(variables(data));
+                next.setStatus(WorkflowInstance.WorkflowStatus.STARTED);
+                next.setStartedAt(event.getTimestamp());
+                next.setStartedBy(event.getActor());
+            }
+            case COMPLETED -> {
+                next.setStatus(WorkflowInstance.WorkflowStatus.COMPLETED);
+                next.setCompletedAt(event.getTimestamp());
+            }
+        }
+        next.setVersion(event.getSequence());
+        return next;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> variables(Map<String, Object> data) {
+        Object variables = data.get(InstanceEvent.VARIABLES);
+        return variables instanceof Map<?, ?> map ? new HashMap<>((Map<String, Object>) map) : new HashMap<>();
+    }
+
+    private static WorkflowInstance copyOf(WorkflowInstance state) {
+        return WorkflowInstance.builder()
+                .id(state.getId())
+                .version(state.getVersion())
+                .workflowId(state.getWorkflowId())
+                .workflowName(state.getWorkflowName())
+                .status(state.getStatus())
+                .currentStepId(state.getCurrentStepId())
+                .variables(state.getVariables())
+                .startedAt(state.getStartedAt())
+                .completedAt(state.getCompletedAt())
+                .startedBy(state.getStartedBy())
+                .build();
+    }
+
+    /**
+     * Write the folded state to workflow_instances, whose version is the event sequence.
+     * Unless forced, an older state never overwrites a newer projection.
+     */
+    private void project(WorkflowInstance state, boolean force) {
+        Criteria criteria = Criteria.where("_id").is(state.getId());
+        if (!force) {
+            criteria = criteria.orOperator(
+                    Criteria.where("version").lt(state.getVersion()),
+                    Criteria.where("version").exists(false));
+        }
+        Update update = new Update()
+                .set("version", state.getVersion())
+                .set("workflowId", state.getWorkflowId())
+                .set("workflowName", state.getWorkflowName())
+                .set("status", state.getStatus())
+                .set("currentStepId", state.getCurrentStepId())
+                .set("variables", state.getVariables())
+                .set("startedAt", state.getStartedAt())
+                .set("completedAt", state.getCompletedAt())
+                .set("startedBy", state.getStartedBy());
+        try {
+            mongoTemplate.upsert(Query.query(criteria), update, WorkflowInstance.class);
+        } catch (DuplicateKeyException e) {
+            // The projection is already at a later sequence
+            log.debug("Projection of instance {} is newer than sequence {}", state.getId(), state.getVersion());
+        }
+    }
+
+    private void snapshot(WorkflowInstance state) {
+        snapshotRepository.save(InstanceSnapshot.builder()
+                .id(state.getId())
+                .sequence(state.getVersion())
+                .state(state)
+                .takenAt(LocalDateTime.now())
+                .build());
+    }
+}
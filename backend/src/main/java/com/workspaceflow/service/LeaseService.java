@@ -0,0 +1,63 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.model.entity.Lease;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Mongo-backed leases so that exactly one node runs a given single-writer job.
+ * A lease is acquired when it is free or expired, and renewed by its owner
+ * calling {@link #tryAcquire} again before it expires.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaseService {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * Acquire or renew a lease; returns false if another node holds it
+     */
+    public boolean tryAcquire(String name, Duration ttl) {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("_id").is(name).orOperator(
+                Criteria.where("expiresAt").lt(now),
+                Criteria.where("owner").is(nodeId)));
+        Update update = new Update()
+                .set("owner", nodeId)
+                .set("expiresAt", now.plus(ttl));
+
+        try {
+            Lease lease = mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), Lease.class);
+            return lease != null && nodeId.equals(lease.getOwner());
+        } catch (DuplicateKeyException e) {
+            // Lease exists and is held by another node
+            return false;
+        }
+    }
+
+    /**
+     * Give up a lease held by this node
+     */
+    public void release(String name) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(name).and("owner").is(nodeId)), Lease.class);
+        log.info("Released lease {}", name);
+    }
+}
@@ -0,0 +1,56 @@
+package com.workspaceflow.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stand-in channel for local runs and tests: logs each digest and keeps the latest ones per
+ * recipient in memory
+ */
+@Slf4j
+@Component
+public class LocalNotificationChannel implements NotificationChannel {
+
+    private static final int KEEP_PER_RECIPIENT = 20;
+
+    private final Map<String, Deque<NotificationDigest>> delivered = new ConcurrentHashMap<>();
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    @Override
+    public void deliver(List<NotificationDigest> digests) {
+        for (NotificationDigest digest : digests) {
+            log.info("Notification digest for {}: {} notifications {}", digest.recipient(),
+                    digest.notifications().size(), digest.countsByType());
+            Deque<NotificationDigest> kept = delivered.computeIfAbsent(digest.recipient(), recipient -> new ArrayDeque<>());
+            synchronized (kept) {
+                kept.addLast(digest);
+                if (kept.size() > KEEP_PER_RECIPIENT) {
+                    kept.removeFirst();
+                }
+            }
+        }
+    }
+
+    /**
+     * Digests delivered to a recipient, oldest first
+     */
+    public List<NotificationDigest> delivered(String recipient) {
+        Deque<NotificationDigest> kept = delivered.get(recipient);
+        if (kept == null) {
+            return List.of();
+        }
+        synchronized (kept) {
+            return List.copyOf(kept);
+        }
+    }
+}
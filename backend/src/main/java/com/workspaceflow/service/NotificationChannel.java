@@ -0,0 +1,18 @@
+package com.workspaceflow.service;
+
+import java.util.List;
+
+/**
+ * Delivery channel for notification digests (mail, chat, push...). Channels are Spring beans
+ * selected by name with workspaceflow.notifications.channels.
+ */
+public interface NotificationChannel {
+
+    String name();
+
+    /**
+     * Deliver a batch of digests for different recipients. Throwing fails the whole batch: its
+     * notifications are not acknowledged and are delivered again.
+     */
+    void deliver(List<NotificationDigest> digests);
+}
@@ -0,0 +1,24 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.event.NotificationEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * The notifications of one recipient collected during one digest window, oldest first
+ */
+public record NotificationDigest(String recipient, LocalDateTime windowStart, LocalDateTime windowEnd,
+        List<NotificationEvent> notifications) {
+
+    /**
+     * Number of notifications per type, e.g. {TASK_ASSIGNED=120, TASK_DUE=3}
+     */
+    public Map<String, Long> countsByType() {
+        return notifications.stream()
+                .collect(Collectors.groupingBy(NotificationEvent::getType, TreeMap::new, Collectors.counting()));
+    }
+}
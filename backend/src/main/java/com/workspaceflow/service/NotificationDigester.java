@@ -0,0 +1,235 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.event.NotificationEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Coalesces notifications per recipient into digests. A recipient's window opens with its
+ * first pending notification and closes digest-window later; closed windows are delivered to
+ * every enabled channel in batches of batch-size, at no more than max-digests-per-second.
+ * Past max-pending notifications the oldest windows are delivered early.
+ * <p>
+ * The future returned for a notification completes when its digest was delivered, so the
+ * consumer commits its offset only then: notifications pending at shutdown are consumed again
+ * on restart, and a failed delivery goes through the listener's error handling.
+ */
+@Slf4j
+@Service
+public class NotificationDigester {
+
+    private final List<NotificationChannel> channels;
+    private final Duration window;
+    private final Duration flushInterval;
+    private final int batchSize;
+    private final long deliveryIntervalNanos;
+    private final int maxPending;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong windowsOpened = new AtomicLong();
+    private final Counter received;
+
+    private ScheduledExecutorService flusher;
+    private long nextDeliveryAt = System.nanoTime();
+
+    /**
+     * Open window of one recipient; mutated only inside pending.compute and owned by the
+     * flushing thread once removed
+     */
+    private static final class Pending {
+        private final String recipient;
+        private final long sequence;
+        private final LocalDateTime openedAt;
+        private final List<NotificationEvent> notifications = new ArrayList<>();
+        private final List<CompletableFuture<Void>> acks = new ArrayList<>();
+
+        private Pending(String recipient, long sequence, LocalDateTime openedAt) {
+            this.recipient = recipient;
+            this.sequence = sequence;
+            this.openedAt = openedAt;
+        }
+    }
+
+    public NotificationDigester(List<NotificationChannel> available,
+            @Value("${workspaceflow.notifications.channels:local}") List<String> enabled,
+            @Value("${workspaceflow.notifications.digest-window:PT5M}") Duration window,
+            @Value("${workspaceflow.notifications.flush-interval:PT5S}") Duration flushInterval,
+            @Value("${workspaceflow.notifications.batch-size:100}") int batchSize,
+            @Value("${workspaceflow.notifications.max-digests-per-second:50}") int maxDigestsPerSecond,
+            @Value("${workspaceflow.notifications.max-pending:50000}") int maxPending,
+            MeterRegistry meterRegistry) {
+        Map<String, NotificationChannel> byName = available.stream()
+                .collect(Collectors.toMap(NotificationChannel::name, Function.identity()));
+        this.channels = enabled.stream()
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(name -> {
+                    NotificationChannel channel = byName.get(name);
+                    if (channel == null) {
+                        throw new IllegalStateException("Unknown notification channel " + name
+                                + ", available: " + byName.keySet());
+                    }
+                    return channel;
+                })
+                .toList();
+        this.window = window;
+        this.flushInterval = flushInterval;
+        this.batchSize = batchSize;
+        this.deliveryIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, maxDigestsPerSecond);
+        this.maxPending = maxPending;
+        this.meterRegistry = meterRegistry;
+        this.received = Counter.builder("workspaceflow.notifications.received")
+                .description("Notifications consumed from notification.events")
+                .register(meterRegistry);
+        Gauge.builder("workspaceflow.notifications.pending", pendingCount, AtomicInteger::get)
+                .description("Notifications waiting for their digest window to close")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Delivery runs on its own thread: rate limiting waits would otherwise hold up the
+     * shared scheduler (outbox relay, reconciliation)
+     */
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-digest");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(() -> {
+            try {
+                flush(LocalDateTime.now());
+            } catch (RuntimeException e) {
+                log.error("Notification digest flush failed", e);
+            }
+        }, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Notification digests every {} to channels {}", window,
+                channels.stream().map(NotificationChannel::name).toList());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+    }
+
+    /**
+     * Add a notification to its recipient's open window; the future completes once the digest
+     * holding it was delivered to every channel
+     */
+    public CompletableFuture<Void> add(NotificationEvent notification) {
+        CompletableFuture<Void> delivered = new CompletableFuture<>();
+        if (notification.getRecipient() == null) {
+            delivered.complete(null);
+            return delivered;
+        }
+        pending.compute(notification.getRecipient(), (recipient, open) -> {
+            Pending current = open != null ? open : new Pending(recipient, windowsOpened.incrementAndGet(), LocalDateTime.now());
+            current.notifications.add(notification);
+            current.acks.add(delivered);
+            return current;
+        });
+        pendingCount.incrementAndGet();
+        received.increment();
+        return delivered;
+    }
+
+    public int pendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Deliver the windows closed at the given time, plus the oldest open ones while more than
+     * max-pending notifications wait; returns the number of digests
+     */
+    synchronized int flush(LocalDateTime now) {
+        LocalDateTime closedIfOpenedBy = now.minus(window);
+        int overflow = pendingCount.get() - maxPending;
+        List<Pending> ready = new ArrayList<>();
+        for (Pending open : pending.values().stream().sorted(Comparator.comparingLong(p -> p.sequence)).toList()) {
+            if (open.openedAt.isAfter(closedIfOpenedBy) && overflow <= 0) {
+                break;
+            }
+            if (pending.remove(open.recipient, open)) {
+                pendingCount.addAndGet(-open.notifications.size());
+                overflow -= open.notifications.size();
+                ready.add(open);
+            }
+        }
+        if (ready.isEmpty()) {
+            return 0;
+        }
+
+        List<NotificationDigest> digests = ready.stream()
+                .map(p -> new NotificationDigest(p.recipient, p.openedAt, now, List.copyOf(p.notifications)))
+                .toList();
+        RuntimeException[] failures = new RuntimeException[digests.size()];
+        for (NotificationChannel channel : channels) {
+            for (int from = 0; from < digests.size(); from += batchSize) {
+                int to = Math.min(from + batchSize, digests.size());
+                pace(to - from);
+                try {
+                    channel.deliver(digests.subList(from, to));
+                    meterRegistry.counter("workspaceflow.notifications.digests", "channel", channel.name())
+                            .increment(to - from);
+                } catch (RuntimeException e) {
+                    log.warn("Channel {} failed to deliver {} digests: {}", channel.name(), to - from, e.getMessage());
+                    for (int i = from; i < to; i++) {
+                        failures[i] = e;
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < ready.size(); i++) {
+            RuntimeException failure = failures[i];
+            ready.get(i).acks.forEach(ack -> {
+                if (failure == null) {
+                    ack.complete(null);
+                } else {
+                    ack.completeExceptionally(failure);
+                }
+            });
+        }
+        log.debug("Delivered {} notification digests", digests.size());
+        return digests.size();
+    }
+
+    /**
+     * Wait until the next batch of digests is within the delivery rate
+     */
+    private void pace(int digests) {
+        long wait = nextDeliveryAt - System.nanoTime();
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+        nextDeliveryAt = Math.max(nextDeliveryAt, System.nanoTime()) + digests * deliveryIntervalNanos;
+    }
+}
@@ -0,0 +1,23 @@
+package com.workspaceflow.service;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-runs the annotated service method when its save loses an optimistic lock
+ * race (see {@link ConflictRetry}). The method must re-read the entity and
+ * validate the transition itself, throwing a
+ * {@link com.workspaceflow.exception.ConflictException} when the concurrent
+ * change makes it invalid.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    /**
+     * Operation name used as the metrics tag
+     */
+    String value();
+}
@@ -0,0 +1,174 @@
+package com.workspaceflow.service;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.workspaceflow.model.dto.StatsResponse;
+import com.workspaceflow.model.entity.StatusCounter;
+import com.workspaceflow.model.entity.StatusCounter.CounterKind;
+import com.workspaceflow.repository.StatusCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maintains per-workflow status counters with $inc on every transition so the
+ * dashboard reads a handful of counter documents instead of the full history.
+ * A periodic reconciliation recomputes the counters from the source collections
+ * to correct any drift (e.g. a crash between the entity save and the $inc).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatusCounterService {
+
+    private final MongoTemplate mongoTemplate;
+    private final StatusCounterRepository counterRepository;
+
+    /**
+     * Count a newly created instance or task
+     */
+    public void increment(CounterKind kind, String workflowId, Enum<?> status) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatusCounter.class);
+        adjust(bulk, kind, workflowId, status.name(), 1);
+        bulk.execute();
+    }
+
+    /**
+     * Move one instance or task from one status to another
+     */
+    public void transition(CounterKind kind, String workflowId, Enum<?> from, Enum<?> to) {
+        if (from == to) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatusCounter.class);
+        if (from != null) {
+            adjust(bulk, kind, workflowId, from.name(), -1);
+        }
+        adjust(bulk, kind, workflowId, to.name(), 1);
+        bulk.execute();
+    }
+
+    /**
+     * Get status counts, across all workflows or for one workflow
+     */
+    public StatsResponse getStats(String workflowId) {
+        List<StatusCounter> counters = workflowId != null
+                ? counterRepository.findByWorkflowId(workflowId)
+                : counterRepository.findAll();
+
+        Map<String, Long> instances = new TreeMap<>();
+        Map<String, Long> tasks = new TreeMap<>();
+        for (StatusCounter counter : counters) {
+            Map<String, Long> target = counter.getKind() == CounterKind.INSTANCE ? instances : tasks;
+            target.merge(counter.getStatus(), counter.getCount(), Long::sum);
+        }
+
+        return StatsResponse.builder()
+                .workflowId(workflowId)
+                .instancesByStatus(instances)
+                .tasksByStatus(tasks)
+                .build();
+    }
+
+    /**
+     * Recompute all counters from workflow_instances and tasks. A counter is only corrected
+     * while it still holds the value read before the aggregation: one that a transition moved
+     * in the meantime is left for the next run instead of losing that $inc.
+     */
+    @Scheduled(fixedDelayString = "${workspaceflow.stats.reconcile-interval:PT15M}",
+            initialDelayString = "${workspaceflow.stats.reconcile-initial-delay:PT1M}")
+    public void reconcile() {
+        Map<String, Long> before = new HashMap<>();
+        counterRepository.findAll().forEach(counter -> before.put(counter.getId(), counter.getCount()));
+
+        Map<String, StatusCounter> actual = new HashMap<>();
+        countByWorkflowAndStatus("workflow_instances", CounterKind.INSTANCE, actual);
+        countByWorkflowAndStatus("tasks", CounterKind.TASK, actual);
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatusCounter.class);
+        int planned = 0;
+        for (StatusCounter counter : actual.values()) {
+            Long expected = before.get(counter.getId());
+            if (expected == null) {
+                // Only created here if no transition created it since
+                bulk.upsert(
+                        Query.query(Criteria.where("_id").is(counter.getId())),
+                        new Update()
+                                .setOnInsert("kind", counter.getKind())
+                                .setOnInsert("workflowId", counter.getWorkflowId())
+                                .setOnInsert("status", counter.getStatus())
+                                .setOnInsert("count", counter.getCount())
+                                .setOnInsert("updatedAt", LocalDateTime.now()));
+                planned++;
+            } else if (expected != counter.getCount()) {
+                bulk.updateOne(
+                        Query.query(Criteria.where("_id").is(counter.getId()).and("count").is(expected)),
+                        new Update()
+                                .set("count", counter.getCount())
+                                .set("updatedAt", LocalDateTime.now()));
+                planned++;
+            }
+        }
+        for (Map.Entry<String, Long> counter : before.entrySet()) {
+            if (!actual.containsKey(counter.getKey())) {
+                bulk.remove(Query.query(Criteria.where("_id").is(counter.getKey()).and("count").is(counter.getValue())));
+                planned++;
+            }
+        }
+        if (planned == 0) {
+            log.info("Reconciled {} status counters, none drifted", actual.size());
+            return;
+        }
+
+        BulkWriteResult result = bulk.execute();
+        int applied = result.getModifiedCount() + result.getUpserts().size() + result.getDeletedCount();
+        log.info("Reconciled {} status counters: {} corrected, {} changed during the run and left for the next one",
+                actual.size(), applied, planned - applied);
+    }
+
+    private void countByWorkflowAndStatus(String collection, CounterKind kind, Map<String, StatusCounter> into) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.group("workflowId", "status").count().as("count"));
+
+        for (Document row : mongoTemplate.aggregate(aggregation, collection, Document.class).getMappedResults()) {
+            Document key = row.get("_id", Document.class);
+            String workflowId = key.getString("workflowId");
+            String status = key.getString("status");
+            if (status == null) {
+                continue;
+            }
+            String id = StatusCounter.idOf(kind, workflowId, status);
+            into.put(id, StatusCounter.builder()
+                    .id(id)
+                    .kind(kind)
+                    .workflowId(workflowId)
+                    .status(status)
+                    .count(((Number) row.get("count")).longValue())
+                    .build());
+        }
+    }
+
+    private void adjust(BulkOperations bulk, CounterKind kind, String workflowId, String status, long delta) {
+        bulk.upsert(
+                Query.query(Criteria.where("_id").is(StatusCounter.idOf(kind, workflowId, status))),
+                new Update()
+                        .inc("count", delta)
+                        .set("updatedAt", LocalDateTime.now())
+                        .setOnInsert("kind", kind)
+                        .setOnInsert("workflowId", workflowId)
+                        .setOnInsert("status", status));
+    }
+}
@@ -0,0 +1,277 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.model.dto.StepDurationStatsResponse;
+import com.workspaceflow.model.dto.StepDurationStatsResponse.Percentiles;
+import com.workspaceflow.model.dto.StepDurationStatsResponse.StepStats;
+import com.workspaceflow.model.entity.StepDurationBucket;
+import com.workspaceflow.model.entity.StepDurationBucket.StepHistogram;
+import com.workspaceflow.model.entity.Task;
+import com.workspaceflow.repository.StepDurationBucketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Computes per-step wait time (createdAt to assignedAt) and work time
+ * (assignedAt to completedAt) percentiles of completed tasks.
+ * <p>
+ * Tasks are bucketed by the day they completed. Each bucket is reduced by an
+ * aggregation over the completedAt index into log-scale histograms, which merge
+ * across buckets by adding counts. Closed buckets can no longer receive
+ * completions, so their histograms are stored once and never recomputed; only
+ * the current bucket is aggregated on every request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StepAnalyticsService {
+
+    /**
+     * Bins grow by 5%, bounding the relative error of a percentile to about 2.5%
+     */
+    static final double BIN_BASE = 1.05;
+
+    private static final double LN_BASE = Math.log(BIN_BASE);
+    private static final int DEFAULT_RANGE_DAYS = 7;
+
+    private final MongoTemplate mongoTemplate;
+    private final StepDurationBucketRepository bucketRepository;
+
+    @Value("${workspaceflow.analytics.closed-bucket-grace:PT5M}")
+    private Duration closedBucketGrace = Duration.ofMinutes(5);
+
+    @Value("${workspaceflow.analytics.max-range-days:366}")
+    private int maxRangeDays = 366;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        try {
+            mongoTemplate.indexOps(Task.class).ensureIndex(new Index()
+                    .on("completedAt", Sort.Direction.ASC)
+                    .named("completed_at"));
+        } catch (RuntimeException e) {
+            log.warn("Could not create the completed_at index, bucket aggregations scan tasks until it exists: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Get step duration percentiles for the days from..to (inclusive), defaulting to the last 7 days
+     */
+    public StepDurationStatsResponse getStepDurations(String workflowId, LocalDate from, LocalDate to) {
+        LocalDate lastDay = to != null ? to : LocalDate.now();
+        LocalDate firstDay = from != null ? from : lastDay.minusDays(DEFAULT_RANGE_DAYS - 1);
+        long days = ChronoUnit.DAYS.between(firstDay, lastDay) + 1;
+        if (days < 1 || days > maxRangeDays) {
+            throw new IllegalArgumentException("Range must cover between 1 and " + maxRangeDays + " days");
+        }
+
+        List<String> closedIds = new ArrayList<>();
+        List<LocalDate> openDays = new ArrayList<>();
+        LocalDateTime closedBefore = LocalDateTime.now().minus(closedBucketGrace);
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            if (day.plusDays(1).atStartOfDay().isAfter(closedBefore)) {
+                openDays.add(day);
+            } else {
+                closedIds.add(bucketId(day));
+            }
+        }
+
+        Map<String, StepDurationBucket> cached = bucketRepository.findAllById(closedIds).stream()
+                .collect(Collectors.toMap(StepDurationBucket::getId, Function.identity()));
+
+        Map<String, StepAccumulator> steps = new TreeMap<>();
+        for (String id : closedIds) {
+            StepDurationBucket bucket = cached.get(id);
+            if (bucket == null) {
+                bucket = bucketRepository.save(computeBucket(LocalDate.parse(id)));
+                log.debug("Computed closed step duration bucket {}", id);
+            }
+            merge(bucket, workflowId, steps);
+        }
+        for (LocalDate day : openDays) {
+            merge(computeBucket(day), workflowId, steps);
+        }
+
+        return StepDurationStatsResponse.builder()
+                .from(firstDay.atStartOfDay())
+                .to(lastDay.plusDays(1).atStartOfDay())
+                .steps(steps.values().stream()
+                        .map(step -> StepStats.builder()
+                                .workflowId(step.workflowId)
+                                .stepId(step.stepId)
+                                .waitTime(percentiles(step.wait))
+                                .workTime(percentiles(step.work))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Aggregate the histograms of tasks completed on one day, in a single scan of the completedAt index
+     */
+    StepDurationBucket computeBucket(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document("completedAt", new Document("$gte", toDate(start)).append("$lt", toDate(end)))),
+                new Document("$project", new Document("workflowId", 1)
+                        .append("stepId", 1)
+                        .append("wait", new Document("$subtract", List.of("$assignedAt", "$createdAt")))
+                        .append("work", new Document("$subtract", List.of("$completedAt", "$assignedAt")))),
+                new Document("$facet", new Document("wait", histogramStages("wait"))
+                        .append("work", histogramStages("work"))));
+
+        Document result = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Task.class))
+                .aggregate(pipeline)
+                .first();
+
+        Map<String, StepHistogram> steps = new LinkedHashMap<>();
+        if (result != null) {
+            collectBins(result.getList("wait", Document.class), steps, StepHistogram::getWait);
+            collectBins(result.getList("work", Document.class), steps, StepHistogram::getWork);
+        }
+
+        return StepDurationBucket.builder()
+                .id(bucketId(day))
+                .bucketStart(start)
+                .bucketEnd(end)
+                .steps(new ArrayList<>(steps.values()))
+                .computedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Percentiles of a histogram, each reported as the geometric middle of its bin
+     */
+    static Percentiles percentiles(NavigableMap<Integer, Long> bins) {
+        long count = bins.values().stream().mapToLong(Long::longValue).sum();
+        return Percentiles.builder()
+                .count(count)
+                .p50(quantile(bins, count, 0.50))
+                .p90(quantile(bins, count, 0.90))
+                .p99(quantile(bins, count, 0.99))
+                .build();
+    }
+
+    static long quantile(NavigableMap<Integer, Long> bins, long count, double q) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(q * count);
+        long seen = 0;
+        for (Map.Entry<Integer, Long> bin : bins.entrySet()) {
+            seen += bin.getValue();
+            if (seen >= rank) {
+                return binValue(bin.getKey());
+            }
+        }
+        return binValue(bins.lastKey());
+    }
+
+    /**
+     * Bin 0 holds durations up to 1 ms, bin n holds (BIN_BASE^(n-1), BIN_BASE^n]
+     */
+    static int binOf(long millis) {
+        return millis <= 1 ? 0 : (int) Math.ceil(Math.log(millis) / LN_BASE);
+    }
+
+    static long binValue(int bin) {
+        return bin == 0 ? 0 : Math.round(Math.pow(BIN_BASE, bin - 0.5));
+    }
+
+    private static List<Document> histogramStages(String field) {
+        // Same binning as binOf(), evaluated server side
+        Document bin = new Document("$cond", List.of(
+                new Document("$lte", List.of("$" + field, 1)),
+                0,
+                new Document("$ceil", new Document("$divide", List.of(new Document("$ln", "$" + field), LN_BASE)))));
+        return List.of(
+                new Document("$match", new Document(field, new Document("$gte", 0))),
+                new Document("$group", new Document("_id", new Document("workflowId", "$workflowId")
+                        .append("stepId", "$stepId")
+                        .append("bin", bin))
+                        .append("count", new Document("$sum", 1))));
+    }
+
+    private static void collectBins(List<Document> rows, Map<String, StepHistogram> steps,
+            Function<StepHistogram, Map<String, Long>> histogram) {
+        for (Document row : rows) {
+            Document key = row.get("_id", Document.class);
+            String workflowId = key.getString("workflowId");
+            String stepId = key.getString("stepId");
+            StepHistogram step = steps.computeIfAbsent(workflowId + ":" + stepId, k -> StepHistogram.builder()
+                    .workflowId(workflowId)
+                    .stepId(stepId)
+                    .wait(new HashMap<>())
+                    .work(new HashMap<>())
+                    .build());
+            int bin = ((Number) key.get("bin")).intValue();
+            histogram.apply(step).merge(Integer.toString(bin), ((Number) row.get("count")).longValue(), Long::sum);
+        }
+    }
+
+    private static void merge(StepDurationBucket bucket, String workflowId, Map<String, StepAccumulator> into) {
+        for (StepHistogram step : bucket.getSteps()) {
+            if (workflowId != null && !workflowId.equals(step.getWorkflowId())) {
+                continue;
+            }
+            StepAccumulator accumulator = into.computeIfAbsent(step.getWorkflowId() + ":" + step.getStepId(),
+                    k -> new StepAccumulator(step.getWorkflowId(), step.getStepId()));
+            addBins(step.getWait(), accumulator.wait);
+            addBins(step.getWork(), accumulator.work);
+        }
+    }
+
+    private static void addBins(Map<String, Long> bins, NavigableMap<Integer, Long> into) {
+        if (bins != null) {
+            bins.forEach((bin, count) -> into.merge(Integer.parseInt(bin), count, Long::sum));
+        }
+    }
+
+    private static String bucketId(LocalDate day) {
+        return day.toString();
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static final class StepAccumulator {
+        private final String workflowId;
+        private final String stepId;
+        private final NavigableMap<Integer, Long> wait = new TreeMap<>();
+        private final NavigableMap<Integer, Long> work = new TreeMap<>();
+
+        private StepAccumulator(String workflowId, String stepId) {
+            this.workflowId = workflowId;
+            this.stepId = stepId;
+        }
+    }
+}
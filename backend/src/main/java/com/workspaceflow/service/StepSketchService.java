@@ -0,0 +1,253 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.model.dto.InstanceEtaResponse;
+import com.workspaceflow.model.dto.StepDurationStatsResponse;
+import com.workspaceflow.model.dto.StepDurationStatsResponse.Percentiles;
+import com.workspaceflow.model.dto.StepDurationStatsResponse.StepStats;
+import com.workspaceflow.model.entity.StepDurationSketch;
+import com.workspaceflow.model.entity.Task;
+import com.workspaceflow.model.entity.WorkflowDefinition;
+import com.workspaceflow.model.entity.WorkflowInstance;
+import com.workspaceflow.repository.TaskRepository;
+import com.workspaceflow.repository.WorkflowDefinitionRepository;
+import com.workspaceflow.repository.WorkflowInstanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Live per-step wait and work time sketches, updated in memory on every
+ * TASK_COMPLETED event without database reads.
+ * <p>
+ * Each node only consumes its share of task.events partitions, so the sketches
+ * are merged through Mongo: a checkpoint adds the bins recorded locally since the
+ * last checkpoint to the shared step_duration_sketches documents with $inc, then
+ * reloads the merged totals as the new baseline. Queries read the baseline plus
+ * the local delta, which lags other nodes by at most one checkpoint interval.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StepSketchService {
+
+    private final MongoTemplate mongoTemplate;
+    private final WorkflowInstanceRepository instanceRepository;
+    private final WorkflowDefinitionRepository workflowRepository;
+    private final TaskRepository taskRepository;
+
+    private final ConcurrentMap<String, StepSketches> sketches = new ConcurrentHashMap<>();
+
+    /**
+     * Record the durations of a completed task; a null duration is skipped
+     */
+    public void record(String workflowId, String stepId, Long waitMillis, Long workMillis) {
+        sketches.computeIfAbsent(StepDurationSketch.idOf(workflowId, stepId),
+                        id -> new StepSketches(workflowId, stepId))
+                .record(waitMillis, workMillis);
+    }
+
+    /**
+     * Flush the local deltas to Mongo and reload the merged sketches of all nodes
+     */
+    @Scheduled(fixedDelayString = "${workspaceflow.sketch.checkpoint-interval:PT30S}")
+    public void checkpoint() {
+        List<StepSketches> flushed = new ArrayList<>();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StepDurationSketch.class);
+        for (StepSketches step : sketches.values()) {
+            StepSketches.Delta delta = step.takeDelta();
+            if (delta == null) {
+                continue;
+            }
+            Update update = new Update()
+                    .set("updatedAt", LocalDateTime.now())
+                    .setOnInsert("workflowId", step.workflowId)
+                    .setOnInsert("stepId", step.stepId);
+            delta.waitSketch().toBins().forEach((bin, count) -> update.inc("wait." + bin, count));
+            delta.workSketch().toBins().forEach((bin, count) -> update.inc("work." + bin, count));
+            bulk.upsert(Query.query(Criteria.where("_id").is(StepDurationSketch.idOf(step.workflowId, step.stepId))),
+                    update);
+            flushed.add(step);
+        }
+
+        if (!flushed.isEmpty()) {
+            try {
+                bulk.execute();
+            } catch (RuntimeException e) {
+                flushed.forEach(StepSketches::restorePending);
+                log.warn("Failed to checkpoint {} step sketches, retrying next interval", flushed.size(), e);
+                return;
+            }
+        }
+        for (StepDurationSketch stored : mongoTemplate.findAll(StepDurationSketch.class)) {
+            sketches.computeIfAbsent(stored.getId(), id -> new StepSketches(stored.getWorkflowId(), stored.getStepId()))
+                    .setBaseline(DurationSketch.fromBins(stored.getWait()), DurationSketch.fromBins(stored.getWork()));
+        }
+    }
+
+    /**
+     * Get live step duration percentiles, across all workflows or for one workflow
+     */
+    public StepDurationStatsResponse getLiveStats(String workflowId) {
+        List<StepStats> steps = sketches.values().stream()
+                .filter(step -> workflowId == null || workflowId.equals(step.workflowId))
+                .sorted(Comparator.comparing((StepSketches step) -> step.workflowId).thenComparing(step -> step.stepId))
+                .map(step -> {
+                    DurationSketch[] merged = step.snapshot();
+                    return StepStats.builder()
+                            .workflowId(step.workflowId)
+                            .stepId(step.stepId)
+                            .waitTime(StepAnalyticsService.percentiles(merged[0].toNavigableMap()))
+                            .workTime(StepAnalyticsService.percentiles(merged[1].toNavigableMap()))
+                            .build();
+                })
+                .toList();
+        return StepDurationStatsResponse.builder().steps(steps).build();
+    }
+
+    /**
+     * Estimate when a running instance completes: the median remaining time of
+     * its current step plus the median wait and work time of each later step
+     */
+    public InstanceEtaResponse estimateCompletion(String instanceId) {
+        WorkflowInstance instance = instanceRepository.findById(instanceId)
+                .orElseThrow(() -> new RuntimeException("Workflow instance not found: " + instanceId));
+        WorkflowDefinition workflow = workflowRepository.findById(instance.getWorkflowId())
+                .orElseThrow(() -> new RuntimeException("Workflow not found: " + instance.getWorkflowId()));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (instance.getCompletedAt() != null || workflow.getSteps() == null || workflow.getSteps().isEmpty()) {
+            return InstanceEtaResponse.builder()
+                    .instanceId(instanceId)
+                    .workflowId(instance.getWorkflowId())
+                    .estimatedCompletionAt(instance.getCompletedAt() != null ? instance.getCompletedAt() : now)
+                    .build();
+        }
+
+        List<WorkflowDefinition.StepDefinition> steps = workflow.getSteps().stream()
+                .sorted(Comparator.comparing(WorkflowDefinition.StepDefinition::getOrder,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        Task openTask = taskRepository.findByWorkflowInstanceId(instanceId).stream()
+                .filter(task -> task.getStatus() != Task.TaskStatus.COMPLETED)
+                .max(Comparator.comparing(Task::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .orElse(null);
+        String currentStepId = instance.getCurrentStepId() != null ? instance.getCurrentStepId()
+                : openTask != null ? openTask.getStepId() : steps.get(0).getStepId();
+
+        long remaining = 0;
+        long minSamples = Long.MAX_VALUE;
+        boolean reached = false;
+        for (WorkflowDefinition.StepDefinition step : steps) {
+            reached |= step.getStepId().equals(currentStepId);
+            if (!reached) {
+                continue;
+            }
+            StepSketches sketch = sketches.get(StepDurationSketch.idOf(workflow.getId(), step.getStepId()));
+            DurationSketch[] merged = sketch != null ? sketch.snapshot()
+                    : new DurationSketch[] {new DurationSketch(), new DurationSketch()};
+            long median = merged[0].quantile(0.5) + merged[1].quantile(0.5);
+            if (step.getStepId().equals(currentStepId) && openTask != null && openTask.getCreatedAt() != null) {
+                median = Math.max(0, median - Duration.between(openTask.getCreatedAt(), now).toMillis());
+            }
+            remaining += median;
+            minSamples = Math.min(minSamples, Math.min(merged[0].count(), merged[1].count()));
+        }
+
+        return InstanceEtaResponse.builder()
+                .instanceId(instanceId)
+                .workflowId(workflow.getId())
+                .currentStepId(currentStepId)
+                .remainingMillis(remaining)
+                .estimatedCompletionAt(now.plus(Duration.ofMillis(remaining)))
+                .minSamples(minSamples == Long.MAX_VALUE ? 0 : minSamples)
+                .build();
+    }
+
+    /**
+     * Baseline (merged from Mongo) and local delta sketches of one step
+     */
+    static final class StepSketches {
+
+        record Delta(DurationSketch waitSketch, DurationSketch workSketch) {
+        }
+
+        private final String workflowId;
+        private final String stepId;
+        private DurationSketch baselineWait = new DurationSketch();
+        private DurationSketch baselineWork = new DurationSketch();
+        private DurationSketch deltaWait = new DurationSketch();
+        private DurationSketch deltaWork = new DurationSketch();
+
+        /**
+         * Delta being flushed; still counted by queries until the baseline reload includes it
+         */
+        private Delta pending;
+
+        StepSketches(String workflowId, String stepId) {
+            this.workflowId = workflowId;
+            this.stepId = stepId;
+        }
+
+        synchronized void record(Long waitMillis, Long workMillis) {
+            if (waitMillis != null) {
+                deltaWait.record(waitMillis);
+            }
+            if (workMillis != null) {
+                deltaWork.record(workMillis);
+            }
+        }
+
+        synchronized Delta takeDelta() {
+            if (deltaWait.isEmpty() && deltaWork.isEmpty()) {
+                return null;
+            }
+            pending = new Delta(deltaWait, deltaWork);
+            deltaWait = new DurationSketch();
+            deltaWork = new DurationSketch();
+            return pending;
+        }
+
+        synchronized void restorePending() {
+            if (pending != null) {
+                deltaWait.merge(pending.waitSketch());
+                deltaWork.merge(pending.workSketch());
+                pending = null;
+            }
+        }
+
+        synchronized void setBaseline(DurationSketch wait, DurationSketch work) {
+            baselineWait = wait;
+            baselineWork = work;
+            pending = null;
+        }
+
+        synchronized DurationSketch[] snapshot() {
+            DurationSketch wait = new DurationSketch();
+            DurationSketch work = new DurationSketch();
+            wait.merge(baselineWait);
+            wait.merge(deltaWait);
+            work.merge(baselineWork);
+            work.merge(deltaWork);
+            if (pending != null) {
+                wait.merge(pending.waitSketch());
+                work.merge(pending.workSketch());
+            }
+            return new DurationSketch[] {wait, work};
+        }
+    }
+}
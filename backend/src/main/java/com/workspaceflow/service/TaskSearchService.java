@@ -0,0 +1,188 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.exception.InvalidRequestException;
+import com.workspaceflow.mapper.InstanceMapper;
+import com.workspaceflow.model.dto.TaskSearchResponse;
+import com.workspaceflow.model.entity.Task;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service for full-text task search, backed by the Mongo text index on tasks.
+ * Results are ordered by text score then id, and paged with a keyset cursor
+ * on (score, id) so deep pages never skip over earlier results.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskSearchService {
+
+    static final String TEXT_INDEX_NAME = "task_text";
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private static final String SCORE_FIELD = "_score";
+
+    private final MongoTemplate mongoTemplate;
+    private final InstanceMapper instanceMapper;
+
+    @Value("${workspaceflow.search.data-keys:}")
+    private List<String> dataKeys = List.of();
+
+    @Value("${workspaceflow.search.language:english}")
+    private String language = "english";
+
+    /**
+     * Create the text index in the background once the application is ready; search fails
+     * until it exists
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureTextIndex() {
+        try {
+            createTextIndex();
+        } catch (RuntimeException e) {
+            log.warn("Could not create the {} index: {}", TEXT_INDEX_NAME, e.getMessage());
+        }
+    }
+
+    /**
+     * Create the text index, replacing an existing one when the indexed fields changed
+     * (a collection can only have a single text index)
+     */
+    void createTextIndex() {
+        IndexOperations indexOps = mongoTemplate.indexOps(Task.class);
+        Set<String> wanted = indexedFields();
+
+        for (IndexInfo info : indexOps.getIndexInfo()) {
+            Set<String> existing = info.getIndexFields().stream()
+                    .filter(IndexField::isText)
+                    .map(IndexField::getKey)
+                    .collect(Collectors.toSet());
+            if (existing.isEmpty()) {
+                continue;
+            }
+            if (existing.equals(wanted) && TEXT_INDEX_NAME.equals(info.getName())) {
+                return;
+            }
+            log.info("Replacing text index {} on {} with {}", info.getName(), existing, wanted);
+            indexOps.dropIndex(info.getName());
+        }
+
+        TextIndexDefinition.TextIndexDefinitionBuilder builder = new TextIndexDefinition.TextIndexDefinitionBuilder()
+                .onField("name", 10F)
+                .onField("description", 5F)
+                .withDefaultLanguage(language)
+                .named(TEXT_INDEX_NAME);
+        for (String key : dataKeys) {
+            builder.onField("data." + key);
+        }
+        indexOps.ensureIndex(builder.build());
+    }
+
+    /**
+     * Search tasks by text, optionally filtered by status, assignee and role
+     */
+    public TaskSearchResponse search(String text, Collection<Task.TaskStatus> statuses, String assignee,
+            String role, String cursor, Integer limit) {
+        if (text == null || text.isBlank()) {
+            throw new InvalidRequestException("Search text must not be empty");
+        }
+        int pageSize = limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, MAX_LIMIT);
+
+        Document match = new Document("$text", new Document("$search", text).append("$language", language));
+        if (statuses != null && !statuses.isEmpty()) {
+            match.append("status", new Document("$in", statuses.stream().map(Enum::name).toList()));
+        }
+        if (assignee != null) {
+            match.append("assignee", assignee);
+        }
+        if (role != null) {
+            match.append("assigneeRole", role);
+        }
+
+        List<Document> pipeline = new ArrayList<>();
+        pipeline.add(new Document("$match", match));
+        pipeline.add(new Document("$addFields", new Document(SCORE_FIELD, new Document("$meta", "textScore"))));
+        if (cursor != null) {
+            pipeline.add(new Document("$match", afterCursor(Cursor.decode(cursor))));
+        }
+        pipeline.add(new Document("$sort", new Document(SCORE_FIELD, -1).append("_id", 1)));
+        pipeline.add(new Document("$limit", pageSize + 1));
+
+        List<Document> results = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Task.class))
+                .aggregate(pipeline)
+                .into(new ArrayList<>(pageSize + 1));
+
+        String nextCursor = null;
+        if (results.size() > pageSize) {
+            Document last = results.get(pageSize - 1);
+            nextCursor = new Cursor(last.getDouble(SCORE_FIELD), last.get("_id").toString()).encode();
+            results = results.subList(0, pageSize);
+        }
+
+        List<Task> tasks = results.stream()
+                .map(document -> mongoTemplate.getConverter().read(Task.class, document))
+                .toList();
+
+        return TaskSearchResponse.builder()
+                .tasks(instanceMapper.toTaskResponseList(tasks))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private Set<String> indexedFields() {
+        Set<String> fields = new LinkedHashSet<>(List.of("name", "description"));
+        dataKeys.forEach(key -> fields.add("data." + key));
+        return fields;
+    }
+
+    private static Document afterCursor(Cursor cursor) {
+        Object id = ObjectId.isValid(cursor.id()) ? new ObjectId(cursor.id()) : cursor.id();
+        return new Document("$or", List.of(
+                new Document(SCORE_FIELD, new Document("$lt", cursor.score())),
+                new Document(SCORE_FIELD, cursor.score()).append("_id", new Document("$gt", id))));
+    }
+
+    /**
+     * Keyset position of the last returned hit
+     */
+    record Cursor(double score, String id) {
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((score + ":" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String value) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+                int separator = decoded.indexOf(':');
+                return new Cursor(Double.parseDouble(decoded.substring(0, separator)), decoded.substring(separator + 1));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new InvalidRequestException("Invalid search cursor: " + value);
+            }
+        }
+    }
+}
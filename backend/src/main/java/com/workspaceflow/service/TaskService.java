@@ -1,21 +1,37 @@
 package com.workspaceflow.service;
 
 import com.workspaceflow.event.EventProducer;
+import com.workspaceflow.event.NotificationEvent;
 import com.workspaceflow.event.TaskEvent;
+import com.workspaceflow.exception.ConflictException;
 import com.workspaceflow.mapper.InstanceMapper;
 import com.workspaceflow.model.dto.CompleteTaskRequest;
 import com.workspaceflow.model.dto.TaskResponse;
+import com.workspaceflow.model.entity.InstanceEvent;
+import com.workspaceflow.model.entity.StatusCounter.CounterKind;
 import com.workspaceflow.model.entity.Task;
 import com.workspaceflow.model.entity.WorkflowInstance;
 import com.workspaceflow.repository.TaskRepository;
 import com.workspaceflow.repository.WorkflowInstanceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service for managing tasks
@@ -25,10 +41,19 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TaskService {
 
+    private static final Set<Task.TaskStatus> CLOSED_STATUSES =
+            EnumSet.of(Task.TaskStatus.COMPLETED, Task.TaskStatus.REJECTED, Task.TaskStatus.CANCELLED);
+
     private final TaskRepository taskRepository;
     private final WorkflowInstanceRepository instanceRepository;
     private final InstanceMapper instanceMapper;
     private final EventProducer eventProducer;
+    private final StatusCounterService counterService;
+    private final ConflictRetry conflictRetry;
+    private final InstanceEventStore instanceEventStore;
+
+    @Value("${workspaceflow.instances.completion-lookback:PT1H}")
+    private Duration completionLookback = Duration.ofHours(1);
 
     /**
      * Get all tasks
@@ -38,12 +63,10 @@ public class TaskService {
     }
 
     /**
-     * Get task by ID
+     * Get task by ID; pass the instance ID when known so the lookup targets one shard
      */
-    public TaskResponse getTaskById(String id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found: " + id));
-        return instanceMapper.toTaskResponse(task);
+    public TaskResponse getTaskById(String id, String instanceId) {
+        return instanceMapper.toTaskResponse(findTask(id, instanceId));
     }
 
     /**
@@ -53,20 +76,42 @@ public class TaskService {
         return instanceMapper.toTaskResponseList(taskRepository.findByAssignee(assignee));
     }
 
+    /**
+     * Get the most recent open (created or assigned) tasks
+     */
+    public List<TaskResponse> getPendingTasks(int limit) {
+        return instanceMapper.toTaskResponseList(taskRepository.findByStatusInOrderByCreatedAtDesc(
+                List.of(Task.TaskStatus.CREATED, Task.TaskStatus.ASSIGNED), Limit.of(limit)));
+    }
+
     /**
      * Assign task to user
      */
-    public TaskResponse assignTask(String taskId, String assignee) {
+    @RetryOnConflict("task.assign")
+    @Transactional
+    public TaskResponse assignTask(String taskId, String instanceId, String assignee) {
         log.info("Assigning task {} to {}", taskId, assignee);
+        eventProducer.ensurePublishCapacity();
 
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found: " + taskId));
+        Task task = findTask(taskId, instanceId);
+        if (CLOSED_STATUSES.contains(task.getStatus())) {
+            throw new ConflictException("Task " + taskId + " is " + task.getStatus() + " and can no longer be assigned");
+        }
 
+        Task.TaskStatus previousStatus = task.getStatus();
+        String previousAssignee = task.getAssignee();
         task.setAssignee(assignee);
         task.setStatus(Task.TaskStatus.ASSIGNED);
         task.setAssignedAt(LocalDateTime.now());
 
-        Task savedTask = taskRepository.save(task);
+        Task savedTask;
+        try {
+            savedTask = taskRepository.save(task);
+        } catch (OptimisticLockingFailureException e) {
+            rejectConcurrentAssignment(taskId, instanceId, previousAssignee, assignee);
+            throw e;
+        }
+        counterService.transition(CounterKind.TASK, savedTask.getWorkflowId(), previousStatus, Task.TaskStatus.ASSIGNED);
 
         // Publish task assigned event
         eventProducer.publishTaskEvent(
@@ -74,7 +119,15 @@ public class TaskService {
                 savedTask.getId(),
                 assignee,
                 savedTask.getWorkflowInstanceId(),
-                Map.of("taskName", savedTask.getName()));
+                TaskEvent.putWorkflow(new HashMap<>(Map.of("taskName", savedTask.getName())),
+                        savedTask.getWorkflowId(), savedTask.getAssigneeRole()));
+        eventProducer.publishNotification(
+                NotificationEvent.TASK_ASSIGNED,
+                assignee,
+                savedTask.getId(),
+                savedTask.getWorkflowInstanceId(),
+                savedTask.getWorkflowId(),
+                savedTask.getName());
 
         return instanceMapper.toTaskResponse(savedTask);
     }
@@ -82,12 +135,18 @@ public class TaskService {
     /**
      * Complete a task
      */
-    public TaskResponse completeTask(String taskId, CompleteTaskRequest request) {
+    @RetryOnConflict("task.complete")
+    @Transactional
+    public TaskResponse completeTask(String taskId, String instanceId, CompleteTaskRequest request) {
         log.info("Completing task {} by {}", taskId, request.getCompletedBy());
+        eventProducer.ensurePublishCapacity();
 
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("Task not found: " + taskId));
+        Task task = findTask(taskId, instanceId);
+        if (CLOSED_STATUSES.contains(task.getStatus())) {
+            throw new ConflictException("Task " + taskId + " is already " + task.getStatus());
+        }
 
+        Task.TaskStatus previousStatus = task.getStatus();
         task.setStatus(Task.TaskStatus.COMPLETED);
         task.setCompletedAt(LocalDateTime.now());
         task.setCompletedBy(request.getCompletedBy());
@@ -96,16 +155,21 @@ public class TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        counterService.transition(CounterKind.TASK, savedTask.getWorkflowId(), previousStatus, Task.TaskStatus.COMPLETED);
 
         // Publish task completed event
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("taskName", savedTask.getName());
+        payload.put("completedBy", request.getCompletedBy());
+        TaskEvent.putWorkflow(payload, savedTask.getWorkflowId(), savedTask.getAssigneeRole());
+        TaskEvent.putDurations(payload, savedTask.getWorkflowId(), savedTask.getStepId(),
+                savedTask.getCreatedAt(), savedTask.getAssignedAt(), savedTask.getCompletedAt());
         eventProducer.publishTaskEvent(
                 TaskEvent.TASK_COMPLETED,
                 savedTask.getId(),
                 savedTask.getAssignee(),
                 savedTask.getWorkflowInstanceId(),
-                Map.of(
-                        "taskName", savedTask.getName(),
-                        "completedBy", request.getCompletedBy()));
+                payload);
 
         // Check if all tasks for this workflow instance are completed
         checkWorkflowCompletion(savedTask.getWorkflowInstanceId());
@@ -113,6 +177,43 @@ public class TaskService {
         return instanceMapper.toTaskResponse(savedTask);
     }
 
+    /**
+     * Complete the instances whose tasks were all completed within the lookback but whose own
+     * completion failed, e.g. because its conflict retries ran out
+     */
+    @Scheduled(fixedDelayString = "${workspaceflow.instances.completion-reconcile-interval:PT5M}",
+            initialDelayString = "${workspaceflow.instances.completion-reconcile-interval:PT5M}")
+    public void reconcileInstanceCompletion() {
+        Set<String> instanceIds = taskRepository
+                .findByStatusAndCompletedAtAfter(Task.TaskStatus.COMPLETED, LocalDateTime.now().minus(completionLookback))
+                .stream()
+                .map(Task::getWorkflowInstanceId)
+                .collect(Collectors.toSet());
+        instanceIds.forEach(this::checkWorkflowCompletion);
+    }
+
+    /**
+     * A conflicting assignment is retried on a fresh read, unless the conflict was another
+     * assignment: overwriting it would silently drop that assignee
+     */
+    private void rejectConcurrentAssignment(String taskId, String instanceId, String previousAssignee, String assignee) {
+        String current = findTask(taskId, instanceId).getAssignee();
+        if (current != null && !current.equals(previousAssignee) && !current.equals(assignee)) {
+            throw new ConflictException("Task " + taskId + " was concurrently assigned to " + current);
+        }
+    }
+
+    /**
+     * Find a task, routed by the workflowInstanceId shard key when the instance is known.
+     * Without it the lookup by id is broadcast to all shards.
+     */
+    private Task findTask(String taskId, String instanceId) {
+        return (instanceId != null
+                ? taskRepository.findByIdAndWorkflowInstanceId(taskId, instanceId)
+                : taskRepository.findById(taskId))
+                .orElseThrow(() -> new RuntimeException("Task not found: " + taskId));
+    }
+
     /**
      * Check if workflow instance is completed
      */
@@ -122,12 +223,28 @@ public class TaskService {
                 .allMatch(t -> t.getStatus() == Task.TaskStatus.COMPLETED);
 
         if (allCompleted && !tasks.isEmpty()) {
-            WorkflowInstance instance = instanceRepository.findById(instanceId)
-                    .orElseThrow(() -> new RuntimeException("Workflow instance not found: " + instanceId));
+            // Completing the instance commutes with concurrent instance updates, e.g. the
+            // completion of a parallel task, so conflicts are retried on a fresh read
+            InstanceCompletion completion;
+            try {
+                completion = conflictRetry.run("instance.complete", () -> completeInstance(instanceId));
+            } catch (RuntimeException e) {
+                if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                    throw e;
+                }
+                // The task is already saved, failing the request would only have the client retry
+                // an applied change; reconcileInstanceCompletion picks the instance up later
+                log.error("Tasks of instance {} completed but completing the instance failed", instanceId, e);
+                return;
+            }
+            if (completion == null) {
+                return;
+            }
 
-            instance.setStatus(WorkflowInstance.WorkflowStatus.COMPLETED);
-            instance.setCompletedAt(LocalDateTime.now());
-            instanceRepository.save(instance);
+            WorkflowInstance instance = completion.instance();
+            WorkflowInstance.WorkflowStatus previousStatus = completion.previousStatus();
+            counterService.transition(CounterKind.INSTANCE, instance.getWorkflowId(), previousStatus,
+                    WorkflowInstance.WorkflowStatus.COMPLETED);
 
             // Publish workflow completed event
             eventProducer.publishWorkflowEvent(
@@ -135,8 +252,49 @@ public class TaskService {
                     instance.getWorkflowId(),
                     instance.getId(),
                     Map.of("workflowName", instance.getWorkflowName()));
+            eventProducer.publishNotification(
+                    NotificationEvent.INSTANCE_COMPLETED,
+                    instance.getStartedBy(),
+                    null,
+                    instance.getId(),
+                    instance.getWorkflowId(),
+                    instance.getWorkflowName());
 
             log.info("Workflow instance {} completed", instanceId);
         }
     }
+
+    /**
+     * Mark an instance completed, by appending an event when it is event-sourced; null when it
+     * already was
+     */
+    private InstanceCompletion completeInstance(String instanceId) {
+        Optional<WorkflowInstance> eventSourced = instanceEventStore.isEnabled()
+                ? instanceEventStore.load(instanceId)
+                : Optional.empty();
+        if (eventSourced.isPresent()) {
+            WorkflowInstance current = eventSourced.get();
+            if (current.getStatus() == WorkflowInstance.WorkflowStatus.COMPLETED) {
+                return null;
+            }
+            WorkflowInstance completed = instanceEventStore.append(current, InstanceEvent.Type.COMPLETED, null, null);
+            return new InstanceCompletion(completed, current.getStatus());
+        }
+
+        // Document path, also for instances started before event sourcing was enabled
+        WorkflowInstance instance = instanceRepository.findById(instanceId)
+                .orElseThrow(() -> new RuntimeException("Workflow instance not found: " + instanceId));
+        if (instance.getStatus() == WorkflowInstance.WorkflowStatus.COMPLETED) {
+            return null;
+        }
+
+        WorkflowInstance.WorkflowStatus previousStatus = instance.getStatus();
+        instance.setStatus(WorkflowInstance.WorkflowStatus.COMPLETED);
+        instance.setCompletedAt(LocalDateTime.now());
+        instanceRepository.save(instance);
+        return new InstanceCompletion(instance, previousStatus);
+    }
+
+    private record InstanceCompletion(WorkflowInstance instance, WorkflowInstance.WorkflowStatus previousStatus) {
+    }
 }
@@ -1,13 +1,17 @@
 package com.workspaceflow.service;
 
 import com.workspaceflow.event.EventProducer;
+import com.workspaceflow.event.TaskEvent;
 import com.workspaceflow.event.WorkflowEvent;
 import com.workspaceflow.mapper.WorkflowMapper;
 import com.workspaceflow.mapper.InstanceMapper;
 import com.workspaceflow.model.dto.CreateWorkflowRequest;
+import com.workspaceflow.model.dto.InstanceEventResponse;
+import com.workspaceflow.model.dto.ProjectionRebuildResponse;
 import com.workspaceflow.model.dto.StartWorkflowRequest;
 import com.workspaceflow.model.dto.WorkflowInstanceResponse;
 import com.workspaceflow.model.dto.WorkflowResponse;
+import com.workspaceflow.model.entity.StatusCounter.CounterKind;
 import com.workspaceflow.model.entity.Task;
 import com.workspaceflow.model.entity.WorkflowDefinition;
 import com.workspaceflow.model.entity.WorkflowInstance;
@@ -16,8 +20,11 @@ import com.workspaceflow.repository.WorkflowDefinitionRepository;
 import com.workspaceflow.repository.WorkflowInstanceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -37,12 +44,16 @@ public class WorkflowService {
     private final WorkflowMapper workflowMapper;
     private final InstanceMapper instanceMapper;
     private final EventProducer eventProducer;
+    private final StatusCounterService counterService;
+    private final InstanceEventStore instanceEventStore;
 
     /**
      * Create a new workflow definition
      */
+    @Transactional
     public WorkflowResponse createWorkflow(CreateWorkflowRequest request, String createdBy) {
         log.info("Creating workflow: {}", request.getName());
+        eventProducer.ensurePublishCapacity();
 
         WorkflowDefinition workflow = workflowMapper.toEntity(request);
         workflow.setCreatedAt(LocalDateTime.now());
@@ -82,8 +93,10 @@ public class WorkflowService {
     /**
      * Start a workflow instance
      */
+    @Transactional
     public WorkflowInstanceResponse startWorkflow(StartWorkflowRequest request) {
         log.info("Starting workflow instance for workflow: {}", request.getWorkflowId());
+        eventProducer.ensurePublishCapacity();
 
         // Get workflow definition
         WorkflowDefinition workflow = workflowRepository.findById(request.getWorkflowId())
@@ -99,7 +112,10 @@ public class WorkflowService {
                 .startedBy(request.getStartedBy() != null ? request.getStartedBy() : "system")
                 .build();
 
-        WorkflowInstance savedInstance = instanceRepository.save(instance);
+        WorkflowInstance savedInstance = instanceEventStore.isEnabled()
+                ? instanceEventStore.start(instance)
+                : instanceRepository.save(instance);
+        counterService.increment(CounterKind.INSTANCE, workflow.getId(), WorkflowInstance.WorkflowStatus.STARTED);
 
         // Publish workflow started event
         eventProducer.publishWorkflowEvent(
@@ -125,6 +141,14 @@ public class WorkflowService {
         return instanceMapper.toInstanceResponseList(instanceRepository.findAll());
     }
 
+    /**
+     * Get the most recently started workflow instances
+     */
+    public List<WorkflowInstanceResponse> getRecentInstances(int limit) {
+        return instanceMapper.toInstanceResponseList(
+                instanceRepository.findByOrderByStartedAtDesc(Limit.of(limit)));
+    }
+
     /**
      * Get workflow instance by ID
      */
@@ -134,21 +158,56 @@ public class WorkflowService {
         return instanceMapper.toResponse(instance);
     }
 
+    /**
+     * Event history of an instance; empty for instances written without event sourcing
+     */
+    public List<InstanceEventResponse> getInstanceEvents(String id) {
+        return instanceMapper.toEventResponseList(instanceEventStore.history(id));
+    }
+
+    /**
+     * Instance state as of a point in time, folded from its events
+     */
+    public WorkflowInstanceResponse getInstanceStateAt(String id, LocalDateTime at) {
+        WorkflowInstance instance = instanceEventStore.loadAt(id, at)
+                .orElseThrow(() -> new RuntimeException("No events for workflow instance " + id + " at " + at));
+        return instanceMapper.toResponse(instance);
+    }
+
+    /**
+     * Regenerate workflow_instances from the event store
+     */
+    public ProjectionRebuildResponse rebuildInstanceProjections() {
+        return instanceEventStore.rebuildProjections();
+    }
+
     /**
      * Create a task for a workflow step
      */
     private void createTaskForStep(WorkflowInstance instance, WorkflowDefinition.StepDefinition step) {
+        LocalDateTime createdAt = LocalDateTime.now();
         Task task = Task.builder()
                 .workflowInstanceId(instance.getId())
+                .workflowId(instance.getWorkflowId())
                 .stepId(step.getStepId())
                 .name(step.getName())
                 .description("Task for step: " + step.getName())
                 .status(Task.TaskStatus.CREATED)
                 .assigneeRole(step.getAssigneeRole())
-                .createdAt(LocalDateTime.now())
+                .createdAt(createdAt)
+                .dueAt(step.getDueIn() != null ? createdAt.plus(Duration.parse(step.getDueIn())) : null)
                 .build();
 
         taskRepository.save(task);
+        counterService.increment(CounterKind.TASK, instance.getWorkflowId(), Task.TaskStatus.CREATED);
+
+        eventProducer.publishTaskEvent(
+                TaskEvent.TASK_CREATED,
+                task.getId(),
+                null,
+                instance.getId(),
+                TaskEvent.putWorkflow(new HashMap<>(Map.of("taskName", step.getName())),
+                        instance.getWorkflowId(), step.getAssigneeRole()));
 
         log.info("Created task {} for workflow instance {}", task.getId(), instance.getId());
     }
@@ -0,0 +1,113 @@
+package com.workspaceflow.benchmark;
+
+import com.mongodb.MongoClientSettings;
+import com.workspaceflow.model.entity.Task;
+import com.workspaceflow.repository.codec.TaskCodec;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode throughput and allocation rate of the hand-written TaskCodec
+ * against Spring Data's MappingMongoConverter (entity to Document, then Document
+ * to BSON with the driver's DocumentCodec, as on the repository path).
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.workspaceflow.benchmark.EntityCodecBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityCodecBenchmark {
+
+    private MappingMongoConverter converter;
+    private Codec<Document> documentCodec;
+    private TaskCodec taskCodec;
+    private Task task;
+    private BsonDocument encoded;
+
+    @Setup
+    public void setUp() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+
+        CodecRegistry registry = MongoClientSettings.getDefaultCodecRegistry();
+        documentCodec = registry.get(Document.class);
+        taskCodec = new TaskCodec(registry);
+
+        task = Task.builder()
+                .id("65f1c0a2b3d4e5f601234567")
+                .workflowInstanceId("65f1c0a2b3d4e5f601234568")
+                .workflowId("65f1c0a2b3d4e5f601234569")
+                .stepId("step1")
+                .name("Manager Approval")
+                .description("Task for step: Manager Approval")
+                .status(Task.TaskStatus.ASSIGNED)
+                .assignee("jane.smith")
+                .assigneeRole("manager")
+                .data(Map.of("approved", true, "comments", "Looks good", "amount", 5000,
+                        "lines", Map.of("hardware", 3000, "software", 2000)))
+                .createdAt(LocalDateTime.now())
+                .assignedAt(LocalDateTime.now())
+                .build();
+
+        encoded = new BsonDocument();
+        taskCodec.encode(new BsonDocumentWriter(encoded), task, EncoderContext.builder().build());
+    }
+
+    @Benchmark
+    public BsonDocument encodeWithCodec() {
+        BsonDocument document = new BsonDocument();
+        taskCodec.encode(new BsonDocumentWriter(document), task, EncoderContext.builder().build());
+        return document;
+    }
+
+    @Benchmark
+    public BsonDocument encodeWithConverter() {
+        Document document = new Document();
+        converter.write(task, document);
+        BsonDocument bson = new BsonDocument();
+        documentCodec.encode(new BsonDocumentWriter(bson), document, EncoderContext.builder().build());
+        return bson;
+    }
+
+    @Benchmark
+    public Task decodeWithCodec() {
+        return taskCodec.decode(new BsonDocumentReader(encoded), DecoderContext.builder().build());
+    }
+
+    @Benchmark
+    public Task decodeWithConverter() {
+        Document document = documentCodec.decode(new BsonDocumentReader(encoded), DecoderContext.builder().build());
+        return converter.read(Task.class, document);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EntityCodecBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
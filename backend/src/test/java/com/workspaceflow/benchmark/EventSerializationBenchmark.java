@@ -0,0 +1,125 @@
+package com.workspaceflow.benchmark;
+
+import com.workspaceflow.config.KafkaTopicConfig;
+import com.workspaceflow.event.AuditRecord;
+import com.workspaceflow.event.TaskEvent;
+import com.workspaceflow.event.WorkflowEvent;
+import com.workspaceflow.event.serialization.BinaryEventCodec;
+import com.workspaceflow.event.serialization.EventDeserializer;
+import com.workspaceflow.event.serialization.EventSerializer;
+import com.workspaceflow.event.serialization.LocalSchemaRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bytes per event and serialize/deserialize cost of the binary event format against
+ * the JsonSerializer/JsonDeserializer pair it replaces. Sizes are printed before the run.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.workspaceflow.benchmark.EventSerializationBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    private static final String TOPIC = KafkaTopicConfig.TASK_EVENTS;
+
+    private EventSerializer binarySerializer;
+    private JsonSerializer<Object> jsonSerializer;
+    private EventDeserializer deserializer;
+    private TaskEvent event;
+    private byte[] binary;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        BinaryEventCodec codec = new BinaryEventCodec(new LocalSchemaRegistry());
+        binarySerializer = new EventSerializer(codec);
+        jsonSerializer = new JsonSerializer<>();
+        deserializer = new EventDeserializer(codec);
+        event = taskEvent();
+        binary = binarySerializer.serialize(TOPIC, event);
+        json = jsonSerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] serializeBinary() {
+        return binarySerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public Object deserializeBinary() {
+        return deserializer.deserialize(TOPIC, binary);
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return deserializer.deserialize(TOPIC, json);
+    }
+
+    private static TaskEvent taskEvent() {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("taskName", "Manager Approval");
+        payload.put("assigneeRole", "manager");
+        TaskEvent.putDurations(payload, "65f1c0a2b3d4e5f601234569", "step1",
+                LocalDateTime.now().minusHours(5), LocalDateTime.now().minusHours(2), LocalDateTime.now());
+        return TaskEvent.builder()
+                .type(TaskEvent.TASK_COMPLETED)
+                .taskId("65f1c0a2b3d4e5f601234567")
+                .assignee("jane.smith")
+                .instanceId("65f1c0a2b3d4e5f601234568")
+                .timestamp(LocalDateTime.now())
+                .payload(payload)
+                .build();
+    }
+
+    private static void printSizes() {
+        EventSerializer binarySerializer = new EventSerializer(new BinaryEventCodec(new LocalSchemaRegistry()));
+        JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+        Map<String, Object> events = Map.of(
+                KafkaTopicConfig.WORKFLOW_EVENTS, WorkflowEvent.builder()
+                        .type(WorkflowEvent.INSTANCE_STARTED)
+                        .workflowId("65f1c0a2b3d4e5f601234569")
+                        .instanceId("65f1c0a2b3d4e5f601234568")
+                        .timestamp(LocalDateTime.now())
+                        .payload(Map.of("workflowName", "Purchase Approval", "startedBy", "john.doe"))
+                        .build(),
+                KafkaTopicConfig.TASK_EVENTS, taskEvent(),
+                KafkaTopicConfig.AUDIT_EVENTS, AuditRecord.builder()
+                        .eventType("WORKFLOW_CREATED")
+                        .entityType("WORKFLOW")
+                        .entityId("65f1c0a2b3d4e5f601234569")
+                        .userId("admin")
+                        .timestamp(LocalDateTime.now())
+                        .payload(Map.of("name", "Purchase Approval"))
+                        .build());
+        events.forEach((topic, event) -> System.out.printf("%-16s json=%4d bytes  binary=%4d bytes%n", topic,
+                jsonSerializer.serialize(topic, event).length, binarySerializer.serialize(topic, event).length));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        printSizes();
+        new Runner(new OptionsBuilder()
+                .include(EventSerializationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
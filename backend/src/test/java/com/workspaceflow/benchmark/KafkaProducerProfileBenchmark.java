@@ -0,0 +1,182 @@
+package com.workspaceflow.benchmark;
+
+import com.workspaceflow.config.KafkaConfig;
+import com.workspaceflow.config.KafkaProducerProfile;
+import com.workspaceflow.config.KafkaTopicConfig;
+import com.workspaceflow.event.EventProducer;
+import com.workspaceflow.event.PublishBackpressure;
+import com.workspaceflow.event.TaskEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.ProducerListener;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Events per second and send-to-ack latency percentiles of {@link EventProducer}
+ * against an embedded single-node KRaft broker, for every {@link KafkaProducerProfile},
+ * with the plain idempotent producer and in exactly-once mode (a transaction per event).
+ * Latency is measured from the publish call to the producer acknowledgement
+ * (acks=all), so it includes linger time and batching effects.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.workspaceflow.benchmark.KafkaProducerProfileBenchmark
+ *   [-Dexec.args="events threads"]
+ */
+public class KafkaProducerProfileBenchmark {
+
+    private static final int WARMUP_EVENTS = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        int events = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+
+        EmbeddedKafkaKraftBroker broker = new EmbeddedKafkaKraftBroker(1, 3, KafkaTopicConfig.TASK_EVENTS);
+        broker.brokerProperties(Map.of(
+                "transaction.state.log.replication.factor", "1",
+                "transaction.state.log.min.isr", "1"));
+        broker.afterPropertiesSet();
+        try {
+            System.out.printf("%-12s %-14s %12s %10s %10s %10s%n",
+                    "profile", "mode", "events/s", "p50 ms", "p99 ms", "max ms");
+            for (KafkaProducerProfile profile : KafkaProducerProfile.values()) {
+                for (boolean exactlyOnce : new boolean[]{false, true}) {
+                    Result result = run(broker.getBrokersAsString(), profile, exactlyOnce, events, threads);
+                    System.out.printf("%-12s %-14s %12.0f %10.2f %10.2f %10.2f%n", profile,
+                            exactlyOnce ? "exactly-once" : "at-least-once", result.eventsPerSecond(),
+                            result.p50Millis(), result.p99Millis(), result.maxMillis());
+                }
+            }
+        } finally {
+            broker.destroy();
+        }
+    }
+
+    private static Result run(String bootstrapServers, KafkaProducerProfile profile, boolean exactlyOnce,
+            int events, int threads) throws InterruptedException {
+        DefaultKafkaProducerFactory<String, Object> producerFactory = new DefaultKafkaProducerFactory<>(
+                KafkaConfig.producerProperties(bootstrapServers, profile));
+        if (exactlyOnce) {
+            producerFactory.setTransactionIdPrefix("benchmark-tx-" + profile + "-");
+        }
+        KafkaTemplate<String, Object> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        LatencyRecorder recorder = new LatencyRecorder();
+        kafkaTemplate.setProducerListener(recorder);
+        // Fire-and-forget measures the producer itself, without the in-flight bound
+        EventProducer eventProducer = new EventProducer(kafkaTemplate, new PublishBackpressure(kafkaTemplate,
+                "fire-and-forget", Integer.MAX_VALUE, Duration.ZERO, Duration.ofSeconds(30), new SimpleMeterRegistry()));
+
+        try {
+            String keyPrefix = profile + (exactlyOnce ? "-eos-" : "-");
+            send(eventProducer, recorder, keyPrefix + "warmup-", WARMUP_EVENTS, threads);
+            return send(eventProducer, recorder, keyPrefix, events, threads);
+        } finally {
+            producerFactory.destroy();
+        }
+    }
+
+    private static Result send(EventProducer eventProducer, LatencyRecorder recorder, String keyPrefix,
+            int events, int threads) throws InterruptedException {
+        recorder.reset(events);
+        Map<String, Object> payload = Map.of("taskName", "Manager Approval", "completedBy", "john.doe");
+        AtomicInteger sequence = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                int n;
+                while ((n = sequence.getAndIncrement()) < events) {
+                    // One instance per event, so the record key (the instance) identifies each send
+                    String instanceId = keyPrefix + "instance-" + n;
+                    String taskId = keyPrefix + n;
+                    recorder.started(EventProducer.lifecycleKey(instanceId, taskId));
+                    eventProducer.publishTaskEvent(TaskEvent.TASK_COMPLETED, taskId, "john.doe", instanceId, payload);
+                }
+            });
+        }
+        if (!recorder.await(5, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Timed out waiting for acknowledgements");
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdownNow();
+
+        long[] latencies = recorder.latencies();
+        Arrays.sort(latencies);
+        return new Result(
+                events / (elapsed / 1e9),
+                percentile(latencies, 0.50) / 1e6,
+                percentile(latencies, 0.99) / 1e6,
+                latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double q) {
+        return sorted[Math.max(0, (int) Math.ceil(q * sorted.length) - 1)];
+    }
+
+    private record Result(double eventsPerSecond, double p50Millis, double p99Millis, double maxMillis) {
+    }
+
+    /**
+     * Matches acknowledgements to publish calls by record key (the instance id)
+     */
+    private static final class LatencyRecorder implements ProducerListener<String, Object> {
+
+        private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+        private long[] latencies;
+        private AtomicInteger acked;
+        private AtomicInteger failed;
+        private CountDownLatch done;
+
+        void reset(int events) {
+            latencies = new long[events];
+            acked = new AtomicInteger();
+            failed = new AtomicInteger();
+            done = new CountDownLatch(events);
+        }
+
+        void started(String key) {
+            startTimes.put(key, System.nanoTime());
+        }
+
+        boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+            return done.await(timeout, unit);
+        }
+
+        long[] latencies() {
+            if (failed.get() > 0) {
+                throw new IllegalStateException(failed.get() + " sends failed during the benchmark");
+            }
+            return latencies;
+        }
+
+        @Override
+        public void onSuccess(ProducerRecord<String, Object> record, RecordMetadata metadata) {
+            Long start = startTimes.remove(record.key());
+            int index = acked.getAndIncrement();
+            if (start != null && index < latencies.length) {
+                latencies[index] = System.nanoTime() - start;
+            }
+            done.countDown();
+        }
+
+        @Override
+        public void onError(ProducerRecord<String, Object> record, RecordMetadata metadata, Exception exception) {
+            startTimes.remove(record.key());
+            failed.incrementAndGet();
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.workspaceflow.config;
+
+import com.workspaceflow.event.EventEnvelope;
+import com.workspaceflow.event.TaskEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RawEventDeadLetterPublishingRecoverer
+ */
+@ExtendWith(MockitoExtension.class)
+class RawEventDeadLetterPublishingRecovererTest {
+
+    @Mock
+    private KafkaOperations<Object, Object> template;
+
+    @Test
+    void accept_ShouldPublishTheOriginalBytesOfARoutedRecord() {
+        // Given
+        byte[] data = "{\"type\":\"TASK_ASSIGNED\"}".getBytes(StandardCharsets.UTF_8);
+        EventEnvelope envelope = new EventEnvelope(TaskEvent.TASK_ASSIGNED, "1", "instance-1", "acme", data, false);
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(KafkaTopicConfig.TASK_EVENTS, 0, 42L, "instance-1", envelope);
+        when(template.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+        RawEventDeadLetterPublishingRecoverer recoverer = new RawEventDeadLetterPublishingRecoverer(template,
+                (failed, exception) -> new TopicPartition(KafkaTopicConfig.DEADLETTER_EVENTS, -1));
+
+        // When
+        recoverer.accept(record, new IllegalStateException("Listener failed"));
+
+        // Then
+        ArgumentCaptor<ProducerRecord<Object, Object>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(template).send(sent.capture());
+        assertThat(sent.getValue().topic()).isEqualTo(KafkaTopicConfig.DEADLETTER_EVENTS);
+        assertThat(sent.getValue().key()).isEqualTo("instance-1");
+        assertThat(sent.getValue().value()).isSameAs(data);
+    }
+}
@@ -0,0 +1,83 @@
+package com.workspaceflow.config;
+
+import com.mongodb.client.result.UpdateResult;
+import com.workspaceflow.model.entity.Task;
+import com.workspaceflow.model.entity.WorkflowDefinition;
+import com.workspaceflow.model.entity.WorkflowInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for VersionFieldInitializer
+ */
+@ExtendWith(MockitoExtension.class)
+class VersionFieldInitializerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private VersionFieldInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        initializer = new VersionFieldInitializer(mongoTemplate);
+        ReflectionTestUtils.setField(initializer, "retryInterval", Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        initializer.stop();
+    }
+
+    @Test
+    void start_ShouldInitializeEveryVersionedCollectionBeforeReturning() {
+        // Given
+        when(mongoTemplate.updateMulti(any(Query.class), any(UpdateDefinition.class), any(Class.class)))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null));
+
+        // When
+        initializer.start();
+
+        // Then
+        verify(mongoTemplate).updateMulti(any(Query.class), any(UpdateDefinition.class), eq(Task.class));
+        verify(mongoTemplate).updateMulti(any(Query.class), any(UpdateDefinition.class), eq(WorkflowInstance.class));
+        verify(mongoTemplate).updateMulti(any(Query.class), any(UpdateDefinition.class), eq(WorkflowDefinition.class));
+        assertThat(initializer.isRunning()).isTrue();
+    }
+
+    @Test
+    void start_ShouldRetryUntilTheDatabaseIsReachable() {
+        // Given
+        when(mongoTemplate.updateMulti(any(Query.class), any(UpdateDefinition.class), any(Class.class)))
+                .thenThrow(new DataAccessResourceFailureException("Timed out waiting for a server"))
+                .thenThrow(new DataAccessResourceFailureException("Timed out waiting for a server"))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        // When
+        initializer.start();
+
+        // Then
+        verify(mongoTemplate, timeout(1000)).updateMulti(any(Query.class), any(UpdateDefinition.class),
+                eq(WorkflowDefinition.class));
+        verify(mongoTemplate, times(3)).updateMulti(any(Query.class), any(UpdateDefinition.class), eq(Task.class));
+    }
+}
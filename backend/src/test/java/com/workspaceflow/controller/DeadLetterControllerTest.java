@@ -0,0 +1,123 @@
+package com.workspaceflow.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workspaceflow.model.dto.DeadLetterRecordResponse;
+import com.workspaceflow.model.dto.DeadLetterReplayRequest;
+import com.workspaceflow.model.dto.DeadLetterReplayResponse;
+import com.workspaceflow.service.DeadLetterFilter;
+import com.workspaceflow.service.DeadLetterService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for DeadLetterController
+ */
+@WebMvcTest(DeadLetterController.class)
+class DeadLetterControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private DeadLetterService deadLetterService;
+
+    @Test
+    void browse_ShouldPassFiltersToService() throws Exception {
+        // Given
+        DeadLetterFilter filter = new DeadLetterFilter("audit.events", null,
+                LocalDateTime.of(2024, 3, 1, 0, 0), null, "MongoTimeoutException");
+        when(deadLetterService.browse(eq(filter), eq(20))).thenReturn(List.of(DeadLetterRecordResponse.builder()
+                .partition(1)
+                .offset(42)
+                .key("workflow-1")
+                .originalTopic("audit.events")
+                .exceptionClass("com.mongodb.MongoTimeoutException")
+                .value(Map.of("eventType", "WORKFLOW_CREATED"))
+                .build()));
+
+        // When & Then
+        mockMvc.perform(get("/api/deadletters")
+                        .param("topic", "audit.events")
+                        .param("from", "2024-03-01T00:00:00")
+                        .param("errorClass", "MongoTimeoutException")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].offset").value(42))
+                .andExpect(jsonPath("$[0].originalTopic").value("audit.events"))
+                .andExpect(jsonPath("$[0].value.eventType").value("WORKFLOW_CREATED"));
+    }
+
+    @Test
+    void startReplay_ShouldReturnAccepted() throws Exception {
+        // Given
+        DeadLetterReplayRequest request = DeadLetterReplayRequest.builder()
+                .originalTopic("audit.events")
+                .ratePerSecond(200)
+                .build();
+        when(deadLetterService.startReplay(any(DeadLetterReplayRequest.class))).thenReturn(DeadLetterReplayResponse.builder()
+                .id("replay-1")
+                .status("RUNNING")
+                .originalTopic("audit.events")
+                .ratePerSecond(200)
+                .totalRecords(250_000)
+                .build());
+
+        // When & Then
+        mockMvc.perform(post("/api/deadletters/replays")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value("replay-1"))
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.totalRecords").value(250_000));
+    }
+
+    @Test
+    void startReplay_ShouldRejectNonPositiveRate() throws Exception {
+        // Given
+        DeadLetterReplayRequest request = DeadLetterReplayRequest.builder().ratePerSecond(0).build();
+
+        // When & Then
+        mockMvc.perform(post("/api/deadletters/replays")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        verify(deadLetterService, never()).startReplay(any());
+    }
+
+    @Test
+    void cancelReplay_ShouldReturnCancelledReplay() throws Exception {
+        // Given
+        when(deadLetterService.cancelReplay("replay-1")).thenReturn(DeadLetterReplayResponse.builder()
+                .id("replay-1")
+                .status("CANCELLED")
+                .replayed(1200)
+                .build());
+
+        // When & Then
+        mockMvc.perform(post("/api/deadletters/replays/replay-1/cancel"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"))
+                .andExpect(jsonPath("$.replayed").value(1200));
+    }
+}
@@ -0,0 +1,44 @@
+package com.workspaceflow.controller;
+
+import com.workspaceflow.model.dto.StatsResponse;
+import com.workspaceflow.service.StatusCounterService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for StatsController
+ */
+@WebMvcTest(StatsController.class)
+class StatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StatusCounterService counterService;
+
+    @Test
+    void getStats_ShouldReturnCountsPerStatus() throws Exception {
+        // Given
+        when(counterService.getStats(null)).thenReturn(StatsResponse.builder()
+                .instancesByStatus(Map.of("STARTED", 4L, "COMPLETED", 10L))
+                .tasksByStatus(Map.of("CREATED", 3L))
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.instancesByStatus.STARTED").value(4))
+                .andExpect(jsonPath("$.instancesByStatus.COMPLETED").value(10))
+                .andExpect(jsonPath("$.tasksByStatus.CREATED").value(3));
+    }
+}
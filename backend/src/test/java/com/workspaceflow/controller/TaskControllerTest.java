@@ -17,6 +17,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -69,7 +70,7 @@ class TaskControllerTest {
     @Test
     void getTaskById_ShouldReturnTask() throws Exception {
         // Given
-        when(taskService.getTaskById("task-123")).thenReturn(taskResponse);
+        when(taskService.getTaskById("task-123", null)).thenReturn(taskResponse);
 
         // When & Then
         mockMvc.perform(get("/api/tasks/task-123"))
@@ -94,11 +95,12 @@ class TaskControllerTest {
         // Given
         taskResponse.setStatus("ASSIGNED");
         taskResponse.setAssignee("john.doe");
-        when(taskService.assignTask(anyString(), anyString())).thenReturn(taskResponse);
+        when(taskService.assignTask("task-123", "instance-456", "john.doe")).thenReturn(taskResponse);
 
         // When & Then
         mockMvc.perform(put("/api/tasks/task-123/assign")
-                .param("assignee", "john.doe"))
+                .param("assignee", "john.doe")
+                .param("instanceId", "instance-456"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value("task-123"))
                 .andExpect(jsonPath("$.status").value("ASSIGNED"))
@@ -110,7 +112,7 @@ class TaskControllerTest {
         // Given
         taskResponse.setStatus("COMPLETED");
         taskResponse.setCompletedBy("john.doe");
-        when(taskService.completeTask(anyString(), any(CompleteTaskRequest.class)))
+        when(taskService.completeTask(anyString(), isNull(), any(CompleteTaskRequest.class)))
                 .thenReturn(taskResponse);
 
         // When & Then
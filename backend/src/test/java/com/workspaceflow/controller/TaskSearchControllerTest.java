@@ -0,0 +1,83 @@
+package com.workspaceflow.controller;
+
+import com.workspaceflow.exception.InvalidRequestException;
+import com.workspaceflow.model.dto.TaskResponse;
+import com.workspaceflow.model.dto.TaskSearchResponse;
+import com.workspaceflow.model.entity.Task;
+import com.workspaceflow.service.TaskSearchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for TaskSearchController
+ */
+@WebMvcTest(TaskSearchController.class)
+class TaskSearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskSearchService taskSearchService;
+
+    @Test
+    void searchTasks_ShouldReturnPageWithCursor() throws Exception {
+        // Given
+        TaskResponse task = TaskResponse.builder()
+                .id("task-1")
+                .name("Review invoice")
+                .status("ASSIGNED")
+                .assignee("alice")
+                .build();
+        when(taskSearchService.search(eq("invoice"), eq(List.of(Task.TaskStatus.ASSIGNED)), eq("alice"),
+                isNull(), isNull(), eq(10)))
+                .thenReturn(TaskSearchResponse.builder()
+                        .tasks(List.of(task))
+                        .nextCursor("next")
+                        .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/search")
+                        .param("q", "invoice")
+                        .param("status", "ASSIGNED")
+                        .param("assignee", "alice")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].id").value("task-1"))
+                .andExpect(jsonPath("$.tasks[0].name").value("Review invoice"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void searchTasks_WithoutQuery_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/tasks/search"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchTasks_WithMalformedCursor_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(taskSearchService.search(eq("invoice"), any(), any(), any(), eq("garbage"), isNull()))
+                .thenThrow(new InvalidRequestException("Invalid search cursor: garbage"));
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/search")
+                        .param("q", "invoice")
+                        .param("cursor", "garbage"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid search cursor: garbage"));
+    }
+}
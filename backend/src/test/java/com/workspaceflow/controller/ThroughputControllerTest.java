@@ -0,0 +1,59 @@
+package com.workspaceflow.controller;
+
+import com.workspaceflow.event.ThroughputAggregator;
+import com.workspaceflow.model.dto.ThroughputResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for ThroughputController
+ */
+@WebMvcTest(ThroughputController.class)
+class ThroughputControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ThroughputAggregator throughputAggregator;
+
+    @Test
+    void getThroughput_ShouldReturnWindowsAndBacklog() throws Exception {
+        // Given
+        LocalDateTime minute = LocalDateTime.of(2024, 3, 1, 10, 15);
+        when(throughputAggregator.query(5, "workflow-1", null)).thenReturn(ThroughputResponse.builder()
+                .from(minute.minusMinutes(4))
+                .to(minute.plusMinutes(1))
+                .windows(List.of(ThroughputResponse.Window.builder()
+                        .minute(minute)
+                        .workflowId("workflow-1")
+                        .role("manager")
+                        .tasksCreated(12)
+                        .tasksCompleted(9)
+                        .build()))
+                .backlog(List.of(ThroughputResponse.Backlog.builder()
+                        .workflowId("workflow-1")
+                        .role("manager")
+                        .openTasks(31)
+                        .build()))
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/throughput").param("minutes", "5").param("workflowId", "workflow-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.windows[0].role").value("manager"))
+                .andExpect(jsonPath("$.windows[0].tasksCreated").value(12))
+                .andExpect(jsonPath("$.windows[0].tasksCompleted").value(9))
+                .andExpect(jsonPath("$.backlog[0].openTasks").value(31));
+    }
+}
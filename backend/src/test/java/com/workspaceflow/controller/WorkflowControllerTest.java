@@ -2,6 +2,7 @@ package com.workspaceflow.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.workspaceflow.model.dto.CreateWorkflowRequest;
+import com.workspaceflow.model.dto.ProjectionRebuildResponse;
 import com.workspaceflow.model.dto.StartWorkflowRequest;
 import com.workspaceflow.model.dto.WorkflowInstanceResponse;
 import com.workspaceflow.model.dto.WorkflowResponse;
@@ -14,6 +15,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 
@@ -167,4 +169,34 @@ class WorkflowControllerTest {
                 .andExpect(jsonPath("$.id").value("instance-456"))
                 .andExpect(jsonPath("$.status").value("STARTED"));
     }
+
+    @Test
+    void getInstanceStateAt_ShouldReturnReplayedState() throws Exception {
+        // Given
+        when(workflowService.getInstanceStateAt("instance-456", LocalDateTime.of(2024, 3, 1, 10, 0)))
+                .thenReturn(instanceResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/workflows/instances/instance-456/state")
+                        .param("at", "2024-03-01T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("instance-456"))
+                .andExpect(jsonPath("$.status").value("STARTED"));
+    }
+
+    @Test
+    void rebuildInstanceProjections_ShouldReturnCounts() throws Exception {
+        // Given
+        when(workflowService.rebuildInstanceProjections()).thenReturn(ProjectionRebuildResponse.builder()
+                .instances(2)
+                .events(7)
+                .durationMillis(15)
+                .build());
+
+        // When & Then
+        mockMvc.perform(post("/api/workflows/instances/projections/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.instances").value(2))
+                .andExpect(jsonPath("$.events").value(7));
+    }
 }
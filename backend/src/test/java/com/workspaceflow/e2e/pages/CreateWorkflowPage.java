@@ -2,6 +2,7 @@ package com.workspaceflow.e2e.pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
 /**
  * Page Object for Create Workflow page
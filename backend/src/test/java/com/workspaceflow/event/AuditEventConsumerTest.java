@@ -0,0 +1,108 @@
+package com.workspaceflow.event;
+
+import com.workspaceflow.model.entity.AuditEvent;
+import com.workspaceflow.repository.AuditEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for AuditEventConsumer
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditEventConsumerTest {
+
+    @Mock
+    private AuditEventRepository auditEventRepository;
+
+    private KeyedOrderedExecutor keyedOrderedExecutor;
+
+    private AuditEventConsumer auditEventConsumer;
+
+    @BeforeEach
+    void setUp() {
+        keyedOrderedExecutor = new KeyedOrderedExecutor("virtual", 1, 100, new SimpleMeterRegistry());
+        auditEventConsumer = new AuditEventConsumer(auditEventRepository, keyedOrderedExecutor);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        keyedOrderedExecutor.shutdown();
+    }
+
+    @Test
+    void consumeAuditEvent_ShouldUseEventIdAsDocumentId() {
+        // Given
+        AuditRecord event = auditRecord();
+        event.setEventId("event-1");
+        when(auditEventRepository.insertIfAbsent(any(AuditEvent.class))).thenReturn(true);
+
+        // When
+        auditEventConsumer.consumeAuditEvent(event, "workflow-1", "audit.events").join();
+
+        // Then
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditEventRepository).insertIfAbsent(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo("event-1");
+        assertThat(captor.getValue().getMeta().getEntityId()).isEqualTo("workflow-1");
+        assertThat(captor.getValue().getTimestamp()).isEqualTo(event.getTimestamp());
+    }
+
+    @Test
+    void consumeAuditEvent_ShouldDeriveSameIdForRedeliveredRecordWithoutEventId() {
+        // Given: a record from a producer that predates event ids, delivered twice
+        AuditRecord event = auditRecord();
+        when(auditEventRepository.insertIfAbsent(any(AuditEvent.class))).thenReturn(true, false);
+
+        // When
+        auditEventConsumer.consumeAuditEvent(event, "workflow-1", "audit.events");
+        auditEventConsumer.consumeAuditEvent(auditRecord(), "workflow-1", "audit.events").join();
+
+        // Then
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditEventRepository, times(2)).insertIfAbsent(captor.capture());
+        assertThat(captor.getAllValues().get(0).getId())
+                .isEqualTo(AuditRecord.eventIdOf(event))
+                .isEqualTo(captor.getAllValues().get(1).getId());
+    }
+
+    @Test
+    void consumeAuditEvent_ShouldCompleteExceptionally_WhenWriteFails() {
+        // Given
+        when(auditEventRepository.insertIfAbsent(any(AuditEvent.class)))
+                .thenThrow(new IllegalStateException("mongo unavailable"));
+
+        // When
+        CompletableFuture<Void> result = auditEventConsumer.consumeAuditEvent(auditRecord(), "workflow-1", "audit.events");
+
+        // Then: the failed future routes the record to the retry topic instead of committing it
+        assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static AuditRecord auditRecord() {
+        return AuditRecord.builder()
+                .eventType("WORKFLOW_CREATED")
+                .entityType("WORKFLOW")
+                .entityId("workflow-1")
+                .userId("admin")
+                .timestamp(LocalDateTime.of(2024, 3, 1, 10, 15, 30))
+                .payload(Map.of("name", "Purchase Approval"))
+                .build();
+    }
+}
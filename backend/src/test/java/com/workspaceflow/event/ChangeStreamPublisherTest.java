@@ -0,0 +1,40 @@
+package com.workspaceflow.event;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the event derivation rules of ChangeStreamPublisher
+ */
+class ChangeStreamPublisherTest {
+
+    @Test
+    void deriveTaskEventType_ShouldMapInsertAndStatusTransitions() {
+        assertThat(ChangeStreamPublisher.deriveTaskEventType(true, null, "CREATED"))
+                .isEqualTo(TaskEvent.TASK_CREATED);
+        assertThat(ChangeStreamPublisher.deriveTaskEventType(false, "CREATED", "ASSIGNED"))
+                .isEqualTo(TaskEvent.TASK_ASSIGNED);
+        assertThat(ChangeStreamPublisher.deriveTaskEventType(false, "ASSIGNED", "COMPLETED"))
+                .isEqualTo(TaskEvent.TASK_COMPLETED);
+        assertThat(ChangeStreamPublisher.deriveTaskEventType(false, "ASSIGNED", "REJECTED"))
+                .isEqualTo(TaskEvent.TASK_REJECTED);
+    }
+
+    @Test
+    void deriveTaskEventType_ShouldIgnoreUpdatesWithoutStatusChange() {
+        assertThat(ChangeStreamPublisher.deriveTaskEventType(false, "ASSIGNED", "ASSIGNED")).isNull();
+        assertThat(ChangeStreamPublisher.deriveTaskEventType(false, "ASSIGNED", "IN_PROGRESS")).isNull();
+    }
+
+    @Test
+    void deriveWorkflowEventType_ShouldMapInsertAndTerminalStatuses() {
+        assertThat(ChangeStreamPublisher.deriveWorkflowEventType(true, null, "STARTED"))
+                .isEqualTo(WorkflowEvent.INSTANCE_STARTED);
+        assertThat(ChangeStreamPublisher.deriveWorkflowEventType(false, "STARTED", "COMPLETED"))
+                .isEqualTo(WorkflowEvent.INSTANCE_COMPLETED);
+        assertThat(ChangeStreamPublisher.deriveWorkflowEventType(false, "IN_PROGRESS", "FAILED"))
+                .isEqualTo(WorkflowEvent.INSTANCE_FAILED);
+        assertThat(ChangeStreamPublisher.deriveWorkflowEventType(false, "STARTED", "IN_PROGRESS")).isNull();
+    }
+}
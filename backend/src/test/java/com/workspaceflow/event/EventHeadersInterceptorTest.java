@@ -0,0 +1,54 @@
+package com.workspaceflow.event;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EventHeadersInterceptor
+ */
+class EventHeadersInterceptorTest {
+
+    private final EventHeadersInterceptor interceptor = new EventHeadersInterceptor();
+
+    @Test
+    void onSend_ShouldAddEnvelopeHeaders() {
+        // Given
+        interceptor.configure(Map.of(EventHeaders.TENANT_CONFIG, "acme"));
+        AuditRecord audit = AuditRecord.builder().eventType("TASK_COMPLETED").entityId("task-1").build();
+        WorkflowEvent workflow = WorkflowEvent.builder().type(WorkflowEvent.INSTANCE_STARTED).instanceId("instance-1").build();
+
+        // When
+        ProducerRecord<String, Object> auditRecord = interceptor.onSend(new ProducerRecord<>("audit.events", "task-1", audit));
+        ProducerRecord<String, Object> workflowRecord = interceptor.onSend(new ProducerRecord<>("workflow.events", "instance-1", workflow));
+
+        // Then
+        assertThat(EventHeaders.read(auditRecord.headers(), EventHeaders.TYPE)).isEqualTo("TASK_COMPLETED");
+        assertThat(EventHeaders.read(auditRecord.headers(), EventHeaders.SCHEMA_VERSION)).isEqualTo("2");
+        assertThat(EventHeaders.read(auditRecord.headers(), EventHeaders.INSTANCE_ID)).isNull();
+        assertThat(EventHeaders.read(workflowRecord.headers(), EventHeaders.TYPE)).isEqualTo(WorkflowEvent.INSTANCE_STARTED);
+        assertThat(EventHeaders.read(workflowRecord.headers(), EventHeaders.SCHEMA_VERSION)).isEqualTo("1");
+        assertThat(EventHeaders.read(workflowRecord.headers(), EventHeaders.INSTANCE_ID)).isEqualTo("instance-1");
+        assertThat(EventHeaders.read(workflowRecord.headers(), EventHeaders.TENANT)).isEqualTo("acme");
+    }
+
+    @Test
+    void onSend_ShouldKeepHeadersOfRepublishedRecords() {
+        // Given
+        interceptor.configure(Map.of(EventHeaders.TENANT_CONFIG, "acme"));
+        ProducerRecord<String, Object> record = new ProducerRecord<>("task.events", "instance-1",
+                TaskEvent.builder().type(TaskEvent.TASK_CREATED).instanceId("instance-1").build());
+        record.headers().add(EventHeaders.TENANT, "globex".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        interceptor.onSend(record);
+
+        // Then
+        assertThat(record.headers().headers(EventHeaders.TENANT)).hasSize(1);
+        assertThat(EventHeaders.read(record.headers(), EventHeaders.TENANT)).isEqualTo("globex");
+    }
+}
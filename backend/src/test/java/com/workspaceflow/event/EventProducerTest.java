@@ -1,15 +1,18 @@
 package com.workspaceflow.event;
 
 import com.workspaceflow.config.KafkaTopicConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,9 +30,14 @@ class EventProducerTest {
     @Mock
     private KafkaTemplate<String, Object> kafkaTemplate;
 
-    @InjectMocks
     private EventProducer eventProducer;
 
+    @BeforeEach
+    void setUp() {
+        eventProducer = new EventProducer(kafkaTemplate, new PublishBackpressure(kafkaTemplate, "bounded-async",
+                10, Duration.ZERO, Duration.ofSeconds(1), new SimpleMeterRegistry()));
+    }
+
     @Test
     void publishWorkflowEvent_ShouldSendEventToKafka() {
         // Given
@@ -38,7 +46,7 @@ class EventProducerTest {
         String instanceId = "instance-456";
         Map<String, Object> payload = Map.of("key", "value");
 
-        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(null);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
 
         // When
         eventProducer.publishWorkflowEvent(type, workflowId, instanceId, payload);
@@ -73,7 +81,7 @@ class EventProducerTest {
         String instanceId = "instance-456";
         Map<String, Object> payload = Map.of("taskName", "Test Task");
 
-        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(null);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
 
         // When
         eventProducer.publishTaskEvent(type, taskId, assignee, instanceId, payload);
@@ -89,7 +97,7 @@ class EventProducerTest {
                 eventCaptor.capture());
 
         assertThat(topicCaptor.getValue()).isEqualTo(KafkaTopicConfig.TASK_EVENTS);
-        assertThat(keyCaptor.getValue()).isEqualTo(taskId);
+        assertThat(keyCaptor.getValue()).isEqualTo(instanceId);
 
         TaskEvent capturedEvent = eventCaptor.getValue();
         assertThat(capturedEvent.getType()).isEqualTo(type);
@@ -109,7 +117,7 @@ class EventProducerTest {
         String userId = "admin";
         Map<String, Object> payload = Map.of("name", "Test Workflow");
 
-        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(null);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
 
         // When
         eventProducer.publishAuditEvent(eventType, entityType, entityId, userId, payload);
@@ -117,7 +125,7 @@ class EventProducerTest {
         // Then
         ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<Map> eventCaptor = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<AuditRecord> eventCaptor = ArgumentCaptor.forClass(AuditRecord.class);
 
         verify(kafkaTemplate).send(
                 topicCaptor.capture(),
@@ -127,27 +135,30 @@ class EventProducerTest {
         assertThat(topicCaptor.getValue()).isEqualTo(KafkaTopicConfig.AUDIT_EVENTS);
         assertThat(keyCaptor.getValue()).isEqualTo(entityId);
 
-        Map<String, Object> capturedEvent = eventCaptor.getValue();
-        assertThat(capturedEvent.get("eventType")).isEqualTo(eventType);
-        assertThat(capturedEvent.get("entityType")).isEqualTo(entityType);
-        assertThat(capturedEvent.get("entityId")).isEqualTo(entityId);
-        assertThat(capturedEvent.get("userId")).isEqualTo(userId);
-        assertThat(capturedEvent.get("timestamp")).isNotNull();
+        AuditRecord capturedEvent = eventCaptor.getValue();
+        assertThat(capturedEvent.getEventType()).isEqualTo(eventType);
+        assertThat(capturedEvent.getEntityType()).isEqualTo(entityType);
+        assertThat(capturedEvent.getEntityId()).isEqualTo(entityId);
+        assertThat(capturedEvent.getUserId()).isEqualTo(userId);
+        assertThat(capturedEvent.getPayload()).isEqualTo(payload);
+        assertThat(capturedEvent.getTimestamp()).isNotNull();
+        assertThat(capturedEvent.getEventId()).isEqualTo(AuditRecord.eventIdOf(capturedEvent));
     }
 
     @Test
     void publishAuditEvent_ShouldUseSystemUser_WhenUserIdIsNull() {
         // Given
-        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(null);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
 
         // When
         eventProducer.publishAuditEvent("EVENT", "ENTITY", "id", null, null);
 
         // Then
-        ArgumentCaptor<Map> eventCaptor = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<AuditRecord> eventCaptor = ArgumentCaptor.forClass(AuditRecord.class);
         verify(kafkaTemplate).send(anyString(), anyString(), eventCaptor.capture());
 
-        Map<String, Object> capturedEvent = eventCaptor.getValue();
-        assertThat(capturedEvent.get("userId")).isEqualTo("system");
+        AuditRecord capturedEvent = eventCaptor.getValue();
+        assertThat(capturedEvent.getUserId()).isEqualTo("system");
+        assertThat(capturedEvent.getPayload()).isEmpty();
     }
 }
@@ -0,0 +1,85 @@
+package com.workspaceflow.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EventRingBuffer
+ */
+class EventRingBufferTest {
+
+    @Test
+    void constructor_ShouldRoundCapacityUpToPowerOfTwo() {
+        // When & Then
+        assertThat(new EventRingBuffer(1000).capacity()).isEqualTo(1024);
+        assertThat(new EventRingBuffer(8).capacity()).isEqualTo(8);
+    }
+
+    @Test
+    void poll_ShouldHandEveryReaderTheEventsInOrderInBatches() {
+        // Given
+        EventRingBuffer ring = new EventRingBuffer(8);
+        EventRingBuffer.Reader first = ring.addReader("first");
+        EventRingBuffer.Reader second = ring.addReader("second");
+        for (int i = 0; i < 5; i++) {
+            ring.tryPublish("key-" + i, i, 0);
+        }
+        List<Object> firstSeen = new ArrayList<>();
+        List<String> secondKeys = new ArrayList<>();
+
+        // When
+        int firstBatch = ring.poll(first, 3, (key, event) -> firstSeen.add(event));
+        int secondBatch = ring.poll(first, 3, (key, event) -> firstSeen.add(event));
+        int all = ring.poll(second, 10, (key, event) -> secondKeys.add(key));
+
+        // Then
+        assertThat(firstBatch).isEqualTo(3);
+        assertThat(secondBatch).isEqualTo(2);
+        assertThat(firstSeen).containsExactly(0, 1, 2, 3, 4);
+        assertThat(all).isEqualTo(5);
+        assertThat(secondKeys).containsExactly("key-0", "key-1", "key-2", "key-3", "key-4");
+        assertThat(ring.hasPublished(first)).isFalse();
+    }
+
+    @Test
+    void tryPublish_ShouldFailWhileSlowestReaderIsAFullRingBehind() {
+        // Given
+        EventRingBuffer ring = new EventRingBuffer(2);
+        EventRingBuffer.Reader fast = ring.addReader("fast");
+        EventRingBuffer.Reader slow = ring.addReader("slow");
+        ring.tryPublish("a", 1, 0);
+        ring.tryPublish("b", 2, 0);
+        ring.poll(fast, 10, (key, event) -> { });
+
+        // When
+        boolean whileFull = ring.tryPublish("c", 3, 1_000_000);
+        ring.poll(slow, 1, (key, event) -> { });
+        boolean afterSlowRead = ring.tryPublish("c", 3, 0);
+
+        // Then
+        assertThat(whileFull).isFalse();
+        assertThat(afterSlowRead).isTrue();
+        assertThat(ring.remainingCapacity()).isZero();
+    }
+
+    @Test
+    void addReader_ShouldSeeOnlyEventsPublishedAfterJoining() {
+        // Given
+        EventRingBuffer ring = new EventRingBuffer(4);
+        ring.addReader("early");
+        ring.tryPublish("before", 1, 0);
+        EventRingBuffer.Reader late = ring.addReader("late");
+        ring.tryPublish("after", 2, 0);
+        List<String> keys = new ArrayList<>();
+
+        // When
+        ring.poll(late, 10, (key, event) -> keys.add(key));
+
+        // Then
+        assertThat(keys).containsExactly("after");
+    }
+}
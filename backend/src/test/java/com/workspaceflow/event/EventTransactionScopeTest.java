@@ -0,0 +1,102 @@
+package com.workspaceflow.event;
+
+import com.workspaceflow.exception.ConflictException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for EventTransactionScope
+ */
+@ExtendWith(MockitoExtension.class)
+class EventTransactionScopeTest {
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @InjectMocks
+    private EventTransactionScope transactionScope;
+
+    @Test
+    void publishInOneTransaction_ShouldRunTheOperationInsideOneTransaction() throws Throwable {
+        // Given
+        runCallbacks();
+        when(joinPoint.proceed()).thenReturn("task-1");
+
+        // When
+        Object result = transactionScope.publishInOneTransaction(joinPoint);
+
+        // Then
+        assertThat(result).isEqualTo("task-1");
+        verify(kafkaTemplate).executeInTransaction(any());
+    }
+
+    @Test
+    void publishInOneTransaction_ShouldRethrowTheOperationsException() throws Throwable {
+        // Given
+        runCallbacks();
+        when(joinPoint.proceed()).thenThrow(new ConflictException("Task task-1 is already COMPLETED"));
+
+        // When & Then
+        assertThatThrownBy(() -> transactionScope.publishInOneTransaction(joinPoint))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage("Task task-1 is already COMPLETED");
+    }
+
+    @Test
+    void publishInOneTransaction_ShouldReturnTheResult_WhenOnlyTheCommitFails() throws Throwable {
+        // Given
+        when(kafkaTemplate.executeInTransaction(any())).thenAnswer(invocation -> {
+            KafkaOperations.OperationsCallback<String, Object, Object> callback = invocation.getArgument(0);
+            callback.doInOperations(kafkaTemplate);
+            throw new KafkaException("Commit failed");
+        });
+        when(joinPoint.proceed()).thenReturn("task-1");
+        when(joinPoint.getSignature()).thenReturn(mock(Signature.class));
+
+        // When
+        Object result = transactionScope.publishInOneTransaction(joinPoint);
+
+        // Then
+        assertThat(result).isEqualTo("task-1");
+    }
+
+    @Test
+    void publishInOneTransaction_ShouldJoinAnOpenTransaction() throws Throwable {
+        // Given
+        when(kafkaTemplate.inTransaction()).thenReturn(true);
+        when(joinPoint.proceed()).thenReturn("task-1");
+
+        // When
+        Object result = transactionScope.publishInOneTransaction(joinPoint);
+
+        // Then
+        assertThat(result).isEqualTo("task-1");
+        verify(kafkaTemplate, never()).executeInTransaction(any());
+    }
+
+    private void runCallbacks() {
+        when(kafkaTemplate.executeInTransaction(any())).thenAnswer(invocation -> {
+            KafkaOperations.OperationsCallback<String, Object, Object> callback = invocation.getArgument(0);
+            return callback.doInOperations(kafkaTemplate);
+        });
+    }
+}
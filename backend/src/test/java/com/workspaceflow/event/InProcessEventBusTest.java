@@ -0,0 +1,164 @@
+package com.workspaceflow.event;
+
+import com.workspaceflow.config.KafkaTopicConfig;
+import com.workspaceflow.exception.PublishCapacityExceededException;
+import com.workspaceflow.model.entity.DeadLetterEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for InProcessEventBus
+ */
+@ExtendWith(MockitoExtension.class)
+class InProcessEventBusTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private WorkflowEventConsumer workflowEventConsumer;
+
+    @Mock
+    private TaskEventConsumer taskEventConsumer;
+
+    @Mock
+    private AuditEventConsumer auditEventConsumer;
+
+    @Mock
+    private NotificationEventConsumer notificationEventConsumer;
+
+    private InProcessEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InProcessEventBus(mongoTemplate, new SimpleMeterRegistry(), workflowEventConsumer,
+                taskEventConsumer, auditEventConsumer, notificationEventConsumer);
+        ReflectionTestUtils.setField(bus, "attempts", 3);
+        ReflectionTestUtils.setField(bus, "initialInterval", Duration.ofMillis(1));
+        ReflectionTestUtils.setField(bus, "publishTimeout", Duration.ofMillis(10));
+        bus.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        bus.stop();
+    }
+
+    @Test
+    void publish_ShouldDeliverToConsumerBean() {
+        // Given
+        TaskEvent event = TaskEvent.builder().type(TaskEvent.TASK_COMPLETED).taskId("task-1").instanceId("instance-1").build();
+        when(taskEventConsumer.consume(any(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        bus.publish(KafkaTopicConfig.TASK_EVENTS, "instance-1", event);
+
+        // Then
+        verify(taskEventConsumer, timeout(1000)).consume(event, "instance-1", KafkaTopicConfig.TASK_EVENTS);
+    }
+
+    @Test
+    void publish_ShouldRetryFailedEventThenStoreDeadLetter() {
+        // Given
+        AuditRecord event = AuditRecord.builder().eventType("TASK_COMPLETED").entityId("task-1").build();
+        when(auditEventConsumer.consumeAuditEvent(any(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("mongo down")));
+
+        // When
+        bus.publish(KafkaTopicConfig.AUDIT_EVENTS, "task-1", event);
+
+        // Then
+        verify(auditEventConsumer, timeout(1000).times(3)).consumeAuditEvent(event, "task-1", KafkaTopicConfig.AUDIT_EVENTS);
+        ArgumentCaptor<DeadLetterEvent> deadLetter = ArgumentCaptor.forClass(DeadLetterEvent.class);
+        verify(mongoTemplate, timeout(1000)).insert(deadLetter.capture());
+        assertThat(deadLetter.getValue().getTopic()).isEqualTo(KafkaTopicConfig.AUDIT_EVENTS);
+        assertThat(deadLetter.getValue().getConsumer()).isEqualTo("audit-consumer");
+        assertThat(deadLetter.getValue().getAttempts()).isEqualTo(3);
+        assertThat(deadLetter.getValue().getExceptionClass()).isEqualTo(IllegalStateException.class.getName());
+        assertThat(deadLetter.getValue().getPayload()).isEqualTo(event);
+    }
+
+    @Test
+    void publish_ShouldDeadLetterFailedNotificationWithoutRetry() {
+        // Given
+        NotificationEvent event = NotificationEvent.builder().type(NotificationEvent.TASK_DUE).recipient("john.doe").build();
+        when(notificationEventConsumer.consumeNotificationEvent(any(), anyString()))
+                .thenThrow(new IllegalStateException("channel down"));
+
+        // When
+        bus.publish(KafkaTopicConfig.NOTIFICATION_EVENTS, "john.doe", event);
+
+        // Then
+        ArgumentCaptor<DeadLetterEvent> deadLetter = ArgumentCaptor.forClass(DeadLetterEvent.class);
+        verify(mongoTemplate, timeout(1000)).insert(deadLetter.capture());
+        assertThat(deadLetter.getValue().getAttempts()).isEqualTo(1);
+        verify(notificationEventConsumer, times(1)).consumeNotificationEvent(eq(event), anyString());
+    }
+
+    @Test
+    void ensureCapacity_ShouldRejectWhileRingStaysFull_AndPublishShouldWait() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(bus, "bufferSize", 2);
+        CountDownLatch handling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(3);
+        bus.subscribe("test.events", "blocked", (event, key, topic) -> {
+            handling.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivered.countDown();
+            return CompletableFuture.completedFuture(null);
+        });
+        bus.publish("test.events", "k1", "first");
+        handling.await();
+        bus.publish("test.events", "k2", "second");
+
+        // When & Then
+        assertThatThrownBy(bus::ensureCapacity)
+                .isInstanceOf(PublishCapacityExceededException.class);
+        CompletableFuture<Void> third = CompletableFuture.runAsync(() -> bus.publish("test.events", "k3", "third"));
+        Thread.sleep(50);
+        assertThat(third).isNotDone();
+        release.countDown();
+        third.get(1, TimeUnit.SECONDS);
+        assertThat(delivered.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void backoff_ShouldGrowExponentiallyUpToMaxInterval() {
+        // Given
+        ReflectionTestUtils.setField(bus, "initialInterval", Duration.ofSeconds(1));
+
+        // When & Then
+        assertThat(bus.backoff(1)).isEqualTo(1_000);
+        assertThat(bus.backoff(2)).isEqualTo(10_000);
+        assertThat(bus.backoff(3)).isEqualTo(60_000);
+    }
+}
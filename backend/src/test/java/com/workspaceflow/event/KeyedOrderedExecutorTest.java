@@ -0,0 +1,143 @@
+package com.workspaceflow.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for KeyedOrderedExecutor
+ */
+class KeyedOrderedExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final KeyedOrderedExecutor executor = new KeyedOrderedExecutor("platform", 4, 100, meterRegistry);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+    }
+
+    @Test
+    void submit_ShouldRunTasksForSameKeyInOrder() {
+        // Given
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[50];
+
+        // When
+        for (int i = 0; i < futures.length; i++) {
+            int sequence = i;
+            futures[i] = executor.submit("instance-1", () -> {
+                sleep(sequence % 3);
+                processed.add(sequence);
+            });
+        }
+        CompletableFuture.allOf(futures).join();
+
+        // Then
+        assertThat(processed).hasSize(50).isSorted();
+    }
+
+    @Test
+    void submit_ShouldRunDifferentKeysConcurrently() throws Exception {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Runnable waitForOther = () -> {
+            bothStarted.countDown();
+            try {
+                assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // When
+        CompletableFuture<Void> first = executor.submit("instance-1", waitForOther);
+        CompletableFuture<Void> second = executor.submit("instance-2", waitForOther);
+
+        // Then
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        assertThat(bothStarted.getCount()).isZero();
+    }
+
+    @Test
+    void submit_ShouldFailOnlyTheFailingTask() {
+        // Given
+        List<String> processed = new CopyOnWriteArrayList<>();
+
+        // When
+        CompletableFuture<Void> failed = executor.submit("instance-1", () -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<Void> next = executor.submit("instance-1", () -> processed.add("next"));
+        next.join();
+
+        // Then
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(processed).containsExactly("next");
+    }
+
+    @Test
+    void submit_ShouldKeepManyKeysInFlight_OnVirtualThreads() throws Exception {
+        // Given: far more blocked handlers than a platform pool would run at once
+        KeyedOrderedExecutor virtual = new KeyedOrderedExecutor("virtual", 1, 500, new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(300);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[300];
+
+        // When
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = virtual.submit("entity-" + i, () -> {
+                started.countDown();
+                await(release);
+            });
+        }
+
+        // Then
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(virtual.inFlight()).isEqualTo(300);
+        release.countDown();
+        CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+        assertThat(virtual.inFlight()).isZero();
+        virtual.shutdown();
+    }
+
+    @Test
+    void submit_ShouldExportInFlightGauge() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> running = executor.submit("instance-1", () -> await(release));
+
+        // When
+        double inFlight = meterRegistry.get("workspaceflow.kafka.listener.in-flight").gauge().value();
+
+        // Then
+        assertThat(inFlight).isEqualTo(1);
+        release.countDown();
+        running.join();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.workspaceflow.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ListenerAutoscaler
+ */
+@ExtendWith(MockitoExtension.class)
+class ListenerAutoscalerTest {
+
+    private static final String LISTENER = "audit-consumer";
+    private static final String GROUP = "audit-consumer-group";
+
+    @Mock
+    private KafkaListenerEndpointRegistry endpointRegistry;
+
+    @Mock
+    private ConsumerLagReader lagReader;
+
+    @Mock
+    private ConcurrentMessageListenerContainer<String, Object> container;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ListenerAutoscaler autoscaler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        autoscaler = new ListenerAutoscaler(endpointRegistry, lagReader, meterRegistry);
+        when(endpointRegistry.getListenerContainer(LISTENER)).thenReturn(container);
+        when(container.isRunning()).thenReturn(true);
+        when(container.getContainerProperties()).thenReturn(new ContainerProperties("audit.events"));
+        when(container.getGroupId()).thenReturn(GROUP);
+    }
+
+    @Test
+    void evaluate_ShouldScaleUpToPartitionCountUnderLag() {
+        // Given
+        when(container.getConcurrency()).thenReturn(1);
+        when(lagReader.read(GROUP, List.of("audit.events")))
+                .thenReturn(new ConsumerLagReader.GroupLag(5_000, 100, Map.of("audit.events", 3), 1));
+
+        // When
+        autoscaler.evaluate(LISTENER, 60_000);
+
+        // Then
+        verify(container).stop();
+        verify(container).setConcurrency(3);
+        verify(container).start();
+        verify(lagReader, never()).growPartitions(anyString(), anyInt());
+        assertThat(gauge("workspaceflow.kafka.consumer.lag")).isEqualTo(5_000);
+        assertThat(gauge("workspaceflow.kafka.listener.concurrency")).isEqualTo(3);
+    }
+
+    @Test
+    void evaluate_ShouldGrowPartitionsWhenEnabled() {
+        // Given
+        ReflectionTestUtils.setField(autoscaler, "growPartitions", true);
+        when(container.getConcurrency()).thenReturn(3);
+        when(lagReader.read(GROUP, List.of("audit.events")))
+                .thenReturn(new ConsumerLagReader.GroupLag(5_000, 100, Map.of("audit.events", 3), 1));
+
+        // When
+        autoscaler.evaluate(LISTENER, 60_000);
+
+        // Then
+        verify(lagReader).growPartitions("audit.events", 5);
+        verify(container).setConcurrency(5);
+    }
+
+    @Test
+    void evaluate_ShouldRunOnlyThisNodesShareOfTheGroupsConsumers() {
+        // Given: the group needs 5 consumers and 2 nodes consume in it
+        when(container.getConcurrency()).thenReturn(1);
+        when(lagReader.read(GROUP, List.of("audit.events")))
+                .thenReturn(new ConsumerLagReader.GroupLag(5_000, 100, Map.of("audit.events", 6), 2));
+
+        // When
+        autoscaler.evaluate(LISTENER, 60_000);
+
+        // Then
+        verify(container).setConcurrency(3);
+    }
+
+    @Test
+    void evaluate_ShouldBoundTheShareByThePartitionsPerNode() {
+        // Given
+        when(container.getConcurrency()).thenReturn(1);
+        when(lagReader.read(GROUP, List.of("audit.events")))
+                .thenReturn(new ConsumerLagReader.GroupLag(50_000, 100, Map.of("audit.events", 3), 3));
+
+        // When
+        autoscaler.evaluate(LISTENER, 60_000);
+
+        // Then
+        verify(container, never()).setConcurrency(anyInt());
+    }
+
+    @Test
+    void evaluate_ShouldWaitForCooldownBeforeScalingDown() {
+        // Given: scaled up, then the backlog drains 30s later
+        when(container.getConcurrency()).thenReturn(1, 3);
+        when(lagReader.read(GROUP, List.of("audit.events")))
+                .thenReturn(new ConsumerLagReader.GroupLag(5_000, 100, Map.of("audit.events", 3), 1))
+                .thenReturn(new ConsumerLagReader.GroupLag(0, 5_100, Map.of("audit.events", 3), 1));
+
+        // When
+        autoscaler.evaluate(LISTENER, 60_000);
+        autoscaler.evaluate(LISTENER, 90_000);
+
+        // Then
+        verify(container).setConcurrency(3);
+        verify(container, never()).setConcurrency(1);
+        assertThat(gauge("workspaceflow.kafka.consumer.rate")).isEqualTo(5_000 / 30.0);
+        assertThat(gauge("workspaceflow.kafka.consumer.lag")).isZero();
+    }
+
+    @Test
+    void evaluate_ShouldKeepConcurrencyWhenLagFitsCurrentConsumers() {
+        // Given
+        when(container.getConcurrency()).thenReturn(2);
+        when(lagReader.read(GROUP, List.of("audit.events")))
+                .thenReturn(new ConsumerLagReader.GroupLag(1_500, 100, Map.of("audit.events", 3), 1));
+
+        // When
+        autoscaler.evaluate(LISTENER, 60_000);
+
+        // Then
+        verify(container, never()).stop();
+        verify(container, never()).setConcurrency(anyInt());
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("listener", LISTENER).gauge().value();
+    }
+}
@@ -0,0 +1,144 @@
+package com.workspaceflow.event;
+
+import com.workspaceflow.model.entity.OutboxEvent;
+import com.workspaceflow.repository.OutboxEventRepository;
+import com.workspaceflow.service.LeaseService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxRelay
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private LeaseService leaseService;
+
+    @InjectMocks
+    private OutboxRelay outboxRelay;
+
+    private OutboxEvent event(String id) {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic("task.events")
+                .key("instance-1")
+                .payload("payload-" + id)
+                .build();
+    }
+
+    @Test
+    void relayBatch_ShouldSendInOrderAndMarkPublished() {
+        // Given
+        when(outboxRepository.findByPublishedAtIsNullOrderByIdAsc(any()))
+                .thenReturn(List.of(event("1"), event("2")));
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        int published = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(published).isEqualTo(2);
+        InOrder inOrder = inOrder(kafkaTemplate);
+        inOrder.verify(kafkaTemplate).send("task.events", "instance-1", "payload-1");
+        inOrder.verify(kafkaTemplate).send("task.events", "instance-1", "payload-2");
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateMulti(queryCaptor.capture(), any(Update.class), eq(OutboxEvent.class));
+        assertThat(queryCaptor.getValue().getQueryObject().toJson()).contains("\"1\"", "\"2\"");
+    }
+
+    @Test
+    void relayBatch_ShouldOnlyMarkPrefixBeforeFirstFailure() {
+        // Given
+        when(outboxRepository.findByPublishedAtIsNullOrderByIdAsc(any()))
+                .thenReturn(List.of(event("1"), event("2"), event("3")));
+        when(kafkaTemplate.send(anyString(), anyString(), eq("payload-1")))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(kafkaTemplate.send(anyString(), anyString(), eq("payload-2")))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+        when(kafkaTemplate.send(anyString(), anyString(), eq("payload-3")))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        int published = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(published).isEqualTo(1);
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateMulti(queryCaptor.capture(), any(Update.class), eq(OutboxEvent.class));
+        assertThat(queryCaptor.getValue().getQueryObject().toJson()).contains("\"1\"").doesNotContain("\"3\"");
+    }
+
+    @Test
+    void relayBatch_ShouldDoNothing_WhenOutboxEmpty() {
+        // Given
+        when(outboxRepository.findByPublishedAtIsNullOrderByIdAsc(any())).thenReturn(List.of());
+
+        // When
+        int published = outboxRelay.relayBatch();
+
+        // Then
+        assertThat(published).isZero();
+        verifyNoInteractions(kafkaTemplate, mongoTemplate);
+    }
+
+    @Test
+    void relay_ShouldNotPoll_WhenAnotherNodeHoldsTheLease() {
+        // Given
+        when(leaseService.tryAcquire(eq(OutboxRelay.LEASE), any())).thenReturn(false);
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verifyNoInteractions(outboxRepository, kafkaTemplate, mongoTemplate);
+    }
+
+    @Test
+    void relay_ShouldRenewTheLeaseBeforeEveryBatch() {
+        // Given
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 2);
+        when(leaseService.tryAcquire(eq(OutboxRelay.LEASE), any())).thenReturn(true, false);
+        when(outboxRepository.findByPublishedAtIsNullOrderByIdAsc(any()))
+                .thenReturn(List.of(event("1"), event("2")));
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(leaseService, times(2)).tryAcquire(eq(OutboxRelay.LEASE), any());
+        verify(outboxRepository, times(1)).findByPublishedAtIsNullOrderByIdAsc(any());
+    }
+}
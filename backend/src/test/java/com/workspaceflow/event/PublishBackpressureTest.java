@@ -0,0 +1,172 @@
+package com.workspaceflow.event;
+
+import com.workspaceflow.exception.PublishCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for PublishBackpressure
+ */
+@ExtendWith(MockitoExtension.class)
+class PublishBackpressureTest {
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PublishBackpressure backpressure(String mode, int maxInFlight, Duration ackTimeout) {
+        return backpressure(mode, maxInFlight, Duration.ZERO, ackTimeout);
+    }
+
+    private PublishBackpressure backpressure(String mode, int maxInFlight, Duration acquireTimeout, Duration ackTimeout) {
+        return new PublishBackpressure(kafkaTemplate, mode, maxInFlight, acquireTimeout, ackTimeout, meterRegistry);
+    }
+
+    @Test
+    void ensureCapacity_ShouldRejectWhenMaxInFlightReached() {
+        // Given
+        PublishBackpressure backpressure = backpressure("bounded-async", 2, Duration.ofSeconds(1));
+        backpressure.publish("task.events", "k1", CompletableFuture::new);
+        backpressure.publish("task.events", "k2", CompletableFuture::new);
+
+        // When & Then
+        assertThatThrownBy(backpressure::ensureCapacity)
+                .isInstanceOf(PublishCapacityExceededException.class);
+        assertThat(backpressure.inFlight()).isEqualTo(2);
+        assertThat(meterRegistry.get("workspaceflow.events.publish.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void ensureCapacity_ShouldNotHoldCapacity() {
+        // Given
+        PublishBackpressure backpressure = backpressure("bounded-async", 1, Duration.ofSeconds(1));
+
+        // When
+        backpressure.ensureCapacity();
+        backpressure.ensureCapacity();
+
+        // Then
+        assertThat(backpressure.inFlight()).isZero();
+    }
+
+    @Test
+    void publish_ShouldSendPastMaxInFlight_InsteadOfRejecting() {
+        // Given
+        PublishBackpressure backpressure = backpressure("bounded-async", 1, Duration.ofSeconds(1));
+        CompletableFuture<SendResult<String, Object>> first = new CompletableFuture<>();
+        backpressure.publish("task.events", "k1", () -> first);
+
+        // When
+        backpressure.publish("task.events", "k2", () -> CompletableFuture.completedFuture(null));
+        first.complete(null);
+
+        // Then
+        assertThat(backpressure.inFlight()).isZero();
+        assertThat(meterRegistry.get("workspaceflow.events.publish.overflow").counter().count()).isEqualTo(1);
+        // The overflowing send held no permit, so only the first one was returned
+        backpressure.ensureCapacity();
+    }
+
+    @Test
+    void publish_ShouldNotWaitForCapacity() {
+        // Given
+        PublishBackpressure backpressure = backpressure("bounded-async", 1, Duration.ofSeconds(10), Duration.ofSeconds(1));
+        backpressure.publish("task.events", "k1", CompletableFuture::new);
+        long started = System.nanoTime();
+
+        // When
+        backpressure.publish("task.events", "k2", CompletableFuture::new);
+
+        // Then
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("workspaceflow.events.publish.overflow").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void publish_ShouldReleaseCapacityWhenSendCompletes() {
+        // Given
+        PublishBackpressure backpressure = backpressure("bounded-async", 1, Duration.ofSeconds(1));
+        CompletableFuture<SendResult<String, Object>> first = new CompletableFuture<>();
+        backpressure.publish("task.events", "k1", () -> first);
+
+        // When
+        first.completeExceptionally(new IllegalStateException("broker down"));
+        backpressure.publish("task.events", "k2", () -> CompletableFuture.completedFuture(null));
+
+        // Then
+        assertThat(backpressure.inFlight()).isZero();
+        assertThat(meterRegistry.get("workspaceflow.events.publish.latency")
+                .tag("outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("workspaceflow.events.publish.latency")
+                .tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void publish_ShouldReleaseCapacityWhenSendThrows() {
+        // Given
+        PublishBackpressure backpressure = backpressure("bounded-async", 1, Duration.ofSeconds(1));
+
+        // When
+        assertThatThrownBy(() -> backpressure.publish("task.events", "k1", () -> {
+            throw new IllegalStateException("serialization failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        backpressure.publish("task.events", "k2", () -> CompletableFuture.completedFuture(null));
+        assertThat(backpressure.inFlight()).isZero();
+    }
+
+    @Test
+    void publish_AwaitAck_ShouldReturnWhenAcknowledgementTimesOut() {
+        // Given
+        PublishBackpressure backpressure = backpressure("await-ack", 10, Duration.ofMillis(10));
+        CompletableFuture<SendResult<String, Object>> sent = new CompletableFuture<>();
+
+        // When
+        backpressure.publish("task.events", "k1", () -> sent);
+
+        // Then
+        assertThat(sent).isNotDone();
+        assertThat(backpressure.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void publish_AwaitAck_ShouldNotFailRequestOnSendFailure() {
+        // Given
+        PublishBackpressure backpressure = backpressure("await-ack", 10, Duration.ofSeconds(1));
+
+        // When
+        backpressure.publish("task.events", "k1",
+                () -> CompletableFuture.failedFuture(new IllegalArgumentException("record too large")));
+
+        // Then
+        assertThat(backpressure.inFlight()).isZero();
+        assertThat(meterRegistry.get("workspaceflow.events.publish.latency")
+                .tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void publish_FireAndForget_ShouldNotBoundInFlightSends() {
+        // Given
+        PublishBackpressure backpressure = backpressure("fire-and-forget", 1, Duration.ofSeconds(1));
+
+        // When
+        backpressure.publish("task.events", "k1", CompletableFuture::new);
+        backpressure.publish("task.events", "k2", CompletableFuture::new);
+
+        // Then
+        assertThat(backpressure.inFlight()).isEqualTo(2);
+    }
+}
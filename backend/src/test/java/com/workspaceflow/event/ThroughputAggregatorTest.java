@@ -0,0 +1,185 @@
+package com.workspaceflow.event;
+
+import com.workspaceflow.config.KafkaTopicConfig;
+import com.workspaceflow.model.dto.ThroughputResponse;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ThroughputAggregator
+ */
+@ExtendWith(MockitoExtension.class)
+class ThroughputAggregatorTest {
+
+    @Mock
+    private ConsumerFactory<String, Object> consumerFactory;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private ThroughputAggregator throughputAggregator;
+
+    private long offset;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(throughputAggregator, "enabled", false);
+        throughputAggregator.createWindows();
+        throughputAggregator.start();
+    }
+
+    @Test
+    void onRecord_ShouldCountTasksPerMinuteWorkflowAndRole() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        throughputAggregator.onRecord(task(TaskEvent.TASK_CREATED, "workflow-1", "manager", now));
+        throughputAggregator.onRecord(task(TaskEvent.TASK_CREATED, "workflow-1", "manager", now));
+        throughputAggregator.onRecord(task(TaskEvent.TASK_CREATED, "workflow-1", "clerk", now));
+        throughputAggregator.onRecord(task(TaskEvent.TASK_COMPLETED, "workflow-1", "manager", now));
+        throughputAggregator.onRecord(task(TaskEvent.TASK_CREATED, "workflow-2", "manager", now));
+
+        // When
+        ThroughputResponse response = throughputAggregator.query(5, "workflow-1", "manager");
+
+        // Then
+        assertThat(response.getWindows()).hasSize(1);
+        assertThat(response.getWindows().get(0).getTasksCreated()).isEqualTo(2);
+        assertThat(response.getWindows().get(0).getTasksCompleted()).isEqualTo(1);
+        assertThat(response.getBacklog()).singleElement()
+                .satisfies(backlog -> assertThat(backlog.getOpenTasks()).isEqualTo(1));
+    }
+
+    @Test
+    void onRecord_ShouldCountInstancesPerWorkflow() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        throughputAggregator.onRecord(instance(WorkflowEvent.INSTANCE_STARTED, now));
+        throughputAggregator.onRecord(instance(WorkflowEvent.INSTANCE_STARTED, now));
+        throughputAggregator.onRecord(instance(WorkflowEvent.INSTANCE_COMPLETED, now));
+
+        // When
+        ThroughputResponse response = throughputAggregator.query(5, "workflow-1", null);
+
+        // Then
+        assertThat(response.getWindows()).singleElement().satisfies(window -> {
+            assertThat(window.getRole()).isNull();
+            assertThat(window.getInstancesStarted()).isEqualTo(2);
+            assertThat(window.getInstancesCompleted()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void query_ShouldOnlyReturnWindowsOfTheRequestedMinutes() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        throughputAggregator.onRecord(task(TaskEvent.TASK_CREATED, "workflow-1", "manager", now.minusMinutes(30)));
+        throughputAggregator.onRecord(task(TaskEvent.TASK_CREATED, "workflow-1", "manager", now));
+
+        // When
+        ThroughputResponse recent = throughputAggregator.query(5, null, null);
+        ThroughputResponse hour = throughputAggregator.query(60, null, null);
+
+        // Then
+        assertThat(recent.getWindows()).hasSize(1);
+        assertThat(hour.getWindows()).hasSize(2);
+    }
+
+    @Test
+    void onRecord_ShouldIgnoreRecordsItCannotAggregate() {
+        // When
+        throughputAggregator.onRecord(record(KafkaTopicConfig.TASK_EVENTS, TaskEvent.builder().taskId("task-1").build()));
+        throughputAggregator.onRecord(record(KafkaTopicConfig.TASK_EVENTS, Map.of("type", TaskEvent.TASK_CREATED)));
+
+        // Then
+        assertThat(throughputAggregator.query(5, null, null).getWindows()).isEmpty();
+    }
+
+    @Test
+    void assignment_ShouldStartEveryPartitionOfBothTopicsAtTheRetentionStart() {
+        // Given
+        Consumer<String, Object> consumer = mock(Consumer.class);
+        when(consumer.partitionsFor(eq(KafkaTopicConfig.WORKFLOW_EVENTS), any(Duration.class)))
+                .thenReturn(List.of(partition(KafkaTopicConfig.WORKFLOW_EVENTS, 0)));
+        when(consumer.partitionsFor(eq(KafkaTopicConfig.TASK_EVENTS), any(Duration.class)))
+                .thenReturn(List.of(partition(KafkaTopicConfig.TASK_EVENTS, 0), partition(KafkaTopicConfig.TASK_EVENTS, 1)));
+
+        // When
+        TopicPartitionOffset[] assignment = ThroughputAggregator.assignment(consumer, 1_000L);
+
+        // Then
+        assertThat(assignment).containsExactly(
+                new TopicPartitionOffset(KafkaTopicConfig.WORKFLOW_EVENTS, 0, 1_000L, TopicPartitionOffset.SeekPosition.TIMESTAMP),
+                new TopicPartitionOffset(KafkaTopicConfig.TASK_EVENTS, 0, 1_000L, TopicPartitionOffset.SeekPosition.TIMESTAMP),
+                new TopicPartitionOffset(KafkaTopicConfig.TASK_EVENTS, 1, 1_000L, TopicPartitionOffset.SeekPosition.TIMESTAMP));
+    }
+
+    @Test
+    void assignment_ShouldFail_WhenATopicHasNoPartitionsYet() {
+        // Given
+        Consumer<String, Object> consumer = mock(Consumer.class);
+        when(consumer.partitionsFor(eq(KafkaTopicConfig.WORKFLOW_EVENTS), any(Duration.class))).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> ThroughputAggregator.assignment(consumer, 1_000L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static PartitionInfo partition(String topic, int partition) {
+        return new PartitionInfo(topic, partition, null, new Node[0], new Node[0]);
+    }
+
+    private ConsumerRecord<String, Object> task(String type, String workflowId, String role, LocalDateTime timestamp) {
+        TaskEvent event = TaskEvent.builder()
+                .type(type)
+                .taskId("task-" + offset)
+                .instanceId("instance-1")
+                .timestamp(timestamp)
+                .payload(TaskEvent.putWorkflow(new HashMap<>(), workflowId, role))
+                .build();
+        return record(KafkaTopicConfig.TASK_EVENTS, event);
+    }
+
+    private ConsumerRecord<String, Object> instance(String type, LocalDateTime timestamp) {
+        WorkflowEvent event = WorkflowEvent.builder()
+                .type(type)
+                .workflowId("workflow-1")
+                .instanceId("instance-1")
+                .timestamp(timestamp)
+                .build();
+        return record(KafkaTopicConfig.WORKFLOW_EVENTS, event);
+    }
+
+    private ConsumerRecord<String, Object> record(String topic, Object value) {
+        return new ConsumerRecord<>(topic, 0, offset++, System.currentTimeMillis(), TimestampType.CREATE_TIME,
+                0, 0, "instance-1", value, new RecordHeaders(), Optional.empty());
+    }
+}
@@ -0,0 +1,201 @@
+package com.workspaceflow.event.serialization;
+
+import com.workspaceflow.config.KafkaTopicConfig;
+import com.workspaceflow.event.AuditRecord;
+import com.workspaceflow.event.TaskEvent;
+import com.workspaceflow.event.WorkflowEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the binary event format and its schema registry
+ */
+class BinaryEventCodecTest {
+
+    private LocalSchemaRegistry registry;
+    private BinaryEventCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        registry = new LocalSchemaRegistry();
+        codec = new BinaryEventCodec(registry);
+    }
+
+    @Test
+    void taskEvent_ShouldRoundTripWithTypedPayloadValues() {
+        // Given
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put(TaskEvent.WAIT_MILLIS, 86_400_000L);
+        payload.put("amount", 5000);
+        payload.put("rate", 0.25);
+        payload.put("approved", true);
+        payload.put("comments", "Approuv\u00e9 \u2013 OK");
+        payload.put("missing", null);
+        payload.put("lines", Map.of("hardware", 3000));
+        payload.put("tags", List.of("urgent", -1));
+        TaskEvent event = TaskEvent.builder()
+                .type(TaskEvent.TASK_COMPLETED)
+                .taskId("task-1")
+                .instanceId("instance-1")
+                .timestamp(LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123_456_789))
+                .payload(payload)
+                .build();
+
+        // When
+        Object decoded = codec.decode(codec.encode(event));
+
+        // Then
+        assertThat(decoded).isEqualTo(event);
+        Map<String, Object> decodedPayload = ((TaskEvent) decoded).getPayload();
+        assertThat(decodedPayload.get(TaskEvent.WAIT_MILLIS)).isInstanceOf(Long.class);
+        assertThat(decodedPayload.get("amount")).isInstanceOf(Integer.class);
+        assertThat(((TaskEvent) decoded).getAssignee()).isNull();
+    }
+
+    @Test
+    void workflowAndAuditEvents_ShouldRoundTrip() {
+        // Given
+        WorkflowEvent workflowEvent = WorkflowEvent.builder()
+                .type(WorkflowEvent.INSTANCE_STARTED)
+                .workflowId("workflow-1")
+                .instanceId("instance-1")
+                .timestamp(LocalDateTime.now())
+                .payload(Map.of("startedBy", "john.doe"))
+                .build();
+        AuditRecord auditRecord = AuditRecord.builder()
+                .eventType("WORKFLOW_CREATED")
+                .entityType("WORKFLOW")
+                .entityId("workflow-1")
+                .userId("admin")
+                .timestamp(LocalDateTime.now())
+                .payload(Map.of())
+                .build();
+        auditRecord.setEventId(AuditRecord.eventIdOf(auditRecord));
+
+        // When / Then
+        assertThat(codec.decode(codec.encode(workflowEvent))).isEqualTo(workflowEvent);
+        assertThat(codec.decode(codec.encode(auditRecord))).isEqualTo(auditRecord);
+    }
+
+    @Test
+    void encode_ShouldBeSmallerThanJson() {
+        // Given
+        TaskEvent event = TaskEvent.builder()
+                .type(TaskEvent.TASK_ASSIGNED)
+                .taskId("65f1c0a2b3d4e5f601234567")
+                .assignee("jane.smith")
+                .instanceId("65f1c0a2b3d4e5f601234568")
+                .timestamp(LocalDateTime.now())
+                .payload(Map.of("taskName", "Manager Approval"))
+                .build();
+
+        // When
+        byte[] binary = codec.encode(event);
+        byte[] json = new JsonSerializer<>().serialize(KafkaTopicConfig.TASK_EVENTS, event);
+
+        // Then
+        assertThat(binary[0]).isEqualTo(BinaryEventCodec.MAGIC);
+        assertThat(binary.length).isLessThan(json.length);
+    }
+
+    @Test
+    void deserializer_ShouldReadBinaryAndJsonRecords() {
+        // Given
+        TaskEvent event = TaskEvent.builder()
+                .type(TaskEvent.TASK_CREATED)
+                .taskId("task-1")
+                .timestamp(LocalDateTime.now())
+                .payload(Map.of("stepId", "step1"))
+                .build();
+        byte[] binary = new EventSerializer(codec).serialize(KafkaTopicConfig.TASK_EVENTS, event);
+        byte[] json = new JsonSerializer<>().serialize(KafkaTopicConfig.TASK_EVENTS, event);
+        EventDeserializer deserializer = new EventDeserializer(codec);
+
+        // When / Then
+        assertThat(deserializer.deserialize(KafkaTopicConfig.TASK_EVENTS, binary)).isEqualTo(event);
+        assertThat(deserializer.deserialize(KafkaTopicConfig.TASK_EVENTS, json)).isEqualTo(event);
+    }
+
+    @Test
+    void serializer_ShouldFallBackToJsonForUntypedValues() {
+        // When
+        byte[] data = new EventSerializer(codec).serialize(KafkaTopicConfig.DEADLETTER_EVENTS, Map.of("key", "value"));
+
+        // Then
+        assertThat(BinaryEventCodec.isBinary(data)).isFalse();
+        assertThat(new EventDeserializer(codec).deserialize(KafkaTopicConfig.DEADLETTER_EVENTS, data))
+                .isEqualTo(Map.of("key", "value"));
+    }
+
+    @Test
+    void decode_ShouldReadAuditRecordsWrittenWithVersion1() {
+        // Given: a v1 record from a producer that predates the event id
+        AuditRecordSchema schema = new AuditRecordSchema();
+        int v1 = registry.register(schema.subject(), 1, schema.definition(1));
+        BinaryEventWriter out = new BinaryEventWriter(64);
+        out.writeByte(BinaryEventCodec.MAGIC);
+        out.writeInt(v1);
+        out.writeString("WORKFLOW_CREATED");
+        out.writeString("WORKFLOW");
+        out.writeString("workflow-1");
+        out.writeString("admin");
+        out.writeDateTime(null);
+        out.writeMap(Map.of());
+
+        // When
+        AuditRecord decoded = (AuditRecord) codec.decode(out.toByteArray());
+
+        // Then
+        assertThat(decoded.getEntityId()).isEqualTo("workflow-1");
+        assertThat(decoded.getEventId()).isNull();
+    }
+
+    @Test
+    void decode_ShouldRejectUnknownSchemaId() {
+        // Given
+        byte[] data = {BinaryEventCodec.MAGIC, 0, 0, 0, 42, 0};
+
+        // When / Then
+        assertThatThrownBy(() -> codec.decode(data))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("42");
+    }
+
+    @Test
+    void decode_ShouldRejectNewerSchemaVersionThanReader() {
+        // Given: a producer already on task-event v2
+        int newerId = registry.register("task-event", 2, "type:string,taskId:string,priority:int");
+        byte[] data = {BinaryEventCodec.MAGIC, 0, 0, 0, (byte) newerId, 0};
+
+        // When / Then
+        assertThatThrownBy(() -> codec.decode(data))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("task-event v2");
+    }
+
+    @Test
+    void registry_ShouldKeepIdsStableAndRejectChangedDefinitions() {
+        // Given
+        LocalSchemaRegistry other = new LocalSchemaRegistry();
+        new BinaryEventCodec(other);
+        TaskEventSchema schema = new TaskEventSchema();
+
+        // When
+        int id = registry.register(schema.subject(), schema.version(), schema.definition(schema.version()));
+
+        // Then
+        assertThat(other.register(schema.subject(), schema.version(), schema.definition(schema.version()))).isEqualTo(id);
+        assertThatThrownBy(() -> registry.register(schema.subject(), schema.version(), "type:string"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.workspaceflow.event.serialization;
+
+import com.workspaceflow.config.KafkaTopicConfig;
+import com.workspaceflow.event.EventEnvelope;
+import com.workspaceflow.event.EventHeaders;
+import com.workspaceflow.event.TaskEvent;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for HeaderFilter and the filtering EventDeserializer
+ */
+class HeaderFilterTest {
+
+    /**
+     * Not valid JSON: only a record that is actually parsed fails on it
+     */
+    private static final byte[] UNPARSEABLE = "{not json".getBytes(StandardCharsets.UTF_8);
+
+    private final HeaderFilter filter = HeaderFilter.from(Map.of(
+            HeaderFilter.ACCEPT_TYPES_CONFIG, TaskEvent.TASK_COMPLETED,
+            HeaderFilter.ROUTE_TYPES_CONFIG, "TASK_CREATED, TASK_ASSIGNED",
+            HeaderFilter.TENANT_CONFIG, "acme"));
+
+    @Test
+    void decide_ShouldFollowTypeListsAndTenant() {
+        // When & Then
+        assertThat(filter.decide(headers(TaskEvent.TASK_COMPLETED, "acme"))).isEqualTo(HeaderFilter.Decision.DESERIALIZE);
+        assertThat(filter.decide(headers(TaskEvent.TASK_ASSIGNED, "acme"))).isEqualTo(HeaderFilter.Decision.ROUTE);
+        assertThat(filter.decide(headers(TaskEvent.TASK_REJECTED, "acme"))).isEqualTo(HeaderFilter.Decision.DROP);
+        assertThat(filter.decide(headers(TaskEvent.TASK_COMPLETED, "globex"))).isEqualTo(HeaderFilter.Decision.DROP);
+    }
+
+    @Test
+    void decide_ShouldDeserializeRecordsWithoutEnvelope() {
+        // When & Then
+        assertThat(filter.decide(new RecordHeaders())).isEqualTo(HeaderFilter.Decision.DESERIALIZE);
+        assertThat(HeaderFilter.ACCEPT_ALL.decide(headers(TaskEvent.TASK_REJECTED, "globex")))
+                .isEqualTo(HeaderFilter.Decision.DESERIALIZE);
+    }
+
+    @Test
+    void deserialize_ShouldReturnEnvelopeWithoutParsing_WhenRoutedOrDropped() {
+        // Given
+        EventDeserializer deserializer = new EventDeserializer(new BinaryEventCodec(new LocalSchemaRegistry()), filter);
+
+        // When
+        Object routed = deserializer.deserialize(KafkaTopicConfig.TASK_EVENTS, headers(TaskEvent.TASK_ASSIGNED, "acme"), UNPARSEABLE);
+        Object dropped = deserializer.deserialize(KafkaTopicConfig.TASK_EVENTS, headers(TaskEvent.TASK_REJECTED, "acme"), UNPARSEABLE);
+
+        // Then
+        assertThat(routed).isEqualTo(new EventEnvelope(TaskEvent.TASK_ASSIGNED, "1", "instance-1", "acme", UNPARSEABLE, false));
+        assertThat(dropped).isInstanceOf(EventEnvelope.class);
+        assertThat(((EventEnvelope) dropped).dropped()).isTrue();
+        assertThat(((EventEnvelope) dropped).data()).isSameAs(UNPARSEABLE);
+    }
+
+    @Test
+    void deserialize_ShouldParseAcceptedTypes() {
+        // Given
+        TaskEvent event = TaskEvent.builder()
+                .type(TaskEvent.TASK_COMPLETED)
+                .taskId("task-1")
+                .instanceId("instance-1")
+                .timestamp(LocalDateTime.now())
+                .build();
+        BinaryEventCodec codec = new BinaryEventCodec(new LocalSchemaRegistry());
+        byte[] data = new EventSerializer(codec).serialize(KafkaTopicConfig.TASK_EVENTS, event);
+
+        // When
+        Object value = new EventDeserializer(codec, filter)
+                .deserialize(KafkaTopicConfig.TASK_EVENTS, headers(TaskEvent.TASK_COMPLETED, "acme"), data);
+
+        // Then
+        assertThat(value).isEqualTo(event);
+    }
+
+    private static RecordHeaders headers(String type, String tenant) {
+        RecordHeaders headers = new RecordHeaders();
+        EventHeaders.write(headers, TaskEvent.builder().type(type).instanceId("instance-1").build(), tenant);
+        return headers;
+    }
+}
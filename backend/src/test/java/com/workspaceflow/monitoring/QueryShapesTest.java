@@ -0,0 +1,56 @@
+package com.workspaceflow.monitoring;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for QueryShapes
+ */
+class QueryShapesTest {
+
+    @Test
+    void shapeOf_ShouldRedactValuesButKeepFieldsAndOperators() {
+        BsonDocument command = BsonDocument.parse("""
+                {"find": "tasks",
+                 "filter": {"assignee": "jane.smith", "status": {"$in": ["CREATED", "ASSIGNED"]}},
+                 "sort": {"createdAt": -1},
+                 "lsid": {"id": "x"}, "$db": "workspaceflow"}""");
+
+        String shape = QueryShapes.shapeOf("find", "tasks", command);
+
+        assertThat(shape).startsWith("find tasks ");
+        assertThat(shape).contains("\"assignee\": \"?\"", "\"$in\": [\"?\"]", "\"createdAt\": -1");
+        assertThat(shape).doesNotContain("jane.smith", "CREATED", "lsid", "workspaceflow");
+    }
+
+    @Test
+    void explainOf_ShouldStripSessionFields() {
+        BsonDocument command = BsonDocument.parse("""
+                {"find": "tasks", "filter": {"assignee": "jane.smith"},
+                 "lsid": {"id": "x"}, "txnNumber": 1, "$db": "workspaceflow"}""");
+
+        BsonDocument explain = QueryShapes.explainOf(command);
+
+        assertThat(explain.getString("verbosity").getValue()).isEqualTo("queryPlanner");
+        assertThat(explain.getDocument("explain").keySet()).containsExactly("find", "filter");
+    }
+
+    @Test
+    void planSummary_ShouldListWinningPlanStages() {
+        BsonDocument explainResult = BsonDocument.parse("""
+                {"queryPlanner": {"winningPlan": {"stage": "FETCH",
+                  "inputStage": {"stage": "IXSCAN", "indexName": "assignee_1"}}}}""");
+
+        assertThat(QueryShapes.planSummary(explainResult)).isEqualTo("FETCH <- IXSCAN(assignee_1)");
+    }
+
+    @Test
+    void planSummary_ShouldFindQueryPlannerInsideAggregateExplain() {
+        BsonDocument explainResult = BsonDocument.parse("""
+                {"stages": [{"$cursor": {"queryPlanner": {"winningPlan": {"stage": "COLLSCAN"}}}}]}""");
+
+        assertThat(QueryShapes.planSummary(explainResult)).isEqualTo("COLLSCAN");
+    }
+}
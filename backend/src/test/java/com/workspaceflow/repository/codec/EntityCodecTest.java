@@ -0,0 +1,239 @@
+package com.workspaceflow.repository.codec;
+
+import com.mongodb.MongoClientSettings;
+import com.workspaceflow.model.entity.AuditEvent;
+import com.workspaceflow.model.entity.Task;
+import com.workspaceflow.model.entity.WorkflowInstance;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round-trip and compatibility tests for the hand-written entity codecs
+ */
+class EntityCodecTest {
+
+    private final CodecRegistry registry = MongoClientSettings.getDefaultCodecRegistry();
+    private final Codec<Document> documentCodec = registry.get(Document.class);
+    private MongoMappingContext mappingContext;
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        // As configured by Spring Boot: java.time types are simple types written through converters
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+    }
+
+    private <T> BsonDocument encode(Codec<T> codec, T value) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), value, EncoderContext.builder().build());
+        return document;
+    }
+
+    private <T> T decode(Codec<T> codec, BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+
+    private BsonDocument writeWithConverter(Object entity) {
+        Document document = new Document();
+        converter.write(entity, document);
+        BsonDocument bson = new BsonDocument();
+        documentCodec.encode(new BsonDocumentWriter(bson), document, EncoderContext.builder().build());
+        return bson;
+    }
+
+    private Task sampleTask() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        return Task.builder()
+                .id("65f1c0a2b3d4e5f601234567")
+                .version(3L)
+                .workflowInstanceId("instance-1")
+                .workflowId("workflow-1")
+                .stepId("step1")
+                .name("Manager Approval")
+                .status(Task.TaskStatus.ASSIGNED)
+                .assignee("jane.smith")
+                .data(Map.of("approved", true, "comments", "Approved"))
+                .createdAt(now)
+                .assignedAt(now)
+                .dueAt(now.plusDays(2))
+                .dueNotifiedAt(now)
+                .build();
+    }
+
+    @Test
+    void taskCodec_ShouldRoundTrip() {
+        TaskCodec codec = new TaskCodec(registry);
+        Task task = sampleTask();
+        task.setData(Map.of("approved", true, "nested", Map.of("amount", 5000)));
+
+        Task decoded = decode(codec, encode(codec, task));
+
+        assertThat(decoded).isEqualTo(task);
+    }
+
+    @Test
+    void taskCodec_ShouldReadDocumentsWrittenByMappingConverter() {
+        TaskCodec codec = new TaskCodec(registry);
+        Task task = sampleTask();
+        task.setData(Map.of("approved", true, "nested", Map.of("amount", 5000)));
+
+        Task decoded = decode(codec, writeWithConverter(task));
+
+        assertThat(decoded).isEqualTo(task);
+    }
+
+    @Test
+    void taskCodec_ShouldWriteDocumentsReadableByMappingConverter() {
+        TaskCodec codec = new TaskCodec(registry);
+        Task task = sampleTask();
+
+        Document document = documentCodec.decode(new BsonDocumentReader(encode(codec, task)),
+                DecoderContext.builder().build());
+
+        assertThat(converter.read(Task.class, document)).isEqualTo(task);
+    }
+
+    @Test
+    void workflowInstanceCodec_ShouldReadDocumentsWrittenByMappingConverter() {
+        WorkflowInstanceCodec codec = new WorkflowInstanceCodec(registry);
+        WorkflowInstance instance = WorkflowInstance.builder()
+                .id("65f1c0a2b3d4e5f601234568")
+                .version(1L)
+                .workflowId("workflow-1")
+                .workflowName("Purchase Approval")
+                .status(WorkflowInstance.WorkflowStatus.STARTED)
+                .variables(Map.of("amount", 5000, "department", "IT"))
+                .startedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
+                .startedBy("john.doe")
+                .build();
+
+        assertThat(decode(codec, writeWithConverter(instance))).isEqualTo(instance);
+    }
+
+    @Test
+    void auditEventCodec_ShouldReadDocumentsWrittenByMappingConverter() {
+        AuditEventCodec codec = new AuditEventCodec(registry);
+        AuditEvent event = AuditEvent.builder()
+                .id("65f1c0a2b3d4e5f601234569")
+                .eventType("WORKFLOW_CREATED")
+                .meta(AuditEvent.Meta.builder().entityType("WORKFLOW").entityId("wf-1").build())
+                .userId("admin")
+                .payload(Map.of("name", "Purchase Approval"))
+                .timestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
+                .build();
+
+        assertThat(decode(codec, writeWithConverter(event))).isEqualTo(event);
+    }
+
+    @Test
+    void taskCodec_ShouldRoundTripEveryPersistentProperty() {
+        assertEveryPropertyRoundTrips(new TaskCodec(registry), Task.class);
+    }
+
+    @Test
+    void workflowInstanceCodec_ShouldRoundTripEveryPersistentProperty() {
+        assertEveryPropertyRoundTrips(new WorkflowInstanceCodec(registry), WorkflowInstance.class);
+    }
+
+    @Test
+    void auditEventCodec_ShouldRoundTripEveryPersistentProperty() {
+        assertEveryPropertyRoundTrips(new AuditEventCodec(registry), AuditEvent.class);
+    }
+
+    /**
+     * Fills every property the mapping context knows of, so a field added to the
+     * entity but not to its codec fails here instead of being dropped on write
+     */
+    private <T> void assertEveryPropertyRoundTrips(Codec<T> codec, Class<T> type) {
+        T entity = sampleEntity(type);
+
+        T decoded = decode(codec, encode(codec, entity));
+        T readByCodec = decode(codec, writeWithConverter(entity));
+        T readByConverter = converter.read(type, documentCodec.decode(
+                new BsonDocumentReader(encode(codec, entity)), DecoderContext.builder().build()));
+
+        MongoPersistentEntity<?> persistentEntity = mappingContext.getRequiredPersistentEntity(type);
+        PersistentPropertyAccessor<T> expected = persistentEntity.getPropertyAccessor(entity);
+        for (MongoPersistentProperty property : persistentEntity) {
+            Object value = expected.getProperty(property);
+            String name = type.getSimpleName() + "." + property.getName();
+            assertThat(persistentEntity.getPropertyAccessor(decoded).getProperty(property))
+                    .as("%s after a codec round trip", name).isEqualTo(value);
+            assertThat(persistentEntity.getPropertyAccessor(readByCodec).getProperty(property))
+                    .as("%s written by the converter, read by the codec", name).isEqualTo(value);
+            assertThat(persistentEntity.getPropertyAccessor(readByConverter).getProperty(property))
+                    .as("%s written by the codec, read by the converter", name).isEqualTo(value);
+        }
+    }
+
+    private <T> T sampleEntity(Class<T> type) {
+        MongoPersistentEntity<?> persistentEntity = mappingContext.getRequiredPersistentEntity(type);
+        T entity = BeanUtils.instantiateClass(type);
+        PersistentPropertyAccessor<T> accessor = persistentEntity.getPropertyAccessor(entity);
+        int index = 0;
+        for (MongoPersistentProperty property : persistentEntity) {
+            accessor.setProperty(property, sampleValue(property, index++));
+        }
+        return accessor.getBean();
+    }
+
+    /**
+     * A distinct non-null value per property, so swapped fields are caught as well
+     */
+    private Object sampleValue(MongoPersistentProperty property, int index) {
+        Class<?> type = property.getType();
+        if (property.isIdProperty()) {
+            return new ObjectId().toHexString();
+        }
+        if (type == String.class) {
+            return property.getName() + "-value";
+        }
+        if (type == Long.class) {
+            return 100L + index;
+        }
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants[index % constants.length];
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS).plusMinutes(index);
+        }
+        if (property.isMap()) {
+            return Map.of(property.getName(), "value", "nested", Map.of("index", index));
+        }
+        if (property.isEntity()) {
+            return sampleEntity(type);
+        }
+        throw new IllegalStateException("No sample value for " + property + "; add one for its type");
+    }
+}
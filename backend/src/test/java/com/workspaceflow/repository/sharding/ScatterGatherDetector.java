@@ -0,0 +1,111 @@
+package com.workspaceflow.repository.sharding;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Test harness that records the commands sent to sharded collections and flags
+ * every read, update or delete whose filter does not pin all shard key fields to
+ * concrete values (equality or $in). On a sharded cluster mongos would broadcast
+ * such a command to every shard (scatter-gather).
+ * <p>
+ * Shard keys are taken from the {@code @Sharded} annotations of the entities, so
+ * the harness checks the same keys the application shards on.
+ */
+public class ScatterGatherDetector implements CommandListener {
+
+    private final Map<String, List<String>> shardKeys = new HashMap<>();
+    private final List<String> scatterGather = new CopyOnWriteArrayList<>();
+
+    public ScatterGatherDetector(Class<?>... entities) {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        for (Class<?> type : entities) {
+            MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(type);
+            List<String> fields = entity.getShardKey().getPropertyNames().stream()
+                    .map(name -> {
+                        MongoPersistentProperty property = entity.getPersistentProperty(name);
+                        return property != null ? property.getFieldName() : name;
+                    })
+                    .toList();
+            shardKeys.put(entity.getCollection(), fields);
+        }
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        BsonDocument command = event.getCommand();
+        String commandName = event.getCommandName();
+        BsonValue target = command.get(commandName);
+        if (target == null || !target.isString()) {
+            return;
+        }
+        String collection = target.asString().getValue();
+        List<String> key = shardKeys.get(collection);
+        if (key == null) {
+            return;
+        }
+        for (BsonDocument filter : filtersOf(commandName, command)) {
+            if (!key.stream().allMatch(field -> pins(filter, field))) {
+                scatterGather.add(commandName + " " + collection + " " + filter.toJson());
+            }
+        }
+    }
+
+    /**
+     * Commands recorded since the last reset that would be broadcast to all shards
+     */
+    public List<String> scatterGatherCommands() {
+        return List.copyOf(scatterGather);
+    }
+
+    public void reset() {
+        scatterGather.clear();
+    }
+
+    private static List<BsonDocument> filtersOf(String commandName, BsonDocument command) {
+        List<BsonDocument> filters = new ArrayList<>();
+        switch (commandName) {
+            case "find" -> filters.add(command.getDocument("filter", new BsonDocument()));
+            case "count", "distinct", "findAndModify" -> filters.add(command.getDocument("query", new BsonDocument()));
+            case "aggregate" -> {
+                BsonArray pipeline = command.getArray("pipeline", new BsonArray());
+                BsonDocument first = pipeline.isEmpty() ? new BsonDocument() : pipeline.get(0).asDocument();
+                filters.add(first.getDocument("$match", new BsonDocument()));
+            }
+            case "update" -> command.getArray("updates", new BsonArray())
+                    .forEach(update -> filters.add(update.asDocument().getDocument("q")));
+            case "delete" -> command.getArray("deletes", new BsonArray())
+                    .forEach(delete -> filters.add(delete.asDocument().getDocument("q")));
+            default -> {
+                // inserts are routed by the document itself; other commands are not queries
+            }
+        }
+        return filters;
+    }
+
+    private static boolean pins(BsonDocument filter, String field) {
+        BsonValue value = filter.get(field);
+        if (value != null) {
+            if (!value.isDocument() || value.asDocument().keySet().stream().noneMatch(k -> k.startsWith("$"))) {
+                return true;
+            }
+            BsonDocument operators = value.asDocument();
+            return operators.containsKey("$eq") || operators.containsKey("$in");
+        }
+        BsonValue and = filter.get("$and");
+        return and != null && and.isArray()
+                && and.asArray().stream().anyMatch(clause -> clause.isDocument() && pins(clause.asDocument(), field));
+    }
+}
@@ -0,0 +1,144 @@
+package com.workspaceflow.repository.sharding;
+
+import com.workspaceflow.model.entity.AuditEvent;
+import com.workspaceflow.model.entity.Task;
+import com.workspaceflow.model.entity.WorkflowInstance;
+import com.workspaceflow.repository.AuditEventRepository;
+import com.workspaceflow.repository.TaskRepository;
+import com.workspaceflow.repository.WorkflowInstanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the hot queries of the services target a single shard: every
+ * filter on tasks, workflow_instances and audit_events must include the shard key
+ * declared on the entity. Listing, search and analytics queries are intentionally
+ * scatter-gather and are not exercised here.
+ */
+@DataMongoTest
+@Testcontainers
+@Import(ShardKeyRoutingTest.DetectorConfig.class)
+class ShardKeyRoutingTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:latest");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @TestConfiguration
+    static class DetectorConfig {
+
+        @Bean
+        ScatterGatherDetector scatterGatherDetector() {
+            return new ScatterGatherDetector(Task.class, WorkflowInstance.class, AuditEvent.class);
+        }
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer scatterGatherListener(ScatterGatherDetector detector) {
+            return settings -> settings.addCommandListener(detector);
+        }
+    }
+
+    @Autowired
+    private ScatterGatherDetector detector;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private WorkflowInstanceRepository instanceRepository;
+
+    @Autowired
+    private AuditEventRepository auditEventRepository;
+
+    private Task task;
+    private WorkflowInstance instance;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        instanceRepository.deleteAll();
+        auditEventRepository.deleteAll();
+
+        instance = instanceRepository.save(WorkflowInstance.builder()
+                .workflowId("workflow-1")
+                .status(WorkflowInstance.WorkflowStatus.STARTED)
+                .startedAt(LocalDateTime.now())
+                .build());
+        task = taskRepository.save(Task.builder()
+                .workflowInstanceId(instance.getId())
+                .stepId("step1")
+                .name("Task 1")
+                .status(Task.TaskStatus.CREATED)
+                .createdAt(LocalDateTime.now())
+                .build());
+        auditEventRepository.save(AuditEvent.builder()
+                .eventType("TASK_CREATED")
+                .meta(AuditEvent.Meta.builder().entityType("TASK").entityId(task.getId()).build())
+                .timestamp(LocalDateTime.now())
+                .build());
+
+        detector.reset();
+    }
+
+    @Test
+    void taskLifecycleQueries_ShouldTargetSingleShard() {
+        // When: TaskService assign / complete with the instance id, then the completion check
+        Task found = taskRepository.findByIdAndWorkflowInstanceId(task.getId(), instance.getId()).orElseThrow();
+        found.setStatus(Task.TaskStatus.COMPLETED);
+        taskRepository.save(found);
+        taskRepository.findByWorkflowInstanceId(instance.getId());
+
+        // Then
+        assertThat(detector.scatterGatherCommands()).isEmpty();
+    }
+
+    @Test
+    void instanceQueries_ShouldTargetSingleShard() {
+        // When: WorkflowService / TaskService instance lookup and status update
+        WorkflowInstance found = instanceRepository.findById(instance.getId()).orElseThrow();
+        found.setStatus(WorkflowInstance.WorkflowStatus.COMPLETED);
+        instanceRepository.save(found);
+
+        // Then
+        assertThat(detector.scatterGatherCommands()).isEmpty();
+    }
+
+    @Test
+    void auditHistoryQuery_ShouldTargetSingleShard() {
+        // When: AuditService entity history
+        auditEventRepository.findByMetaEntityTypeAndMetaEntityIdAndTimestampBetweenOrderByTimestampAsc(
+                "TASK", task.getId(), LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+
+        // Then
+        assertThat(detector.scatterGatherCommands()).isEmpty();
+    }
+
+    @Test
+    void taskLookupWithoutInstance_ShouldBeFlaggedAsScatterGather() {
+        // When
+        taskRepository.findById(task.getId());
+
+        // Then
+        assertThat(detector.scatterGatherCommands()).hasSize(1);
+        assertThat(detector.scatterGatherCommands().get(0)).startsWith("find tasks");
+    }
+}
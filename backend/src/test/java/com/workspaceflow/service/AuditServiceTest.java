@@ -0,0 +1,72 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.mapper.AuditMapper;
+import com.workspaceflow.model.dto.AuditEventResponse;
+import com.workspaceflow.model.entity.AuditEvent;
+import com.workspaceflow.repository.AuditEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuditService
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditServiceTest {
+
+    @Mock
+    private AuditEventRepository auditEventRepository;
+
+    @Mock
+    private AuditMapper auditMapper;
+
+    @InjectMocks
+    private AuditService auditService;
+
+    @Test
+    void getEntityHistory_ShouldQueryRequestedWindow() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 2, 1, 0, 0);
+        List<AuditEvent> events = List.of(AuditEvent.builder()
+                .eventType("WORKFLOW_CREATED")
+                .meta(AuditEvent.Meta.builder().entityType("WORKFLOW").entityId("wf-1").build())
+                .timestamp(from.plusDays(1))
+                .build());
+        when(auditEventRepository.findByMetaEntityTypeAndMetaEntityIdAndTimestampBetweenOrderByTimestampAsc(
+                "WORKFLOW", "wf-1", from, to)).thenReturn(events);
+        when(auditMapper.toResponseList(events)).thenReturn(List.of(AuditEventResponse.builder()
+                .eventType("WORKFLOW_CREATED")
+                .entityType("WORKFLOW")
+                .entityId("wf-1")
+                .build()));
+
+        // When
+        List<AuditEventResponse> result = auditService.getEntityHistory("WORKFLOW", "wf-1", from, to);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getEntityId()).isEqualTo("wf-1");
+    }
+
+    @Test
+    void getEntityHistory_ShouldDefaultToLastThirtyDays() {
+        // When
+        auditService.getEntityHistory("WORKFLOW", "wf-1", null, null);
+
+        // Then
+        verify(auditEventRepository).findByMetaEntityTypeAndMetaEntityIdAndTimestampBetweenOrderByTimestampAsc(
+                eq("WORKFLOW"), eq("wf-1"),
+                argThat(from -> from.isBefore(LocalDateTime.now().minusDays(29))),
+                any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,75 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.exception.ConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ConflictRetry
+ */
+class ConflictRetryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConflictRetry conflictRetry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        conflictRetry = new ConflictRetry(meterRegistry);
+    }
+
+    @Test
+    void run_ShouldRetryConflictsUntilSuccess() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = conflictRetry.run("task.assign", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("version mismatch");
+            }
+            return "saved";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("saved");
+        assertThat(conflicts("task.assign", "retried")).isEqualTo(2);
+    }
+
+    @Test
+    void run_ShouldReturnConflictWhenAttemptsExhausted() {
+        // When & Then
+        assertThatThrownBy(() -> conflictRetry.run("task.complete", () -> {
+            throw new OptimisticLockingFailureException("version mismatch");
+        })).isInstanceOf(ConflictException.class);
+        assertThat(conflicts("task.complete", "retried")).isEqualTo(2);
+        assertThat(conflicts("task.complete", "exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void run_ShouldNotRetryOtherFailures() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> conflictRetry.run("task.assign", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    private double conflicts(String operation, String outcome) {
+        var counter = meterRegistry.find("workspaceflow.optimistic.conflicts")
+                .tags("operation", operation, "outcome", outcome)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,58 @@
+package com.workspaceflow.service;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for DeadLetterFilter
+ */
+class DeadLetterFilterTest {
+
+    private static final LocalDateTime FAILED_AT = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    @Test
+    void originalTopic_ShouldStripRetryTopicSuffix() {
+        assertThat(DeadLetterFilter.originalTopic(record("audit.events-retry-60000", "k", null))).isEqualTo("audit.events");
+        assertThat(DeadLetterFilter.originalTopic(record("task.events", "k", null))).isEqualTo("task.events");
+    }
+
+    @Test
+    void matches_ShouldApplyEveryCriterion() {
+        // Given
+        ConsumerRecord<String, byte[]> record = record("task.events-retry-1000", "task-1",
+                "com.mongodb.MongoTimeoutException");
+
+        // When & Then
+        assertThat(new DeadLetterFilter(null, null, null, null, null).matches(record)).isTrue();
+        assertThat(new DeadLetterFilter("task.events", "task-1", FAILED_AT.minusHours(1), FAILED_AT.plusHours(1),
+                "MongoTimeoutException").matches(record)).isTrue();
+        assertThat(new DeadLetterFilter("audit.events", null, null, null, null).matches(record)).isFalse();
+        assertThat(new DeadLetterFilter(null, "task-2", null, null, null).matches(record)).isFalse();
+        assertThat(new DeadLetterFilter(null, null, FAILED_AT.plusSeconds(1), null, null).matches(record)).isFalse();
+        assertThat(new DeadLetterFilter(null, null, null, FAILED_AT, null).matches(record)).isFalse();
+        assertThat(new DeadLetterFilter(null, null, null, null, "TimeoutException").matches(record)).isFalse();
+    }
+
+    private static ConsumerRecord<String, byte[]> record(String originalTopic, String key, String causeClass) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, originalTopic.getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaHeaders.DLT_EXCEPTION_FQCN,
+                "org.springframework.kafka.listener.ListenerExecutionFailedException".getBytes(StandardCharsets.UTF_8));
+        if (causeClass != null) {
+            headers.add(KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN, causeClass.getBytes(StandardCharsets.UTF_8));
+        }
+        long timestamp = FAILED_AT.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new ConsumerRecord<>("deadletter.events", 0, 42L, timestamp, TimestampType.CREATE_TIME, -1, -1,
+                key, "{}".getBytes(StandardCharsets.UTF_8), headers, Optional.empty());
+    }
+}
@@ -0,0 +1,101 @@
+package com.workspaceflow.service;
+
+import com.mongodb.client.result.UpdateResult;
+import com.workspaceflow.event.EventProducer;
+import com.workspaceflow.event.NotificationEvent;
+import com.workspaceflow.exception.PublishCapacityExceededException;
+import com.workspaceflow.model.entity.Task;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DueTaskNotifier
+ */
+@ExtendWith(MockitoExtension.class)
+class DueTaskNotifierTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private EventProducer eventProducer;
+
+    @InjectMocks
+    private DueTaskNotifier dueTaskNotifier;
+
+    @Test
+    void notifyDueTasks_ShouldRemindAssigneeOrRole() {
+        // Given
+        Task assigned = task("task-1", "john.doe", "manager");
+        Task unassigned = task("task-2", null, "finance");
+        when(mongoTemplate.find(any(Query.class), eq(Task.class))).thenReturn(List.of(assigned, unassigned));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Task.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        // When
+        int notified = dueTaskNotifier.notifyDueTasks();
+
+        // Then
+        assertThat(notified).isEqualTo(2);
+        verify(eventProducer).publishNotification(NotificationEvent.TASK_DUE, "john.doe", "task-1",
+                "instance-1", "workflow-1", "Manager Approval");
+        verify(eventProducer).publishNotification(NotificationEvent.TASK_DUE, "role:finance", "task-2",
+                "instance-1", "workflow-1", "Manager Approval");
+    }
+
+    @Test
+    void notifyDueTasks_ShouldSkipTask_ClaimedByAnotherNode() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Task.class))).thenReturn(List.of(task("task-1", "john.doe", "manager")));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Task.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        // When
+        int notified = dueTaskNotifier.notifyDueTasks();
+
+        // Then
+        assertThat(notified).isZero();
+        verify(eventProducer, never()).publishNotification(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void notifyDueTasks_ShouldClaimNothing_WhenPublishingCapacityIsExhausted() {
+        // Given
+        doThrow(new PublishCapacityExceededException("Event publishing capacity exhausted"))
+                .when(eventProducer).ensurePublishCapacity();
+
+        // When
+        int notified = dueTaskNotifier.notifyDueTasks();
+
+        // Then
+        assertThat(notified).isZero();
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private static Task task(String id, String assignee, String role) {
+        return Task.builder()
+                .id(id)
+                .workflowInstanceId("instance-1")
+                .workflowId("workflow-1")
+                .name("Manager Approval")
+                .status(assignee != null ? Task.TaskStatus.ASSIGNED : Task.TaskStatus.CREATED)
+                .assignee(assignee)
+                .assigneeRole(role)
+                .dueAt(LocalDateTime.now().plusMinutes(30))
+                .build();
+    }
+}
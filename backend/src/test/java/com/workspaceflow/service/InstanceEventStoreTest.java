@@ -0,0 +1,170 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.model.entity.InstanceEvent;
+import com.workspaceflow.model.entity.InstanceSnapshot;
+import com.workspaceflow.model.entity.WorkflowInstance;
+import com.workspaceflow.repository.InstanceEventRepository;
+import com.workspaceflow.repository.InstanceSnapshotRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for InstanceEventStore
+ */
+@ExtendWith(MockitoExtension.class)
+class InstanceEventStoreTest {
+
+    private static final String INSTANCE_ID = "instance-1";
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Mock
+    private InstanceEventRepository eventRepository;
+
+    @Mock
+    private InstanceSnapshotRepository snapshotRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private InstanceEventStore instanceEventStore;
+
+    @Test
+    void append_ShouldInsertNextSequenceAndProjectState() {
+        // Given
+        WorkflowInstance current = InstanceEventStore.apply(null, started());
+
+        // When
+        WorkflowInstance completed = instanceEventStore.append(current, InstanceEvent.Type.COMPLETED, "john.doe", null);
+
+        // Then
+        ArgumentCaptor<InstanceEvent> captor = ArgumentCaptor.forClass(InstanceEvent.class);
+        verify(eventRepository).insert(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo("instance-1:2");
+        assertThat(captor.getValue().getSequence()).isEqualTo(2);
+        assertThat(completed.getStatus()).isEqualTo(WorkflowInstance.WorkflowStatus.COMPLETED);
+        assertThat(completed.getVersion()).isEqualTo(2);
+        assertThat(current.getStatus()).isEqualTo(WorkflowInstance.WorkflowStatus.STARTED);
+        verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq(WorkflowInstance.class));
+        verify(snapshotRepository, never()).save(any());
+    }
+
+    @Test
+    void append_ShouldReportConflict_WhenSequenceIsAlreadyTaken() {
+        // Given
+        WorkflowInstance current = InstanceEventStore.apply(null, started());
+        when(eventRepository.insert(any(InstanceEvent.class))).thenThrow(new DuplicateKeyException("E11000"));
+
+        // When & Then
+        assertThatThrownBy(() -> instanceEventStore.append(current, InstanceEvent.Type.COMPLETED, null, null))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void append_ShouldTakeSnapshot_EverySnapshotInterval() {
+        // Given
+        ReflectionTestUtils.setField(instanceEventStore, "snapshotEvery", 2);
+        WorkflowInstance current = InstanceEventStore.apply(null, started());
+
+        // When
+        instanceEventStore.append(current, InstanceEvent.Type.COMPLETED, null, null);
+
+        // Then
+        ArgumentCaptor<InstanceSnapshot> captor = ArgumentCaptor.forClass(InstanceSnapshot.class);
+        verify(snapshotRepository).save(captor.capture());
+        assertThat(captor.getValue().getSequence()).isEqualTo(2);
+        assertThat(captor.getValue().getState().getStatus()).isEqualTo(WorkflowInstance.WorkflowStatus.COMPLETED);
+    }
+
+    @Test
+    void load_ShouldReplayOnlyEventsAfterSnapshot() {
+        // Given
+        WorkflowInstance snapshotState = InstanceEventStore.apply(null, started());
+        snapshotState.setVersion(50L);
+        when(snapshotRepository.findById(INSTANCE_ID)).thenReturn(Optional.of(InstanceSnapshot.builder()
+                .id(INSTANCE_ID)
+                .sequence(50)
+                .state(snapshotState)
+                .build()));
+        when(eventRepository.findByInstanceIdAndSequenceGreaterThanOrderBySequenceAsc(INSTANCE_ID, 50))
+                .thenReturn(List.of(event(51, InstanceEvent.Type.COMPLETED, Map.of())));
+
+        // When
+        Optional<WorkflowInstance> state = instanceEventStore.load(INSTANCE_ID);
+
+        // Then
+        assertThat(state).isPresent();
+        assertThat(state.get().getStatus()).isEqualTo(WorkflowInstance.WorkflowStatus.COMPLETED);
+        assertThat(state.get().getVersion()).isEqualTo(51);
+        assertThat(state.get().getWorkflowName()).isEqualTo("Purchase Approval");
+    }
+
+    @Test
+    void loadAt_ShouldFoldEventsUpToTheRequestedTime() {
+        // Given: completed later, after the requested time
+        LocalDateTime at = STARTED_AT.plusSeconds(30);
+        when(eventRepository.findByInstanceIdAndTimestampLessThanEqualOrderBySequenceAsc(INSTANCE_ID, at))
+                .thenReturn(List.of(started()));
+
+        // When
+        Optional<WorkflowInstance> state = instanceEventStore.loadAt(INSTANCE_ID, at);
+
+        // Then
+        assertThat(state).isPresent();
+        assertThat(state.get().getStatus()).isEqualTo(WorkflowInstance.WorkflowStatus.STARTED);
+        assertThat(state.get().getCompletedAt()).isNull();
+        assertThat(state.get().getVariables()).containsEntry("amount", 1200);
+        assertThat(state.get().getStartedAt()).isEqualTo(STARTED_AT);
+        assertThat(state.get().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void apply_ShouldRejectHistoryNotStartingWithStarted() {
+        // When & Then
+        assertThatThrownBy(() -> InstanceEventStore.apply(null, event(1, InstanceEvent.Type.COMPLETED, Map.of())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static InstanceEvent started() {
+        InstanceEvent event = event(1, InstanceEvent.Type.STARTED, Map.of(
+                InstanceEvent.WORKFLOW_ID, "workflow-1",
+                InstanceEvent.WORKFLOW_NAME, "Purchase Approval",
+                InstanceEvent.VARIABLES, Map.of("amount", 1200)));
+        event.setTimestamp(STARTED_AT);
+        return event;
+    }
+
+    private static InstanceEvent event(long sequence, InstanceEvent.Type type, Map<String, Object> data) {
+        return InstanceEvent.builder()
+                .id(InstanceEvent.idOf(INSTANCE_ID, sequence))
+                .instanceId(INSTANCE_ID)
+                .sequence(sequence)
+                .type(type)
+                .timestamp(STARTED_AT.plusMinutes(sequence))
+                .actor("admin")
+                .data(data)
+                .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.event.NotificationEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for NotificationDigester
+ */
+class NotificationDigesterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(5);
+
+    private final LocalNotificationChannel localChannel = new LocalNotificationChannel();
+
+    @Test
+    void flush_ShouldCoalesceNotificationsOfRecipientIntoOneDigest() {
+        // Given
+        NotificationDigester digester = digester(List.of(localChannel), 100, 50_000);
+        List<CompletableFuture<Void>> acks = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            acks.add(digester.add(notification(NotificationEvent.TASK_ASSIGNED, "john.doe", "task-" + i)));
+        }
+        acks.add(digester.add(notification(NotificationEvent.TASK_DUE, "john.doe", "task-0")));
+
+        // When
+        int digests = digester.flush(LocalDateTime.now().plus(WINDOW));
+
+        // Then
+        assertThat(digests).isEqualTo(1);
+        List<NotificationDigest> delivered = localChannel.delivered("john.doe");
+        assertThat(delivered).hasSize(1);
+        assertThat(delivered.get(0).notifications()).hasSize(10_001);
+        assertThat(delivered.get(0).countsByType())
+                .containsEntry(NotificationEvent.TASK_ASSIGNED, 10_000L)
+                .containsEntry(NotificationEvent.TASK_DUE, 1L);
+        assertThat(acks).allMatch(ack -> ack.isDone() && !ack.isCompletedExceptionally());
+        assertThat(digester.pendingCount()).isZero();
+    }
+
+    @Test
+    void flush_ShouldKeepWindowOpen_UntilItCloses() {
+        // Given
+        NotificationDigester digester = digester(List.of(localChannel), 100, 50_000);
+        CompletableFuture<Void> ack = digester.add(notification(NotificationEvent.TASK_ASSIGNED, "john.doe", "task-1"));
+
+        // When
+        int digests = digester.flush(LocalDateTime.now().plusMinutes(1));
+
+        // Then
+        assertThat(digests).isZero();
+        assertThat(ack).isNotDone();
+        assertThat(localChannel.delivered("john.doe")).isEmpty();
+        assertThat(digester.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_ShouldDeliverDigestsInBatches() {
+        // Given
+        RecordingChannel channel = new RecordingChannel();
+        NotificationDigester digester = digester(List.of(channel), 2, 50_000);
+        for (String recipient : List.of("alice", "bob", "carol", "dave", "erin")) {
+            digester.add(notification(NotificationEvent.TASK_ASSIGNED, recipient, "task-1"));
+        }
+
+        // When
+        digester.flush(LocalDateTime.now().plus(WINDOW));
+
+        // Then
+        assertThat(channel.batches).extracting(List::size).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void flush_ShouldDeliverOldestWindowsEarly_WhenTooManyArePending() {
+        // Given
+        NotificationDigester digester = digester(List.of(localChannel), 100, 2);
+        digester.add(notification(NotificationEvent.TASK_ASSIGNED, "alice", "task-1"));
+        digester.add(notification(NotificationEvent.TASK_ASSIGNED, "alice", "task-2"));
+        digester.add(notification(NotificationEvent.TASK_ASSIGNED, "bob", "task-3"));
+
+        // When
+        int digests = digester.flush(LocalDateTime.now());
+
+        // Then
+        assertThat(digests).isEqualTo(1);
+        assertThat(localChannel.delivered("alice")).hasSize(1);
+        assertThat(digester.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_ShouldFailAcks_WhenChannelFails() {
+        // Given
+        RecordingChannel channel = new RecordingChannel();
+        channel.failure = new IllegalStateException("mail server down");
+        NotificationDigester digester = digester(List.of(channel), 100, 50_000);
+        CompletableFuture<Void> ack = digester.add(notification(NotificationEvent.INSTANCE_COMPLETED, "john.doe", null));
+
+        // When
+        digester.flush(LocalDateTime.now().plus(WINDOW));
+
+        // Then
+        assertThat(ack).isCompletedExceptionally();
+        assertThat(digester.pendingCount()).isZero();
+    }
+
+    @Test
+    void constructor_ShouldRejectUnknownChannel() {
+        // When & Then
+        assertThatThrownBy(() -> new NotificationDigester(List.of(localChannel), List.of("local", "sms"),
+                WINDOW, Duration.ofSeconds(5), 100, 1000, 50_000, new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("sms");
+    }
+
+    private static NotificationDigester digester(List<NotificationChannel> channels, int batchSize, int maxPending) {
+        return new NotificationDigester(channels, channels.stream().map(NotificationChannel::name).toList(),
+                WINDOW, Duration.ofSeconds(5), batchSize, 1_000_000, maxPending, new SimpleMeterRegistry());
+    }
+
+    private static NotificationEvent notification(String type, String recipient, String taskId) {
+        return NotificationEvent.builder()
+                .type(type)
+                .recipient(recipient)
+                .taskId(taskId)
+                .instanceId("instance-1")
+                .workflowId("workflow-1")
+                .subject("Manager Approval")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private static class RecordingChannel implements NotificationChannel {
+
+        private final List<List<NotificationDigest>> batches = new CopyOnWriteArrayList<>();
+        private RuntimeException failure;
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void deliver(List<NotificationDigest> digests) {
+            if (failure != null) {
+                throw failure;
+            }
+            batches.add(List.copyOf(digests));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.workspaceflow.service;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.workspaceflow.model.entity.StatusCounter;
+import com.workspaceflow.model.entity.StatusCounter.CounterKind;
+import com.workspaceflow.repository.StatusCounterRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for StatusCounterService
+ */
+@ExtendWith(MockitoExtension.class)
+class StatusCounterServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private StatusCounterRepository counterRepository;
+
+    @Mock
+    private BulkOperations bulk;
+
+    @InjectMocks
+    private StatusCounterService counterService;
+
+    @Test
+    void reconcile_ShouldOnlyCorrectCountersThatKeptTheirValueDuringTheAggregation() {
+        // Given
+        when(counterRepository.findAll()).thenReturn(List.of(
+                counter(CounterKind.TASK, "COMPLETED", 5),
+                counter(CounterKind.TASK, "PENDING", 3),
+                counter(CounterKind.TASK, "REJECTED", 2)));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("workflow_instances"), eq(Document.class)))
+                .thenReturn(results(row("RUNNING", 4)));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("tasks"), eq(Document.class)))
+                .thenReturn(results(row("COMPLETED", 7), row("PENDING", 3)));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatusCounter.class)).thenReturn(bulk);
+        when(bulk.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 1, 1, List.of(), List.of()));
+
+        // When
+        counterService.reconcile();
+
+        // Then
+        ArgumentCaptor<Query> corrected = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> correction = ArgumentCaptor.forClass(Update.class);
+        verify(bulk).updateOne(corrected.capture(), correction.capture());
+        assertThat(corrected.getValue().getQueryObject())
+                .containsEntry("_id", "TASK:workflow-1:COMPLETED")
+                .containsEntry("count", 5L);
+        assertThat(correction.getValue().getUpdateObject().get("$set", Document.class)).containsEntry("count", 7L);
+
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        verify(bulk).remove(removed.capture());
+        assertThat(removed.getValue().getQueryObject())
+                .containsEntry("_id", "TASK:workflow-1:REJECTED")
+                .containsEntry("count", 2L);
+
+        ArgumentCaptor<Update> created = ArgumentCaptor.forClass(Update.class);
+        verify(bulk).upsert(any(Query.class), created.capture());
+        assertThat(created.getValue().getUpdateObject()).containsOnlyKeys("$setOnInsert");
+        verify(bulk).execute();
+    }
+
+    @Test
+    void reconcile_ShouldNotWriteWhenNoCounterDrifted() {
+        // Given
+        when(counterRepository.findAll()).thenReturn(List.of(counter(CounterKind.TASK, "PENDING", 3)));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("workflow_instances"), eq(Document.class)))
+                .thenReturn(results());
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("tasks"), eq(Document.class)))
+                .thenReturn(results(row("PENDING", 3)));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StatusCounter.class)).thenReturn(bulk);
+
+        // When
+        counterService.reconcile();
+
+        // Then
+        verify(bulk, never()).execute();
+    }
+
+    private static StatusCounter counter(CounterKind kind, String status, long count) {
+        return StatusCounter.builder()
+                .id(StatusCounter.idOf(kind, "workflow-1", status))
+                .kind(kind)
+                .workflowId("workflow-1")
+                .status(status)
+                .count(count)
+                .build();
+    }
+
+    private static Document row(String status, int count) {
+        return new Document("_id", new Document("workflowId", "workflow-1").append("status", status))
+                .append("count", count);
+    }
+
+    private static AggregationResults<Document> results(Document... rows) {
+        return new AggregationResults<>(List.of(rows), new Document());
+    }
+}
@@ -0,0 +1,102 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.model.dto.StepDurationStatsResponse;
+import com.workspaceflow.model.dto.StepDurationStatsResponse.Percentiles;
+import com.workspaceflow.model.entity.StepDurationBucket;
+import com.workspaceflow.model.entity.StepDurationBucket.StepHistogram;
+import com.workspaceflow.repository.StepDurationBucketRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StepAnalyticsService
+ */
+@ExtendWith(MockitoExtension.class)
+class StepAnalyticsServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private StepDurationBucketRepository bucketRepository;
+
+    @InjectMocks
+    private StepAnalyticsService stepAnalyticsService;
+
+    @Test
+    void getStepDurations_ShouldMergeCachedClosedBucketsWithoutAggregating() {
+        // Given
+        LocalDate day1 = LocalDate.of(2024, 3, 1);
+        LocalDate day2 = day1.plusDays(1);
+        String bin = Integer.toString(StepAnalyticsService.binOf(60_000));
+        when(bucketRepository.findAllById(List.of("2024-03-01", "2024-03-02"))).thenReturn(List.of(
+                bucket(day1, Map.of(bin, 3L)),
+                bucket(day2, Map.of(bin, 7L))));
+
+        // When
+        StepDurationStatsResponse result = stepAnalyticsService.getStepDurations("wf-1", day1, day2);
+
+        // Then
+        assertThat(result.getSteps()).hasSize(1);
+        Percentiles wait = result.getSteps().get(0).getWaitTime();
+        assertThat(wait.getCount()).isEqualTo(10);
+        assertThat((double) wait.getP50()).isCloseTo(60_000, within(60_000 * 0.05));
+        assertThat(result.getSteps().get(0).getWorkTime().getCount()).isZero();
+        verify(bucketRepository, never()).save(any());
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void getStepDurations_ShouldRejectReversedRange() {
+        // When & Then
+        assertThatThrownBy(() -> stepAnalyticsService.getStepDurations(null,
+                LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void percentiles_ShouldStayWithinBinError() {
+        // Given
+        TreeMap<Integer, Long> bins = new TreeMap<>();
+        for (long millis = 1; millis <= 1000; millis++) {
+            bins.merge(StepAnalyticsService.binOf(millis * 100), 1L, Long::sum);
+        }
+
+        // When
+        Percentiles result = StepAnalyticsService.percentiles(bins);
+
+        // Then
+        assertThat(result.getCount()).isEqualTo(1000);
+        assertThat((double) result.getP50()).isCloseTo(50_000, within(50_000 * 0.05));
+        assertThat((double) result.getP90()).isCloseTo(90_000, within(90_000 * 0.05));
+        assertThat((double) result.getP99()).isCloseTo(99_000, within(99_000 * 0.05));
+    }
+
+    private StepDurationBucket bucket(LocalDate day, Map<String, Long> wait) {
+        return StepDurationBucket.builder()
+                .id(day.toString())
+                .bucketStart(day.atStartOfDay())
+                .bucketEnd(day.plusDays(1).atStartOfDay())
+                .steps(List.of(StepHistogram.builder()
+                        .workflowId("wf-1")
+                        .stepId("review")
+                        .wait(wait)
+                        .work(Map.of())
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.workspaceflow.service;
+
+import com.workspaceflow.model.dto.InstanceEtaResponse;
+import com.workspaceflow.model.dto.StepDurationStatsResponse;
+import com.workspaceflow.model.entity.Task;
+import com.workspaceflow.model.entity.WorkflowDefinition;
+import com.workspaceflow.model.entity.WorkflowInstance;
+import com.workspaceflow.repository.TaskRepository;
+import com.workspaceflow.repository.WorkflowDefinitionRepository;
+import com.workspaceflow.repository.WorkflowInstanceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StepSketchService
+ */
+@ExtendWith(MockitoExtension.class)
+class StepSketchServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private WorkflowInstanceRepository instanceRepository;
+
+    @Mock
+    private WorkflowDefinitionRepository workflowRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private StepSketchService stepSketchService;
+
+    @Test
+    void record_ShouldUpdateLiveStatsWithoutDatabaseAccess() {
+        // Given
+        for (long i = 1; i <= 100; i++) {
+            stepSketchService.record("wf-1", "review", i * 1_000, 60_000L);
+        }
+        stepSketchService.record("wf-2", "approve", 5_000L, null);
+
+        // When
+        StepDurationStatsResponse result = stepSketchService.getLiveStats("wf-1");
+
+        // Then
+        assertThat(result.getSteps()).hasSize(1);
+        StepDurationStatsResponse.StepStats review = result.getSteps().get(0);
+        assertThat(review.getWaitTime().getCount()).isEqualTo(100);
+        assertThat((double) review.getWaitTime().getP90()).isCloseTo(90_000, within(90_000 * 0.05));
+        assertThat((double) review.getWorkTime().getP50()).isCloseTo(60_000, within(60_000 * 0.05));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void estimateCompletion_ShouldSumMediansOfRemainingSteps() {
+        // Given
+        WorkflowInstance instance = WorkflowInstance.builder()
+                .id("instance-1")
+                .workflowId("wf-1")
+                .status(WorkflowInstance.WorkflowStatus.STARTED)
+                .build();
+        WorkflowDefinition workflow = WorkflowDefinition.builder()
+                .id("wf-1")
+                .steps(List.of(
+                        WorkflowDefinition.StepDefinition.builder().stepId("submit").order(1).build(),
+                        WorkflowDefinition.StepDefinition.builder().stepId("review").order(2).build(),
+                        WorkflowDefinition.StepDefinition.builder().stepId("approve").order(3).build()))
+                .build();
+        Task openTask = Task.builder()
+                .stepId("review")
+                .status(Task.TaskStatus.CREATED)
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(instanceRepository.findById("instance-1")).thenReturn(Optional.of(instance));
+        when(workflowRepository.findById("wf-1")).thenReturn(Optional.of(workflow));
+        when(taskRepository.findByWorkflowInstanceId("instance-1")).thenReturn(List.of(openTask));
+        stepSketchService.record("wf-1", "submit", 1_000_000L, 1_000_000L);
+        stepSketchService.record("wf-1", "review", 600_000L, 600_000L);
+        stepSketchService.record("wf-1", "approve", 300_000L, 300_000L);
+
+        // When
+        InstanceEtaResponse result = stepSketchService.estimateCompletion("instance-1");
+
+        // Then
+        assertThat(result.getCurrentStepId()).isEqualTo("review");
+        assertThat((double) result.getRemainingMillis()).isCloseTo(1_800_000, within(1_800_000 * 0.05));
+        assertThat(result.getMinSamples()).isEqualTo(1);
+    }
+
+    @Test
+    void durationSketch_ShouldMergeAndRoundTripThroughBins() {
+        // Given
+        DurationSketch node1 = new DurationSketch();
+        DurationSketch node2 = new DurationSketch();
+        node1.record(1_000);
+        node2.record(1_000);
+        node2.record(Long.MAX_VALUE);
+
+        // When
+        node1.merge(DurationSketch.fromBins(node2.toBins()));
+
+        // Then
+        assertThat(node1.count()).isEqualTo(3);
+        assertThat(node1.toBins()).hasSize(2);
+        assertThat(node1.toBins()).containsKey(Integer.toString(DurationSketch.MAX_BIN));
+    }
+}
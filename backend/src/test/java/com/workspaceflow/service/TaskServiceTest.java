@@ -1,9 +1,13 @@
 package com.workspaceflow.service;
 
 import com.workspaceflow.event.EventProducer;
+import com.workspaceflow.event.NotificationEvent;
+import com.workspaceflow.exception.ConflictException;
+import com.workspaceflow.exception.PublishCapacityExceededException;
 import com.workspaceflow.mapper.InstanceMapper;
 import com.workspaceflow.model.dto.CompleteTaskRequest;
 import com.workspaceflow.model.dto.TaskResponse;
+import com.workspaceflow.model.entity.InstanceEvent;
 import com.workspaceflow.model.entity.Task;
 import com.workspaceflow.model.entity.WorkflowInstance;
 import com.workspaceflow.repository.TaskRepository;
@@ -14,12 +18,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -44,6 +50,15 @@ class TaskServiceTest {
     @Mock
     private EventProducer eventProducer;
 
+    @Mock
+    private StatusCounterService counterService;
+
+    @Mock
+    private ConflictRetry conflictRetry;
+
+    @Mock
+    private InstanceEventStore instanceEventStore;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -63,6 +78,9 @@ class TaskServiceTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
+        lenient().when(conflictRetry.run(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
         testTaskResponse = TaskResponse.builder()
                 .id("task-123")
                 .name("Test Task")
@@ -94,7 +112,7 @@ class TaskServiceTest {
         when(instanceMapper.toTaskResponse(testTask)).thenReturn(testTaskResponse);
 
         // When
-        TaskResponse result = taskService.getTaskById("task-123");
+        TaskResponse result = taskService.getTaskById("task-123", null);
 
         // Then
         assertThat(result).isNotNull();
@@ -108,7 +126,7 @@ class TaskServiceTest {
         when(taskRepository.findById("non-existent")).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> taskService.getTaskById("non-existent"))
+        assertThatThrownBy(() -> taskService.getTaskById("non-existent", null))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Task not found");
     }
@@ -116,23 +134,32 @@ class TaskServiceTest {
     @Test
     void assignTask_ShouldAssignTaskToUser() {
         // Given
-        when(taskRepository.findById("task-123")).thenReturn(Optional.of(testTask));
+        when(taskRepository.findByIdAndWorkflowInstanceId("task-123", "instance-456")).thenReturn(Optional.of(testTask));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
         when(instanceMapper.toTaskResponse(any(Task.class))).thenReturn(testTaskResponse);
 
         // When
-        TaskResponse result = taskService.assignTask("task-123", "john.doe");
+        TaskResponse result = taskService.assignTask("task-123", "instance-456", "john.doe");
 
         // Then
         assertThat(result).isNotNull();
+        verify(taskRepository, never()).findById(anyString());
         verify(taskRepository).save(argThat(task -> task.getAssignee().equals("john.doe") &&
                 task.getStatus() == Task.TaskStatus.ASSIGNED));
+        verify(counterService).transition(any(), any(), eq(Task.TaskStatus.CREATED), eq(Task.TaskStatus.ASSIGNED));
         verify(eventProducer).publishTaskEvent(
                 anyString(),
                 eq("task-123"),
                 eq("john.doe"),
                 eq("instance-456"),
                 anyMap());
+        verify(eventProducer).publishNotification(
+                eq(NotificationEvent.TASK_ASSIGNED),
+                eq("john.doe"),
+                eq("task-123"),
+                eq("instance-456"),
+                any(),
+                any());
     }
 
     @Test
@@ -152,7 +179,7 @@ class TaskServiceTest {
         when(taskRepository.findByWorkflowInstanceId("instance-456")).thenReturn(List.of(testTask));
 
         // When
-        TaskResponse result = taskService.completeTask("task-123", request);
+        TaskResponse result = taskService.completeTask("task-123", null, request);
 
         // Then
         assertThat(result).isNotNull();
@@ -169,7 +196,7 @@ class TaskServiceTest {
     @Test
     void completeTask_ShouldCompleteWorkflow_WhenAllTasksCompleted() {
         // Given
-        testTask.setStatus(Task.TaskStatus.COMPLETED);
+        testTask.setStatus(Task.TaskStatus.ASSIGNED);
 
         CompleteTaskRequest request = CompleteTaskRequest.builder()
                 .completedBy("john.doe")
@@ -189,7 +216,7 @@ class TaskServiceTest {
         when(instanceRepository.findById("instance-456")).thenReturn(Optional.of(instance));
 
         // When
-        taskService.completeTask("task-123", request);
+        taskService.completeTask("task-123", null, request);
 
         // Then
         verify(instanceRepository).save(argThat(inst -> inst.getStatus() == WorkflowInstance.WorkflowStatus.COMPLETED));
@@ -200,6 +227,47 @@ class TaskServiceTest {
                 anyMap());
     }
 
+    @Test
+    void completeTask_ShouldAppendCompletedEvent_WhenInstanceIsEventSourced() {
+        // Given
+        testTask.setStatus(Task.TaskStatus.ASSIGNED);
+        WorkflowInstance current = WorkflowInstance.builder()
+                .id("instance-456")
+                .version(3L)
+                .workflowId("workflow-123")
+                .workflowName("Test Workflow")
+                .status(WorkflowInstance.WorkflowStatus.IN_PROGRESS)
+                .build();
+        WorkflowInstance completed = WorkflowInstance.builder()
+                .id("instance-456")
+                .version(4L)
+                .workflowId("workflow-123")
+                .workflowName("Test Workflow")
+                .status(WorkflowInstance.WorkflowStatus.COMPLETED)
+                .build();
+
+        when(taskRepository.findById("task-123")).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        when(instanceMapper.toTaskResponse(any(Task.class))).thenReturn(testTaskResponse);
+        when(taskRepository.findByWorkflowInstanceId("instance-456")).thenReturn(List.of(testTask));
+        when(instanceEventStore.isEnabled()).thenReturn(true);
+        when(instanceEventStore.load("instance-456")).thenReturn(Optional.of(current));
+        when(instanceEventStore.append(current, InstanceEvent.Type.COMPLETED, null, null)).thenReturn(completed);
+
+        // When
+        taskService.completeTask("task-123", null, CompleteTaskRequest.builder().completedBy("john.doe").build());
+
+        // Then: no in-place update of the instance document
+        verify(instanceRepository, never()).save(any(WorkflowInstance.class));
+        verify(counterService).transition(any(), eq("workflow-123"),
+                eq(WorkflowInstance.WorkflowStatus.IN_PROGRESS), eq(WorkflowInstance.WorkflowStatus.COMPLETED));
+        verify(eventProducer).publishWorkflowEvent(
+                eq("INSTANCE_COMPLETED"),
+                eq("workflow-123"),
+                eq("instance-456"),
+                anyMap());
+    }
+
     @Test
     void getTasksByAssignee_ShouldReturnTasksForAssignee() {
         // Given
@@ -215,4 +283,104 @@ class TaskServiceTest {
         assertThat(result).hasSize(1);
         verify(taskRepository).findByAssignee("john.doe");
     }
+
+    @Test
+    void assignTask_ShouldRejectCompletedTask() {
+        // Given
+        testTask.setStatus(Task.TaskStatus.COMPLETED);
+        when(taskRepository.findById("task-123")).thenReturn(Optional.of(testTask));
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.assignTask("task-123", null, "john.doe"))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("can no longer be assigned");
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void assignTask_ShouldRejectConflict_WhenTaskWasConcurrentlyAssignedToSomeoneElse() {
+        // Given
+        Task concurrentlyAssigned = Task.builder()
+                .id("task-123")
+                .workflowInstanceId("instance-456")
+                .status(Task.TaskStatus.ASSIGNED)
+                .assignee("jane.doe")
+                .build();
+        when(taskRepository.findByIdAndWorkflowInstanceId("task-123", "instance-456"))
+                .thenReturn(Optional.of(testTask), Optional.of(concurrentlyAssigned));
+        when(taskRepository.save(any(Task.class))).thenThrow(new OptimisticLockingFailureException("version changed"));
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.assignTask("task-123", "instance-456", "john.doe"))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("jane.doe");
+        verify(eventProducer, never()).publishTaskEvent(anyString(), anyString(), anyString(), anyString(), anyMap());
+    }
+
+    @Test
+    void assignTask_ShouldRethrowForRetry_WhenConflictWasNotAnAssignment() {
+        // Given
+        when(taskRepository.findByIdAndWorkflowInstanceId("task-123", "instance-456")).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenThrow(new OptimisticLockingFailureException("version changed"));
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.assignTask("task-123", "instance-456", "john.doe"))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void completeTask_ShouldReturnCompletedTask_WhenInstanceCompletionFails() {
+        // Given
+        testTask.setStatus(Task.TaskStatus.ASSIGNED);
+        CompleteTaskRequest request = CompleteTaskRequest.builder().completedBy("john.doe").build();
+        when(taskRepository.findById("task-123")).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        when(instanceMapper.toTaskResponse(any(Task.class))).thenReturn(testTaskResponse);
+        when(taskRepository.findByWorkflowInstanceId("instance-456")).thenReturn(List.of(testTask));
+        when(conflictRetry.run(eq("instance.complete"), any()))
+                .thenThrow(new ConflictException("Conflicting update in instance.complete after 3 attempts"));
+
+        // When
+        TaskResponse result = taskService.completeTask("task-123", null, request);
+
+        // Then
+        assertThat(result).isEqualTo(testTaskResponse);
+        verify(eventProducer, never()).publishWorkflowEvent(anyString(), anyString(), anyString(), anyMap());
+    }
+
+    @Test
+    void reconcileInstanceCompletion_ShouldCompleteInstancesOfRecentlyCompletedTasks() {
+        // Given
+        testTask.setStatus(Task.TaskStatus.COMPLETED);
+        WorkflowInstance instance = WorkflowInstance.builder()
+                .id("instance-456")
+                .workflowId("workflow-123")
+                .workflowName("Test Workflow")
+                .status(WorkflowInstance.WorkflowStatus.IN_PROGRESS)
+                .build();
+        when(taskRepository.findByStatusAndCompletedAtAfter(eq(Task.TaskStatus.COMPLETED), any(LocalDateTime.class)))
+                .thenReturn(List.of(testTask, testTask));
+        when(taskRepository.findByWorkflowInstanceId("instance-456")).thenReturn(List.of(testTask));
+        when(instanceRepository.findById("instance-456")).thenReturn(Optional.of(instance));
+
+        // When
+        taskService.reconcileInstanceCompletion();
+
+        // Then
+        verify(instanceRepository).save(argThat(inst -> inst.getStatus() == WorkflowInstance.WorkflowStatus.COMPLETED));
+        verify(eventProducer).publishWorkflowEvent(eq("INSTANCE_COMPLETED"), any(), eq("instance-456"), anyMap());
+    }
+
+    @Test
+    void completeTask_ShouldRejectBeforeWriting_WhenPublishingCapacityIsExhausted() {
+        // Given
+        doThrow(new PublishCapacityExceededException("Event publishing capacity exhausted"))
+                .when(eventProducer).ensurePublishCapacity();
+        CompleteTaskRequest request = CompleteTaskRequest.builder().completedBy("john.doe").build();
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.completeTask("task-123", "instance-456", request))
+                .isInstanceOf(PublishCapacityExceededException.class);
+        verifyNoInteractions(taskRepository, counterService);
+    }
 }
@@ -1,6 +1,7 @@
 package com.workspaceflow.service;
 
 import com.workspaceflow.event.EventProducer;
+import com.workspaceflow.event.TaskEvent;
 import com.workspaceflow.mapper.InstanceMapper;
 import com.workspaceflow.mapper.WorkflowMapper;
 import com.workspaceflow.model.dto.CreateWorkflowRequest;
@@ -57,6 +58,12 @@ class WorkflowServiceTest {
     @Mock
     private EventProducer eventProducer;
 
+    @Mock
+    private StatusCounterService counterService;
+
+    @Mock
+    private InstanceEventStore instanceEventStore;
+
     @InjectMocks
     private WorkflowService workflowService;
 
@@ -215,6 +222,41 @@ class WorkflowServiceTest {
                 eq("workflow-123"),
                 eq("instance-456"),
                 anyMap());
+        verify(eventProducer).publishTaskEvent(
+                eq(TaskEvent.TASK_CREATED),
+                any(),
+                isNull(),
+                eq("instance-456"),
+                argThat(payload -> "workflow-123".equals(payload.get(TaskEvent.WORKFLOW_ID))
+                        && "manager".equals(payload.get(TaskEvent.ASSIGNEE_ROLE))));
+    }
+
+    @Test
+    void startWorkflow_ShouldSetTaskDueDate_FromStepDueIn() {
+        // Given
+        testWorkflow.getSteps().get(0).setDueIn("PT4H");
+        StartWorkflowRequest startRequest = StartWorkflowRequest.builder()
+                .workflowId("workflow-123")
+                .startedBy("john.doe")
+                .variables(new HashMap<>())
+                .build();
+        WorkflowInstance instance = WorkflowInstance.builder()
+                .id("instance-456")
+                .workflowId("workflow-123")
+                .workflowName("Test Workflow")
+                .status(WorkflowInstance.WorkflowStatus.STARTED)
+                .startedBy("john.doe")
+                .build();
+
+        when(workflowRepository.findById("workflow-123")).thenReturn(Optional.of(testWorkflow));
+        when(instanceRepository.save(any(WorkflowInstance.class))).thenReturn(instance);
+
+        // When
+        workflowService.startWorkflow(startRequest);
+
+        // Then
+        verify(taskRepository).save(argThat(task -> task.getDueAt() != null
+                && task.getDueAt().equals(task.getCreatedAt().plusHours(4))));
     }
 
     @Test
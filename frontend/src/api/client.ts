@@ -1,4 +1,5 @@
 import axios from 'axios';
+import { TaskSearchParams } from '../types';
 
 const API_BASE_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080/api';
 
@@ -16,16 +17,34 @@ export const workflowApi = {
     createWorkflow: (data: any) => apiClient.post('/workflows', data),
     startWorkflow: (data: any) => apiClient.post('/workflows/start', data),
     getAllInstances: () => apiClient.get('/workflows/instances'),
+    getRecentInstances: (limit = 5) => apiClient.get(`/workflows/instances/recent?limit=${limit}`),
     getInstanceById: (id: string) => apiClient.get(`/workflows/instances/${id}`),
 };
 
 // Task API
 export const taskApi = {
     getAllTasks: () => apiClient.get('/tasks'),
-    getTaskById: (id: string) => apiClient.get(`/tasks/${id}`),
+    getPendingTasks: (limit = 5) => apiClient.get(`/tasks/pending?limit=${limit}`),
+    searchTasks: (params: TaskSearchParams) =>
+        apiClient.get('/tasks/search', { params, paramsSerializer: { indexes: null } }),
+    // instanceId routes the lookup to the shard holding the task
+    getTaskById: (id: string, instanceId?: string) => apiClient.get(`/tasks/${id}`, { params: { instanceId } }),
     getTasksByAssignee: (assignee: string) => apiClient.get(`/tasks/assignee/${assignee}`),
-    assignTask: (id: string, assignee: string) => apiClient.put(`/tasks/${id}/assign?assignee=${assignee}`),
-    completeTask: (id: string, data: any) => apiClient.put(`/tasks/${id}/complete`, data),
+    assignTask: (id: string, assignee: string, instanceId?: string) =>
+        apiClient.put(`/tasks/${id}/assign`, null, { params: { assignee, instanceId } }),
+    completeTask: (id: string, data: any, instanceId?: string) =>
+        apiClient.put(`/tasks/${id}/complete`, data, { params: { instanceId } }),
+};
+
+// Stats API
+export const statsApi = {
+    getStats: (workflowId?: string) => apiClient.get('/stats', { params: { workflowId } }),
+};
+
+// Analytics API
+export const analyticsApi = {
+    getStepDurations: (params: { workflowId?: string; from?: string; to?: string } = {}) =>
+        apiClient.get('/analytics/steps', { params }),
 };
 
 export default apiClient;
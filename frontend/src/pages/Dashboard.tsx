@@ -1,11 +1,17 @@
 import { useEffect, useState } from 'react';
 import { Link } from 'react-router-dom';
-import { workflowApi, taskApi } from '../api/client';
-import { WorkflowInstance, Task } from '../types';
+import { workflowApi, taskApi, statsApi } from '../api/client';
+import { WorkflowInstance, Task, Stats } from '../types';
+
+const sum = (counts: Record<string, number>, statuses?: string[]) =>
+    Object.entries(counts)
+        .filter(([status]) => !statuses || statuses.includes(status))
+        .reduce((total, [, count]) => total + count, 0);
 
 export default function Dashboard() {
     const [instances, setInstances] = useState<WorkflowInstance[]>([]);
-    const [tasks, setTasks] = useState<Task[]>([]);
+    const [pendingTasks, setPendingTasks] = useState<Task[]>([]);
+    const [stats, setStats] = useState<Stats>({ instancesByStatus: {}, tasksByStatus: {} });
     const [loading, setLoading] = useState(true);
 
     useEffect(() => {
@@ -14,12 +20,14 @@ export default function Dashboard() {
 
     const loadData = async () => {
         try {
-            const [instancesRes, tasksRes] = await Promise.all([
-                workflowApi.getAllInstances(),
-                taskApi.getAllTasks(),
+            const [statsRes, instancesRes, tasksRes] = await Promise.all([
+                statsApi.getStats(),
+                workflowApi.getRecentInstances(5),
+                taskApi.getPendingTasks(5),
             ]);
+            setStats(statsRes.data);
             setInstances(instancesRes.data);
-            setTasks(tasksRes.data);
+            setPendingTasks(tasksRes.data);
         } catch (error) {
             console.error('Error loading dashboard data:', error);
         } finally {
@@ -35,8 +43,9 @@ export default function Dashboard() {
         );
     }
 
-    const activeInstances = instances.filter(i => i.status === 'IN_PROGRESS' || i.status === 'STARTED');
-    const pendingTasks = tasks.filter(t => t.status === 'CREATED' || t.status === 'ASSIGNED');
+    const totalInstances = sum(stats.instancesByStatus);
+    const activeInstances = sum(stats.instancesByStatus, ['IN_PROGRESS', 'STARTED']);
+    const pendingTaskCount = sum(stats.tasksByStatus, ['CREATED', 'ASSIGNED']);
 
     return (
         <div className="max-w-7xl mx-auto px-4 sm:px-6 lg:px-8 py-8">
@@ -46,15 +55,15 @@ export default function Dashboard() {
             <div className="grid grid-cols-1 md:grid-cols-3 gap-6 mb-8">
                 <div className="bg-slate-800 rounded-lg p-6 border border-slate-700">
                     <div className="text-gray-400 text-sm font-medium">Total Instances</div>
-                    <div className="text-3xl font-bold text-white mt-2" data-testid="total-instances">{instances.length}</div>
+                    <div className="text-3xl font-bold text-white mt-2" data-testid="total-instances">{totalInstances}</div>
                 </div>
                 <div className="bg-slate-800 rounded-lg p-6 border border-slate-700">
                     <div className="text-gray-400 text-sm font-medium">Active Instances</div>
-                    <div className="text-3xl font-bold text-primary-400 mt-2" data-testid="active-instances">{activeInstances.length}</div>
+                    <div className="text-3xl font-bold text-primary-400 mt-2" data-testid="active-instances">{activeInstances}</div>
                 </div>
                 <div className="bg-slate-800 rounded-lg p-6 border border-slate-700">
                     <div className="text-gray-400 text-sm font-medium">Pending Tasks</div>
-                    <div className="text-3xl font-bold text-yellow-400 mt-2" data-testid="pending-tasks">{pendingTasks.length}</div>
+                    <div className="text-3xl font-bold text-yellow-400 mt-2" data-testid="pending-tasks">{pendingTaskCount}</div>
                 </div>
             </div>
 
@@ -67,7 +76,7 @@ export default function Dashboard() {
                     </Link>
                 </div>
                 <div className="p-6">
-                    {instances.slice(0, 5).map((instance) => (
+                    {instances.map((instance) => (
                         <div key={instance.id} className="flex items-center justify-between py-3 border-b border-slate-700 last:border-0" data-testid={`instance-item-${instance.id}`}>
                             <div>
                                 <div className="text-white font-medium">{instance.workflowName}</div>
@@ -101,7 +110,7 @@ export default function Dashboard() {
                     </Link>
                 </div>
                 <div className="p-6">
-                    {pendingTasks.slice(0, 5).map((task) => (
+                    {pendingTasks.map((task) => (
                         <div key={task.id} className="flex items-center justify-between py-3 border-b border-slate-700 last:border-0" data-testid={`task-item-${task.id}`}>
                             <div>
                                 <div className="text-white font-medium">{task.name}</div>
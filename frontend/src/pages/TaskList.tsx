@@ -1,21 +1,28 @@
 import { useEffect, useState } from 'react';
 import { Link } from 'react-router-dom';
 import { taskApi } from '../api/client';
-import { Task } from '../types';
+import { Task, TaskSearchResult } from '../types';
 
 export default function TaskList() {
     const [tasks, setTasks] = useState<Task[]>([]);
     const [loading, setLoading] = useState(true);
     const [assignee, setAssignee] = useState('');
+    const [query, setQuery] = useState('');
+    const [searchTerm, setSearchTerm] = useState('');
+    const [nextCursor, setNextCursor] = useState<string | undefined>();
 
     useEffect(() => {
         loadTasks();
     }, []);
 
     const loadTasks = async () => {
+        if (searchTerm) {
+            return searchTasks(searchTerm);
+        }
         try {
             const response = await taskApi.getAllTasks();
             setTasks(response.data);
+            setNextCursor(undefined);
         } catch (error) {
             console.error('Error loading tasks:', error);
         } finally {
@@ -23,14 +30,41 @@ export default function TaskList() {
         }
     };
 
-    const handleAssign = async (taskId: string) => {
+    const searchTasks = async (q: string, cursor?: string) => {
+        try {
+            const response = await taskApi.searchTasks({ q, cursor });
+            const result: TaskSearchResult = response.data;
+            setTasks(cursor ? [...tasks, ...result.tasks] : result.tasks);
+            setNextCursor(result.nextCursor);
+        } catch (error) {
+            console.error('Error searching tasks:', error);
+        } finally {
+            setLoading(false);
+        }
+    };
+
+    const handleSearch = (e: React.FormEvent) => {
+        e.preventDefault();
+        const q = query.trim();
+        setSearchTerm(q);
+        if (q) {
+            searchTasks(q);
+        } else {
+            taskApi.getAllTasks().then((response) => {
+                setTasks(response.data);
+                setNextCursor(undefined);
+            });
+        }
+    };
+
+    const handleAssign = async (task: Task) => {
         if (!assignee.trim()) {
             alert('Please enter an assignee name');
             return;
         }
 
         try {
-            await taskApi.assignTask(taskId, assignee);
+            await taskApi.assignTask(task.id, assignee, task.workflowInstanceId);
             loadTasks();
             setAssignee('');
         } catch (error) {
@@ -39,12 +73,12 @@ export default function TaskList() {
         }
     };
 
-    const handleComplete = async (taskId: string) => {
+    const handleComplete = async (task: Task) => {
         const completedBy = prompt('Enter your name:');
         if (!completedBy) return;
 
         try {
-            await taskApi.completeTask(taskId, { completedBy });
+            await taskApi.completeTask(task.id, { completedBy }, task.workflowInstanceId);
             loadTasks();
         } catch (error) {
             console.error('Error completing task:', error);
@@ -62,7 +96,24 @@ export default function TaskList() {
 
     return (
         <div className="max-w-7xl mx-auto px-4 sm:px-6 lg:px-8 py-8">
-            <h1 className="text-3xl font-bold text-white mb-8">Tasks</h1>
+            <div className="flex items-center justify-between mb-8">
+                <h1 className="text-3xl font-bold text-white">Tasks</h1>
+                <form onSubmit={handleSearch} className="flex items-center space-x-2">
+                    <input
+                        type="text"
+                        value={query}
+                        onChange={(e) => setQuery(e.target.value)}
+                        placeholder="Search tasks"
+                        className="bg-slate-700 border border-slate-600 rounded px-3 py-2 text-white text-sm focus:outline-none focus:border-primary-500"
+                    />
+                    <button
+                        type="submit"
+                        className="bg-primary-600 hover:bg-primary-700 text-white px-4 py-2 rounded text-sm transition-colors"
+                    >
+                        Search
+                    </button>
+                </form>
+            </div>
 
             <div className="bg-slate-800 rounded-lg border border-slate-700">
                 <div className="overflow-x-auto">
@@ -119,7 +170,7 @@ export default function TaskList() {
                                                         className="bg-slate-600 border border-slate-500 rounded px-2 py-1 text-white text-sm focus:outline-none focus:border-primary-500"
                                                     />
                                                     <button
-                                                        onClick={() => handleAssign(task.id)}
+                                                        onClick={() => handleAssign(task)}
                                                         className="bg-primary-600 hover:bg-primary-700 text-white px-3 py-1 rounded text-sm transition-colors"
                                                     >
                                                         Assign
@@ -128,7 +179,7 @@ export default function TaskList() {
                                             )}
                                             {task.status === 'ASSIGNED' && (
                                                 <button
-                                                    onClick={() => handleComplete(task.id)}
+                                                    onClick={() => handleComplete(task)}
                                                     className="bg-green-600 hover:bg-green-700 text-white px-3 py-1 rounded text-sm transition-colors"
                                                 >
                                                     Complete
@@ -151,6 +202,17 @@ export default function TaskList() {
                 {tasks.length === 0 && (
                     <div className="text-center text-gray-400 py-12">No tasks found</div>
                 )}
+
+                {nextCursor && (
+                    <div className="text-center py-4">
+                        <button
+                            onClick={() => searchTasks(searchTerm, nextCursor)}
+                            className="text-primary-400 hover:text-primary-300 text-sm"
+                        >
+                            Load more
+                        </button>
+                    </div>
+                )}
             </div>
         </div>
     );
@@ -32,6 +32,7 @@ export interface WorkflowInstance {
 export interface Task {
     id: string;
     workflowInstanceId: string;
+    workflowId?: string;
     stepId: string;
     name: string;
     description: string;
@@ -44,3 +45,41 @@ export interface Task {
     completedAt?: string;
     completedBy?: string;
 }
+
+export interface TaskSearchResult {
+    tasks: Task[];
+    nextCursor?: string;
+}
+
+export interface TaskSearchParams {
+    q: string;
+    status?: string[];
+    assignee?: string;
+    role?: string;
+    cursor?: string;
+    limit?: number;
+}
+
+export interface Stats {
+    workflowId?: string;
+    instancesByStatus: Record<string, number>;
+    tasksByStatus: Record<string, number>;
+}
+
+export interface DurationPercentiles {
+    count: number;
+    p50: number;
+    p90: number;
+    p99: number;
+}
+
+export interface StepDurationStats {
+    from: string;
+    to: string;
+    steps: {
+        workflowId: string;
+        stepId: string;
+        waitTime: DurationPercentiles;
+        workTime: DurationPercentiles;
+    }[];
+}